@@ -0,0 +1,88 @@
+package com.airline.mileage.config;
+
+import com.airline.mileage.support.AdaptiveConcurrencyLimit;
+import com.airline.mileage.support.AdmissionControlInterceptor;
+import com.airline.mileage.support.TokenBucketLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+/**
+ * 회원 API 요청 수락 제어 (admission.enabled=true)
+ * 변경(POST/PUT/DELETE)과 검색 API 앞에서 회원별/클라이언트별 요청 속도와 전체 동시 실행 수를 제한한다.
+ * 클라이언트는 접속 주소와 식별 헤더를 묶어 구분하고, 관리용 일괄 작업은 동시 실행 한도에서 뺀다.
+ * 한 파트너의 반복 호출이 커넥션 풀을 채워 다른 호출까지 느려지지 않도록, 넘치는 요청은 대기열 없이 429 로 돌려보낸다.
+ * 제한 상태는 키 수가 admission.max-keys 로 묶인 캐시에만 둔다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true")
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private static final Set<String> SEARCH_PATTERNS = Set.of(
+        "/api/members/search",
+        "/api/members/grade/{grade}",
+        "/api/members/mileage",
+        "/api/members/mileage/count");
+
+    // 오래 걸리는 관리용 일괄 작업 (동시 실행 한도와 지연 측정 제외)
+    private static final Set<String> BATCH_PATTERNS = Set.of(
+        "/api/members/import",
+        "/api/members/mileage/bulk",
+        "/api/members/archive",
+        "/api/members/mileage/expiry/sweep",
+        "/api/members/grades/reevaluate");
+
+    @Value("${admission.client-header:X-Client-Id}")
+    private String clientHeader;
+
+    @Value("${admission.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${admission.member.rate-per-second:10}")
+    private double memberRate;
+
+    @Value("${admission.member.burst:20}")
+    private int memberBurst;
+
+    @Value("${admission.client.rate-per-second:200}")
+    private double clientRate;
+
+    @Value("${admission.client.burst:400}")
+    private int clientBurst;
+
+    @Value("${admission.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${admission.concurrency.min-limit:4}")
+    private int minLimit;
+
+    @Value("${admission.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${admission.concurrency.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${admission.concurrency.window-ms:200}")
+    private long windowMillis;
+
+    @Bean
+    AdmissionControlInterceptor admissionControlInterceptor() {
+        return new AdmissionControlInterceptor(
+            new TokenBucketLimiter(memberRate, memberBurst, maxKeys),
+            new TokenBucketLimiter(clientRate, clientBurst, maxKeys),
+            new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance, windowMillis),
+            clientHeader,
+            SEARCH_PATTERNS,
+            BATCH_PATTERNS);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor()).addPathPatterns("/api/members/**");
+    }
+}
@@ -0,0 +1,71 @@
+package com.airline.mileage.config;
+
+import com.airline.mileage.entity.Member;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 회원 id 시퀀스(members_seq) 시작 값 맞춤
+ * 회원 id 는 IDENTITY 에서 pooled 시퀀스로 바뀌었으므로, 기존 DB 에서는 시퀀스가 이미 쓰인 id(보관된 회원 포함)보다 뒤에서
+ * 시작해야 한다. pooled 방식은 시퀀스 값 v 를 받으면 v - (allocationSize - 1) 부터 쓰므로
+ * 다음 값을 GREATEST(MAX(members.id), MAX(members_archive.id)) + allocationSize 이상으로 올린다 (내리지는 않음).
+ * 요청을 받기 전에 끝나도록 스키마 생성(EntityManagerFactory) 직후 초기화 단계에서 실행한다.
+ * MySQL 은 시퀀스가 없어 Hibernate 가 members_seq 테이블(next_val)로 대신한다.
+ */
+@Configuration
+public class MemberIdSequenceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberIdSequenceConfig.class);
+
+    private static final String MAX_ID_SQL =
+        "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM members), 0), " +
+        "COALESCE((SELECT MAX(id) FROM members_archive), 0))";
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤에 실행되도록 의존
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void advanceMemberIdSequence() throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        boolean tableSequence = product.toLowerCase().contains("mysql");
+        transactionTemplate.executeWithoutResult(status -> {
+            long required = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class) + Member.ID_BLOCK_SIZE;
+            if (tableSequence) {
+                int updated = jdbcTemplate.update("UPDATE members_seq SET next_val = ? WHERE next_val < ?",
+                    required, required);
+                if (updated > 0) {
+                    log.info("members_seq 다음 값을 {} 로 올림", required);
+                }
+                return;
+            }
+            Long next = jdbcTemplate.queryForObject(
+                "SELECT base_value FROM information_schema.sequences WHERE LOWER(sequence_name) = 'members_seq'",
+                Long.class);
+            if (next != null && next < required) {
+                jdbcTemplate.execute("ALTER SEQUENCE members_seq RESTART WITH " + required);
+                log.info("members_seq 다음 값을 {} 에서 {} 로 올림", next, required);
+            }
+        });
+    }
+}
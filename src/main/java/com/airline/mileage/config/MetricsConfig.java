@@ -0,0 +1,271 @@
+package com.airline.mileage.config;
+
+import com.airline.mileage.service.EmailExistenceFilter;
+import com.airline.mileage.service.IdempotencyService;
+import com.airline.mileage.service.MemberArchiveService;
+import com.airline.mileage.service.MemberCache;
+import com.airline.mileage.service.MemberResponseCache;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.service.MileageWriteBuffer;
+import com.airline.mileage.support.AdaptiveConcurrencyLimit;
+import com.airline.mileage.support.AdmissionControlInterceptor;
+import com.airline.mileage.support.ConnectionLimitingDataSource;
+import com.airline.mileage.support.ReplicaRouting;
+import com.airline.mileage.support.RequestMetricsFilter;
+import com.airline.mileage.support.ServiceTimingInterceptor;
+import com.airline.mileage.support.SqlMetricsJdbcTemplate;
+import com.airline.mileage.support.SqlMetricsNamedParameterJdbcTemplate;
+import com.airline.mileage.support.SqlMetricsSessionListener;
+import com.airline.mileage.support.SqlStatementMetrics;
+import com.airline.mileage.support.TokenBucketLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 설정 (/actuator/metrics, /actuator/prometheus)
+ * - service.calls: 서비스(@Service) public 메서드별 호출 시간
+ * - jdbc.statements, http.server.requests.sql.*: Hibernate JDBC 이벤트와 JdbcTemplate 에서 잰 SQL 문장 수/시간 (전체, 요청별)
+ * - mileage.*: 적립/사용 합계와 건수, 잔액 부족 거절, 멱등 키 재응답 (MileageMetrics)
+ * - 회원 캐시, 이메일 필터, write-behind 대기열, 멱등 키, 커넥션 획득 제한 게이지, 보관한 탈퇴 회원 수
+ * - datasource.replica.*: 복제본별 상태와 읽기 커넥션 수, primary 로 보낸 읽기 (복제본 라우팅 사용 시)
+ * - 느린 요청 로그: metrics.slow-request.threshold-ms 이상 걸린 요청과 실행한 SQL
+ * HTTP 엔드포인트별 지연(http.server.requests), Hikari 풀(hikaricp.*), 리포지토리 호출(spring.data.repository.invocations)은
+ * Spring Boot 가 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String SERVICE_PACKAGE = MemberService.class.getPackageName();
+
+    /**
+     * JPA 문장: StatementInspector 로 SQL 을 받고, 세션마다 만드는 리스너의 JDBC 실행 이벤트로 시간을 잰다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "metrics.sql.enabled", havingValue = "true", matchIfMissing = true)
+    HibernatePropertiesCustomizer sqlMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) SqlStatementMetrics::prepared);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlMetricsSessionListener.class.getName());
+        };
+    }
+
+    /**
+     * JdbcTemplate 문장: Boot 기본 JdbcTemplate/NamedParameterJdbcTemplate 대신 시간을 재는 하위 클래스를 등록한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "metrics.sql.enabled", havingValue = "true", matchIfMissing = true)
+    JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties,
+            ObjectProvider<SQLExceptionTranslator> exceptionTranslator) {
+        JdbcTemplate jdbcTemplate = new SqlMetricsJdbcTemplate(dataSource);
+        JdbcProperties.Template template = properties.getTemplate();
+        jdbcTemplate.setIgnoreWarnings(template.isIgnoreWarnings());
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        jdbcTemplate.setSkipResultsProcessing(template.isSkipResultsProcessing());
+        jdbcTemplate.setSkipUndeclaredResults(template.isSkipUndeclaredResults());
+        jdbcTemplate.setResultsMapCaseInsensitive(template.isResultsMapCaseInsensitive());
+        exceptionTranslator.ifUnique(jdbcTemplate::setExceptionTranslator);
+        return jdbcTemplate;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "metrics.sql.enabled", havingValue = "true", matchIfMissing = true)
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        return new SqlMetricsNamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 서비스 패키지의 @Service 빈 public 메서드 호출 시간 (트랜잭션 커밋까지 포함하도록 가장 바깥에서 잰다)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = "metrics.service-timing.enabled", havingValue = "true", matchIfMissing = true)
+    static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(type -> type.getPackageName().equals(SERVICE_PACKAGE)
+            && AnnotatedElementUtils.hasAnnotation(type, Service.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new ServiceTimingInterceptor(registry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry registry,
+            @Value("${metrics.slow-request.threshold-ms:500}") long slowThresholdMillis,
+            @Value("${metrics.slow-request.max-queries:10}") int maxLoggedQueries) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+            new RequestMetricsFilter(registry, slowThresholdMillis, maxLoggedQueries));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    MeterBinder mileageComponentMetrics(MemberCache memberCache, EmailExistenceFilter emailFilter,
+            MileageWriteBuffer writeBuffer, IdempotencyService idempotencyService,
+            MemberArchiveService archiveService, MemberResponseCache responseCache, DataSource dataSource,
+            ObjectProvider<ReplicaRouting> replicaRouting,
+            ObjectProvider<AdmissionControlInterceptor> admissionControl,
+            @Value("${metrics.sql.enabled:true}") boolean sqlMetricsEnabled) {
+        return registry -> {
+            bindMemberCache(registry, memberCache);
+            bindEmailFilter(registry, emailFilter);
+            bindWriteBuffer(registry, writeBuffer);
+            Gauge.builder("mileage.idempotency.keys", idempotencyService, IdempotencyService::size)
+                .description("메모리에 보관 중인 멱등 키 수").register(registry);
+            FunctionCounter.builder("member.archive.rows", archiveService, MemberArchiveService::getArchivedRows)
+                .description("members_archive 로 옮긴 탈퇴 회원 수").register(registry);
+            bindResponseCache(registry, responseCache);
+
+            if (sqlMetricsEnabled) {
+                FunctionTimer.builder("jdbc.statements", SqlStatementMetrics.INSTANCE,
+                        SqlStatementMetrics::getStatementCount, SqlStatementMetrics::getStatementNanos,
+                        TimeUnit.NANOSECONDS)
+                    .description("실행한 SQL 문장 수와 시간")
+                    .register(registry);
+            }
+            ConnectionLimitingDataSource limiter = unwrap(dataSource, ConnectionLimitingDataSource.class);
+            if (limiter != null) {
+                Gauge.builder("datasource.connection-limit.active", limiter,
+                    ConnectionLimitingDataSource::getActiveConnections).register(registry);
+                Gauge.builder("datasource.connection-limit.waiting", limiter,
+                    ConnectionLimitingDataSource::getWaitingThreads).register(registry);
+                Gauge.builder("datasource.connection-limit.max", limiter,
+                    ConnectionLimitingDataSource::getMaxPermits).register(registry);
+                FunctionCounter.builder("datasource.connection-limit.timeouts", limiter,
+                    ConnectionLimitingDataSource::getTimeoutCount).register(registry);
+            }
+            replicaRouting.ifAvailable(routing -> bindReplicaRouting(registry, routing));
+            admissionControl.ifAvailable(admission -> bindAdmissionControl(registry, admission));
+        };
+    }
+
+    private static void bindResponseCache(MeterRegistry registry, MemberResponseCache cache) {
+        Gauge.builder("member.response-cache.size", cache, MemberResponseCache::getSizeBytes)
+            .baseUnit("bytes").description("직렬화해 둔 회원 응답 크기").register(registry);
+        FunctionCounter.builder("member.response-cache.gets", cache, MemberResponseCache::getHitCount)
+            .tag("result", "hit").register(registry);
+        FunctionCounter.builder("member.response-cache.gets", cache, MemberResponseCache::getMissCount)
+            .tag("result", "miss").register(registry);
+    }
+
+    private static void bindAdmissionControl(MeterRegistry registry, AdmissionControlInterceptor admission) {
+        AdaptiveConcurrencyLimit limit = admission.getConcurrencyLimit();
+        Gauge.builder("admission.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+            .description("DB 지연에 맞춰 조정된 동시 실행 한도").register(registry);
+        Gauge.builder("admission.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+            .register(registry);
+        Gauge.builder("admission.concurrency.baseline", limit, AdaptiveConcurrencyLimit::getBaselineMillis)
+            .baseUnit("milliseconds").register(registry);
+        FunctionCounter.builder("admission.rejected", limit, AdaptiveConcurrencyLimit::getRejectedCount)
+            .tag("reason", "concurrency").register(registry);
+        FunctionCounter.builder("admission.rejected", admission.getMemberLimiter(), TokenBucketLimiter::getRejectedCount)
+            .tag("reason", "member").register(registry);
+        FunctionCounter.builder("admission.rejected", admission.getClientLimiter(), TokenBucketLimiter::getRejectedCount)
+            .tag("reason", "client").register(registry);
+        Gauge.builder("admission.rate-limit.keys", admission.getMemberLimiter(), TokenBucketLimiter::getTrackedKeys)
+            .tag("scope", "member").register(registry);
+        Gauge.builder("admission.rate-limit.keys", admission.getClientLimiter(), TokenBucketLimiter::getTrackedKeys)
+            .tag("scope", "client").register(registry);
+    }
+
+    private static void bindMemberCache(MeterRegistry registry, MemberCache cache) {
+        Gauge.builder("member.cache.size", cache, c -> c.getStats().getSize())
+            .description("캐시된 회원 수").register(registry);
+        FunctionCounter.builder("member.cache.gets", cache, c -> c.getStats().getHitCount())
+            .tag("result", "hit").register(registry);
+        FunctionCounter.builder("member.cache.gets", cache, c -> c.getStats().getMissCount())
+            .tag("result", "miss").register(registry);
+        FunctionCounter.builder("member.cache.evictions", cache, c -> c.getStats().getEvictionCount())
+            .register(registry);
+        FunctionTimer.builder("member.cache.loads", cache,
+                c -> c.getStats().getLoadCount(),
+                c -> c.getStats().getAverageLoadMillis() * c.getStats().getLoadCount(),
+                TimeUnit.MILLISECONDS)
+            .register(registry);
+    }
+
+    private static void bindEmailFilter(MeterRegistry registry, EmailExistenceFilter filter) {
+        Gauge.builder("member.email-filter.insertions", filter, f -> f.getStats().getInsertions())
+            .register(registry);
+        Gauge.builder("member.email-filter.false-positive-rate", filter,
+                f -> f.getStats().getExpectedFalsePositiveRate())
+            .tag("kind", "expected").register(registry);
+        Gauge.builder("member.email-filter.false-positive-rate", filter,
+                f -> f.getStats().getObservedFalsePositiveRate())
+            .tag("kind", "observed").register(registry);
+        FunctionCounter.builder("member.email-filter.checks", filter, f -> f.getStats().getDefiniteMisses())
+            .tag("result", "definite_miss").register(registry);
+        FunctionCounter.builder("member.email-filter.checks", filter, f -> f.getStats().getDatabaseChecks())
+            .tag("result", "database").register(registry);
+    }
+
+    private static void bindWriteBuffer(MeterRegistry registry, MileageWriteBuffer buffer) {
+        Gauge.builder("mileage.write-behind.pending.credits", buffer, b -> b.getStats().getPendingCredits())
+            .register(registry);
+        Gauge.builder("mileage.write-behind.pending.members", buffer, b -> b.getStats().getPendingMembers())
+            .register(registry);
+        Gauge.builder("mileage.write-behind.flush.lag", buffer, b -> b.getStats().getFlushLagMillis())
+            .baseUnit("milliseconds").register(registry);
+        FunctionCounter.builder("mileage.write-behind.flushed.credits", buffer, b -> b.getStats().getFlushedCredits())
+            .register(registry);
+    }
+
+    private static void bindReplicaRouting(MeterRegistry registry, ReplicaRouting routing) {
+        for (ReplicaRouting.Replica replica : routing.getReplicas()) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .tag("replica", replica.getName()).register(registry);
+            FunctionCounter.builder("datasource.replica.reads", replica, ReplicaRouting.Replica::getConnections)
+                .tag("target", replica.getName()).register(registry);
+        }
+        FunctionCounter.builder("datasource.replica.reads", routing, ReplicaRouting::getPrimaryReads)
+            .tag("target", "primary")
+            .description("read-only 트랜잭션이 얻은 커넥션 수 (primary 는 고정 구간이거나 정상 복제본이 없을 때)")
+            .register(registry);
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
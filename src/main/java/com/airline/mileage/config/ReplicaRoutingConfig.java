@@ -0,0 +1,142 @@
+package com.airline.mileage.config;
+
+import com.airline.mileage.service.ReadYourWritesTracker;
+import com.airline.mileage.support.ReplicaRouting;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅
+ * datasource.replica.enabled=true 이면 spring.datasource.* 를 primary 풀로, datasource.replica.urls 의 각 주소를
+ * 읽기 전용 복제본 풀로 만들고, @Transactional(readOnly = true) 트랜잭션은 복제본에서 실행한다 (ReplicaRouting).
+ * 풀 설정은 spring.datasource.hikari.* 를 함께 쓰고, 복제본 계정을 따로 주지 않으면 primary 계정을 쓴다.
+ * 최근 변경된 회원({id} 경로)의 요청은 read-your-writes 구간 동안 primary 에서 읽는다.
+ * 복제본 풀은 빈으로 등록하지 않으므로 SQL 메트릭/커넥션 제한은 애플리케이션 DataSource 에서 한 번만 감싼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingConfig.class);
+    private static final String MEMBER_ID_VARIABLE = "id";
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Bean(destroyMethod = "close")
+    ReplicaRouting replicaRouting(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        List<String> urls = binder.bind("datasource.replica.urls", Bindable.listOf(String.class)).orElse(List.of());
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.enabled=true 이면 datasource.replica.urls 가 필요합니다");
+        }
+        String username = environment.getProperty("datasource.replica.username", properties.determineUsername());
+        String password = environment.getProperty("datasource.replica.password", properties.determinePassword());
+        long connectionTimeoutMillis = environment.getProperty("datasource.replica.connection-timeout-ms", Long.class,
+            1_000L);
+
+        HikariConfig primaryConfig = poolConfig(binder, properties, "primary");
+        primaryConfig.setJdbcUrl(properties.determineUrl());
+        primaryConfig.setUsername(properties.determineUsername());
+        primaryConfig.setPassword(properties.determinePassword());
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + i;
+            HikariConfig config = poolConfig(binder, properties, name);
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setReadOnly(true);
+            config.setConnectionTimeout(connectionTimeoutMillis);
+            // 복제본이 내려가 있어도 기동은 하고, 상태 검사가 회복을 감지하면 읽기에 다시 쓴다
+            config.setInitializationFailTimeout(-1);
+            replicas.put(name, new HikariDataSource(config));
+        }
+        log.info("읽기 복제본 라우팅 사용: 복제본 {}개", replicas.size());
+        return new ReplicaRouting(new HikariDataSource(primaryConfig), replicas,
+            environment.getProperty("datasource.replica.health-check-interval-ms", Long.class, 5_000L),
+            environment.getProperty("datasource.replica.validation-timeout-seconds", Integer.class, 1));
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRouting replicaRouting) {
+        return replicaRouting.getDataSource();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor()).addPathPatterns("/api/members/**");
+    }
+
+    private static HikariConfig poolConfig(Binder binder, DataSourceProperties properties, String name) {
+        HikariConfig config = new HikariConfig();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setPoolName("HikariPool-" + name);
+        return config;
+    }
+
+    /**
+     * 최근 변경된 회원의 요청은 끝날 때까지 primary 에서 읽음
+     */
+    private final class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+        private static final String PINNED = ReadYourWritesInterceptor.class.getName() + ".pinned";
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (!ReplicaRouting.isPrimaryOnly() && readYourWritesTracker.isRecentlyWritten(memberId(request))) {
+                request.setAttribute(PINNED, Boolean.TRUE);
+                ReplicaRouting.setPrimaryOnly(true);
+            }
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                    Exception ex) {
+            if (request.getAttribute(PINNED) != null) {
+                ReplicaRouting.setPrimaryOnly(false);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Long memberId(HttpServletRequest request) {
+            Map<String, String> variables = (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            String id = variables == null ? null : variables.get(MEMBER_ID_VARIABLE);
+            if (id == null) {
+                return null;
+            }
+            try {
+                return Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
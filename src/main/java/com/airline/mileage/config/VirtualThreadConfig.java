@@ -0,0 +1,64 @@
+package com.airline.mileage.config;
+
+import com.airline.mileage.support.ConnectionLimitingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 요청 처리 모드
+ * spring.threads.virtual.enabled=true 이면 (JDK 21 이상에서) Tomcat 요청 처리와 그 안의 서비스 호출,
+ * 스케줄 작업이 가상 스레드에서 실행된다. 요청 수만큼 늘어나는 스레드가 커넥션 풀에 한꺼번에 몰리지 않도록
+ * datasource.connection-limit.enabled (기본값은 가상 스레드 사용 여부) 이면 DataSource 를 커넥션 획득 세마포어로 감싼다.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    private static final int VIRTUAL_THREAD_JDK = 21;
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.connection-limit.enabled", havingValue = "true")
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        int permits = environment.getProperty("datasource.connection-limit.permits", Integer.class,
+            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long timeoutMillis = environment.getProperty("datasource.connection-limit.acquire-timeout-ms", Long.class,
+            30_000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    log.info("커넥션 획득 제한 사용: {} - 동시 {}개, 대기 제한 {}ms", beanName, permits, timeoutMillis);
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 가상 스레드를 켰지만 JDK 21 미만에서 실행 중이면 Spring Boot 가 설정을 무시하므로 경고
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkRuntime(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (!environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            return;
+        }
+        int feature = Runtime.version().feature();
+        if (feature < VIRTUAL_THREAD_JDK) {
+            log.warn("spring.threads.virtual.enabled=true 이지만 JDK {} 에서 실행 중이라 플랫폼 스레드로 처리합니다 "
+                + "(JDK {} 이상 필요)", feature, VIRTUAL_THREAD_JDK);
+        } else {
+            log.info("가상 스레드 요청 처리 모드 (JDK {})", feature);
+        }
+    }
+}
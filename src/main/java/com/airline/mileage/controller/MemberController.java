@@ -1,9 +1,14 @@
 package com.airline.mileage.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -16,15 +21,56 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageBatchTransferRequestDto;
 import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.request.MileageTransferRequestDto;
+import com.airline.mileage.dto.response.BulkAccrualResponseDto;
+import com.airline.mileage.dto.response.CursorPageResponseDto;
+import com.airline.mileage.dto.response.EmailFilterStatsResponseDto;
+import com.airline.mileage.dto.response.GradeReevaluationStatusResponseDto;
+import com.airline.mileage.dto.response.LeaderboardEntryResponseDto;
+import com.airline.mileage.dto.response.MemberArchiveRunResponseDto;
+import com.airline.mileage.dto.response.MemberCacheStatsResponseDto;
+import com.airline.mileage.dto.response.MemberImportResponseDto;
+import com.airline.mileage.dto.response.MemberRankResponseDto;
 import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.dto.response.MileageExpirySweepResponseDto;
+import com.airline.mileage.dto.response.MileageLotResponseDto;
+import com.airline.mileage.dto.response.MileageRangeCountResponseDto;
+import com.airline.mileage.dto.response.MileageTransactionResponseDto;
+import com.airline.mileage.dto.response.MileageTransferResponseDto;
+import com.airline.mileage.dto.response.PageResponseDto;
+import com.airline.mileage.dto.response.WriteBufferStatsResponseDto;
 import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.service.BulkMileageAccrualService;
+import com.airline.mileage.service.EmailExistenceFilter;
+import com.airline.mileage.service.GradeReevaluationService;
+import com.airline.mileage.service.MemberArchiveService;
+import com.airline.mileage.service.IdempotencyService;
+import com.airline.mileage.service.LeaderboardService;
+import com.airline.mileage.service.MemberCache;
+import com.airline.mileage.service.MemberImportService;
+import com.airline.mileage.service.MemberResponseCache;
 import com.airline.mileage.service.MemberService;
+import com.airline.mileage.service.MileageExpiryService;
+import com.airline.mileage.service.MileageLedgerService;
+import com.airline.mileage.service.MileageLotService;
+import com.airline.mileage.service.MileageTransferService;
+import com.airline.mileage.service.MileageWriteBuffer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @Controller
@@ -32,9 +78,59 @@ import jakarta.validation.Valid;
 @CrossOrigin(origins = "*") 
 public class MemberController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int MAX_LEADERBOARD_LIMIT = 100;
+    private static final int MAX_LEADERBOARD_RADIUS = 50;
+    
     @Autowired
     private MemberService memberService;
     
+    @Autowired
+    private LeaderboardService leaderboardService;
+    
+    @Autowired
+    private MileageLedgerService ledgerService;
+    
+    @Autowired
+    private MileageLotService lotService;
+    
+    @Autowired
+    private MileageExpiryService expiryService;
+    
+    @Autowired
+    private MemberArchiveService archiveService;
+    
+    @Autowired
+    private BulkMileageAccrualService bulkAccrualService;
+    
+    @Autowired
+    private MemberImportService memberImportService;
+    
+    @Autowired
+    private IdempotencyService idempotencyService;
+    
+    @Autowired
+    private MileageWriteBuffer writeBuffer;
+    
+    @Autowired
+    private MemberCache memberCache;
+    
+    @Autowired
+    private EmailExistenceFilter emailFilter;
+    
+    @Autowired
+    private GradeReevaluationService gradeReevaluationService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MemberResponseCache memberResponseCache;
+    
+    @Autowired
+    private MileageTransferService transferService;
+    
     /**
      * API 테스트용 엔드포인트
      */
@@ -47,9 +143,11 @@ public class MemberController {
      * 회원 목록 페이지
      */
     @GetMapping("/view/list")
-    public String memberListPage(Model model) {
-        List<MemberResponseDto> members = memberService.getAllMembers();
-        model.addAttribute("members", members);
+    public String memberListPage(@RequestParam(required = false) Long cursor, Model model) {
+        CursorPageResponseDto<MemberResponseDto> page =
+            memberService.getMembers(cursor, MemberService.DEFAULT_PAGE_SIZE);
+        model.addAttribute("members", page.getContent());
+        model.addAttribute("nextCursor", page.getNextCursor());
         return "member/list";
     }
     
@@ -109,22 +207,56 @@ public class MemberController {
     }
     
     /**
-     * 전체 회원 조회
+     * 대량 회원 가입 (CSV: email,password,name,phone)
+     * 거절된 행은 사유와 함께 결과의 rejectedFile 에 남긴다
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<MemberImportResponseDto> importMembers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(memberImportService.importCsv(request.getInputStream()));
+    }
+    
+    /**
+     * 회원 목록 조회 (커서 기반 페이지)
      */
     @GetMapping
-    public ResponseEntity<List<MemberResponseDto>> getAllMembers() {
-        List<MemberResponseDto> members = memberService.getAllMembers();
-        return ResponseEntity.ok(members);
+    public ResponseEntity<CursorPageResponseDto<MemberResponseDto>> getMembers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponseDto<MemberResponseDto> page = memberService.getMembers(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * 전체 회원 스트리밍 조회 (NDJSON, 한 줄에 회원 한 명)
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public void streamMembers(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        
+        // 행마다 flush 하지 않고 generator 버퍼가 찰 때 내보냄
+        ObjectWriter writer = objectMapper.writerFor(MemberResponseDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            memberService.streamAllMembers(member -> {
+                try {
+                    writer.writeValue(generator, member);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
     
     /**
      * 회원 상세 조회 (ID)
+     * 직렬화해 둔 JSON 을 ETag 와 함께 그대로 내보내고, If-None-Match 가 같으면 본문 없이 304
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MemberResponseDto> getMember(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getMember(@PathVariable Long id) {
         try {
-            MemberResponseDto member = memberService.getMember(id);
-            return ResponseEntity.ok(member);
+            return encodedMember(memberResponseCache.getById(id));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -134,15 +266,24 @@ public class MemberController {
      * 회원 조회 (이메일)
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<MemberResponseDto> getMemberByEmail(@PathVariable String email) {
+    public ResponseEntity<byte[]> getMemberByEmail(@PathVariable String email) {
         try {
-            MemberResponseDto member = memberService.getMemberByEmail(email);
-            return ResponseEntity.ok(member);
+            return encodedMember(memberResponseCache.getByEmail(email));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
     
+    /**
+     * ETag 를 단 JSON 응답 (If-None-Match 비교와 304 응답은 ResponseEntity 처리기가 함)
+     */
+    private ResponseEntity<byte[]> encodedMember(MemberResponseCache.EncodedMember member) {
+        return ResponseEntity.ok()
+            .eTag(member.etag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(member.json());
+    }
+    
     /**
      * 회원 정보 수정
      */
@@ -171,33 +312,210 @@ public class MemberController {
         }
     }
     
+    /**
+     * 탈퇴 회원 복구 (보관된 회원 포함)
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<MemberResponseDto> restoreMember(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(memberService.restoreMember(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
     /**
      * 마일리지 적립
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 적립하지 않고 처음 응답을 돌려준다
+     * (다른 본문으로 재사용하면 422, 처리 중인 키를 기다리다 시간이 지나면 409)
      */
     @PostMapping("/{id}/mileage/add")
     public ResponseEntity<MemberResponseDto> addMileage(
             @PathVariable Long id, 
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody MileageRequestDto requestDto) {
         try {
-            MemberResponseDto updatedMember = memberService.addMileage(id, requestDto);
+            MemberResponseDto updatedMember = idempotencyService.execute(idempotencyKey, id, "add", requestDto,
+                () -> memberService.addMileage(id, requestDto));
             return ResponseEntity.ok(updatedMember);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (IdempotencyService.KeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
     
     /**
-     * 마일리지 사용
+     * 마일리지 사용 (Idempotency-Key 처리는 적립과 같음)
      */
     @PostMapping("/{id}/mileage/use")
     public ResponseEntity<MemberResponseDto> useMileage(
             @PathVariable Long id, 
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody MileageRequestDto requestDto) {
         try {
-            MemberResponseDto updatedMember = memberService.useMileage(id, requestDto);
+            MemberResponseDto updatedMember = idempotencyService.execute(idempotencyKey, id, "use", requestDto,
+                () -> memberService.useMileage(id, requestDto));
             return ResponseEntity.ok(updatedMember);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (IdempotencyService.KeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * 마일리지 양도 (보내는 회원 차감과 받는 회원 적립을 한 트랜잭션으로)
+     */
+    @PostMapping("/{id}/mileage/transfer")
+    public ResponseEntity<MileageTransferResponseDto> transferMileage(
+            @PathVariable Long id,
+            @Valid @RequestBody MileageTransferRequestDto requestDto) {
+        try {
+            return ResponseEntity.ok(transferService.transfer(id, requestDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 일괄 마일리지 양도 (한 회원이 여러 회원에게, 전부 반영되거나 전부 취소)
+     */
+    @PostMapping("/{id}/mileage/transfer/batch")
+    public ResponseEntity<MileageTransferResponseDto> transferMileageBatch(
+            @PathVariable Long id,
+            @Valid @RequestBody MileageBatchTransferRequestDto requestDto) {
+        try {
+            return ResponseEntity.ok(transferService.transferAll(id, requestDto.getTransfers()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 대량 마일리지 적립 (CSV: memberId,mileage,reason / NDJSON)
+     * 같은 jobId 로 다시 요청하면 마지막으로 커밋된 청크 이후부터 처리
+     */
+    @PostMapping(value = "/mileage/bulk", consumes = {"text/csv", NDJSON})
+    public ResponseEntity<BulkAccrualResponseDto> bulkAddMileage(
+            @RequestParam(required = false) String jobId,
+            HttpServletRequest request) throws IOException {
+        BulkMileageAccrualService.Format format = request.getContentType().startsWith(NDJSON)
+            ? BulkMileageAccrualService.Format.NDJSON
+            : BulkMileageAccrualService.Format.CSV;
+        try {
+            BulkAccrualResponseDto result = bulkAccrualService.accrue(jobId, format, request.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * 마일리지 write-behind 버퍼 상태 (대기 건수, 반영 지연)
+     */
+    @GetMapping("/mileage/write-behind/stats")
+    public ResponseEntity<WriteBufferStatsResponseDto> getWriteBufferStats() {
+        return ResponseEntity.ok(writeBuffer.getStats());
+    }
+    
+    /**
+     * 마일리지 변경 이력 조회 (최신순, 커서 기반)
+     */
+    @GetMapping("/{id}/mileage/history")
+    public ResponseEntity<CursorPageResponseDto<MileageTransactionResponseDto>> getMileageHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(ledgerService.getHistory(id, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 회원의 남은 적립 lot (소멸일 순, 사용 시 먼저 차감되는 순서)
+     */
+    @GetMapping("/{id}/mileage/lots")
+    public ResponseEntity<List<MileageLotResponseDto>> getMileageLots(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(lotService.getOpenLots(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 오늘까지 만료된 마일리지 소멸 (매일 자동 실행, 수동 실행용)
+     */
+    @PostMapping("/mileage/expiry/sweep")
+    public ResponseEntity<MileageExpirySweepResponseDto> sweepExpiredMileage() {
+        try {
+            return ResponseEntity.ok(expiryService.sweep(LocalDate.now()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * 보관 기간이 지난 탈퇴 회원 보관 (매일 자동 실행, 수동 실행용)
+     * retentionDays 는 설정된 보관 기간보다 길게만 지정할 수 있음
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<MemberArchiveRunResponseDto> archiveDeletedMembers(
+            @RequestParam(required = false) Integer retentionDays) {
+        try {
+            return ResponseEntity.ok(archiveService.archiveOlderThan(retentionDays));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * 전체 회원 등급 재평가 시작 (백그라운드)
+     */
+    @PostMapping("/grades/reevaluate")
+    public ResponseEntity<GradeReevaluationStatusResponseDto> startGradeReevaluation() {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(gradeReevaluationService.start());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    
+    /**
+     * 등급 재평가 진행 상태 (진행률, 처리 속도)
+     */
+    @GetMapping("/grades/reevaluate/status")
+    public ResponseEntity<GradeReevaluationStatusResponseDto> getGradeReevaluationStatus() {
+        try {
+            return ResponseEntity.ok(gradeReevaluationService.getStatus());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 이름 검색 (한글 음절/초성, 영문 부분 일치, 순위순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDto<MemberResponseDto>> searchMembersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(memberService.searchMembersByName(name, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
     
@@ -211,14 +529,33 @@ public class MemberController {
     }
     
     /**
-     * 마일리지 범위로 회원 검색
+     * 마일리지 범위로 회원 검색 (마일리지 오름차순, 커서 기반)
      */
     @GetMapping("/mileage")
-    public ResponseEntity<List<MemberResponseDto>> getMembersByMileageRange(
+    public ResponseEntity<CursorPageResponseDto<MemberResponseDto>> getMembersByMileageRange(
+            @RequestParam Integer minMileage, 
+            @RequestParam Integer maxMileage,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MemberService.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(memberService.getMembersByMileageRange(minMileage, maxMileage, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 마일리지 범위 내 회원 수
+     */
+    @GetMapping("/mileage/count")
+    public ResponseEntity<MileageRangeCountResponseDto> countMembersByMileageRange(
             @RequestParam Integer minMileage, 
             @RequestParam Integer maxMileage) {
-        List<MemberResponseDto> members = memberService.getMembersByMileageRange(minMileage, maxMileage);
-        return ResponseEntity.ok(members);
+        try {
+            return ResponseEntity.ok(memberService.countMembersByMileageRange(minMileage, maxMileage));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
@@ -230,15 +567,62 @@ public class MemberController {
         return ResponseEntity.ok(topMembers);
     }
     
+    /**
+     * 마일리지 리더보드 (grade 지정 시 등급별)
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryResponseDto>> getLeaderboard(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) MemberGrade grade) {
+        int size = Math.max(1, Math.min(limit, MAX_LEADERBOARD_LIMIT));
+        return ResponseEntity.ok(leaderboardService.getTop(size, grade));
+    }
+    
+    /**
+     * 회원 순위 및 백분위 조회
+     */
+    @GetMapping("/{id}/rank")
+    public ResponseEntity<MemberRankResponseDto> getMemberRank(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getRank(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 회원 주변 순위 조회
+     */
+    @GetMapping("/{id}/rank/around")
+    public ResponseEntity<List<LeaderboardEntryResponseDto>> getMembersAroundRank(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int radius,
+            @RequestParam(required = false) MemberGrade grade) {
+        try {
+            int window = Math.max(0, Math.min(radius, MAX_LEADERBOARD_RADIUS));
+            return ResponseEntity.ok(leaderboardService.getAround(id, window, grade));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
     /**
      * 회원 통계
      */
     @GetMapping("/statistics")
-    public ResponseEntity<String> getMemberStatistics() {
-        String statistics = memberService.getMemberStatistics();
+    public ResponseEntity<MemberStatisticsResponseDto> getMemberStatistics() {
+        MemberStatisticsResponseDto statistics = memberService.getMemberStatistics();
         return ResponseEntity.ok(statistics);
     }
     
+    /**
+     * 회원 조회 캐시 통계 (적중/미적중/축출)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<MemberCacheStatsResponseDto> getCacheStats() {
+        return ResponseEntity.ok(memberCache.getStats());
+    }
+    
     /**
      * 이메일 중복 확인
      */
@@ -248,6 +632,14 @@ public class MemberController {
         return ResponseEntity.ok(exists);
     }
     
+    /**
+     * 이메일 존재 필터 통계 (오탐률)
+     */
+    @GetMapping("/email-filter/stats")
+    public ResponseEntity<EmailFilterStatsResponseDto> getEmailFilterStats() {
+        return ResponseEntity.ok(emailFilter.getStats());
+    }
+    
     /**
      * 테스트 회원 생성
      */
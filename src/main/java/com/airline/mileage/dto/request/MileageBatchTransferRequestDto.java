@@ -0,0 +1,23 @@
+package com.airline.mileage.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class MileageBatchTransferRequestDto {
+    
+    @NotEmpty(message = "양도 내역은 필수입니다")
+    @Size(max = 1000, message = "한 번에 1000건까지 양도할 수 있습니다")
+    private List<@Valid MileageTransferRequestDto> transfers;
+    
+    public MileageBatchTransferRequestDto() {}
+    
+    public MileageBatchTransferRequestDto(List<MileageTransferRequestDto> transfers) {
+        this.transfers = transfers;
+    }
+    
+    public List<MileageTransferRequestDto> getTransfers() { return transfers; }
+    public void setTransfers(List<MileageTransferRequestDto> transfers) { this.transfers = transfers; }
+}
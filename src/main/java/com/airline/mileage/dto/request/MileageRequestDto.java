@@ -2,6 +2,7 @@ package com.airline.mileage.dto.request;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public class MileageRequestDto {
     
@@ -9,6 +10,7 @@ public class MileageRequestDto {
     @Min(value = 1, message = "마일리지는 1 이상이어야 합니다")
     private Integer mileage;
     
+    @Size(max = 255, message = "사유는 255자 이하여야 합니다")
     private String reason; // 적립/사용 사유
     
     public MileageRequestDto() {}
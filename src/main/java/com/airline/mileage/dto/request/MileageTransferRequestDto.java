@@ -0,0 +1,44 @@
+package com.airline.mileage.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class MileageTransferRequestDto {
+    
+    @NotNull(message = "받는 회원은 필수입니다")
+    private Long toMemberId;
+    
+    @NotNull(message = "마일리지는 필수입니다")
+    @Min(value = 1, message = "마일리지는 1 이상이어야 합니다")
+    private Integer mileage;
+    
+    @Size(max = 255, message = "사유는 255자 이하여야 합니다")
+    private String reason; // 양도 사유 (가족 합산, 법인 지급 등)
+    
+    public MileageTransferRequestDto() {}
+    
+    public MileageTransferRequestDto(Long toMemberId, Integer mileage, String reason) {
+        this.toMemberId = toMemberId;
+        this.mileage = mileage;
+        this.reason = reason;
+    }
+    
+    public Long getToMemberId() { return toMemberId; }
+    public void setToMemberId(Long toMemberId) { this.toMemberId = toMemberId; }
+    
+    public Integer getMileage() { return mileage; }
+    public void setMileage(Integer mileage) { this.mileage = mileage; }
+    
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+    
+    @Override
+    public String toString() {
+        return "MileageTransferRequestDto{" +
+                "toMemberId=" + toMemberId +
+                ", mileage=" + mileage +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
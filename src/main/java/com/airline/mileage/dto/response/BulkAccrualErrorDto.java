@@ -0,0 +1,37 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * 대량 적립 실패 행
+ */
+public class BulkAccrualErrorDto {
+    
+    private long line;
+    private Long memberId;
+    private String message;
+    
+    public BulkAccrualErrorDto() {}
+    
+    public BulkAccrualErrorDto(long line, Long memberId, String message) {
+        this.line = line;
+        this.memberId = memberId;
+        this.message = message;
+    }
+    
+    public long getLine() { return line; }
+    public void setLine(long line) { this.line = line; }
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    
+    @Override
+    public String toString() {
+        return "BulkAccrualErrorDto{" +
+                "line=" + line +
+                ", memberId=" + memberId +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.BulkAccrualJob;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 적립 결과
+ * skippedRows 는 이전 실행에서 이미 커밋되어 건너뛴 행 수,
+ * errors 는 이번 실행에서 실패한 행 (최대 건수를 넘으면 errorsTruncated)
+ */
+public class BulkAccrualResponseDto {
+    
+    private String jobId;
+    private BulkAccrualJob.Status status;
+    private long committedRows;
+    private long skippedRows;
+    private long appliedRows;
+    private long failedRows;
+    private int chunks;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<BulkAccrualErrorDto> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    
+    public BulkAccrualResponseDto() {}
+    
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    
+    public BulkAccrualJob.Status getStatus() { return status; }
+    public void setStatus(BulkAccrualJob.Status status) { this.status = status; }
+    
+    public long getCommittedRows() { return committedRows; }
+    public void setCommittedRows(long committedRows) { this.committedRows = committedRows; }
+    
+    public long getSkippedRows() { return skippedRows; }
+    public void setSkippedRows(long skippedRows) { this.skippedRows = skippedRows; }
+    
+    public long getAppliedRows() { return appliedRows; }
+    public void setAppliedRows(long appliedRows) { this.appliedRows = appliedRows; }
+    
+    public long getFailedRows() { return failedRows; }
+    public void setFailedRows(long failedRows) { this.failedRows = failedRows; }
+    
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+    
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+    
+    public List<BulkAccrualErrorDto> getErrors() { return errors; }
+    public void setErrors(List<BulkAccrualErrorDto> errors) { this.errors = errors; }
+    
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+    
+    @Override
+    public String toString() {
+        return "BulkAccrualResponseDto{" +
+                "jobId='" + jobId + '\'' +
+                ", status=" + status +
+                ", committedRows=" + committedRows +
+                ", appliedRows=" + appliedRows +
+                ", failedRows=" + failedRows +
+                ", rowsPerSecond=" + rowsPerSecond +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.airline.mileage.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public class CursorPageResponseDto<T> {
+    
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    public CursorPageResponseDto() {}
+    
+    public CursorPageResponseDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+    
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    
+    @Override
+    public String toString() {
+        return "CursorPageResponseDto{" +
+                "size=" + size +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasNext=" + hasNext +
+                '}';
+    }
+}
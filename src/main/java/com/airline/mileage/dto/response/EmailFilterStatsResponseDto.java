@@ -0,0 +1,61 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * 이메일 존재 필터 통계
+ * observedFalsePositiveRate 는 실제로 없는 이메일 중 DB 확인까지 간 비율
+ */
+public class EmailFilterStatsResponseDto {
+    
+    private boolean ready;
+    private long capacity;
+    private long bitSize;
+    private int hashFunctions;
+    private long insertions;
+    private double expectedFalsePositiveRate;
+    private double observedFalsePositiveRate;
+    private long definiteMisses;
+    private long databaseChecks;
+    private long falsePositives;
+    
+    public EmailFilterStatsResponseDto() {}
+    
+    public boolean isReady() { return ready; }
+    public void setReady(boolean ready) { this.ready = ready; }
+    
+    public long getCapacity() { return capacity; }
+    public void setCapacity(long capacity) { this.capacity = capacity; }
+    
+    public long getBitSize() { return bitSize; }
+    public void setBitSize(long bitSize) { this.bitSize = bitSize; }
+    
+    public int getHashFunctions() { return hashFunctions; }
+    public void setHashFunctions(int hashFunctions) { this.hashFunctions = hashFunctions; }
+    
+    public long getInsertions() { return insertions; }
+    public void setInsertions(long insertions) { this.insertions = insertions; }
+    
+    public double getExpectedFalsePositiveRate() { return expectedFalsePositiveRate; }
+    public void setExpectedFalsePositiveRate(double expectedFalsePositiveRate) { this.expectedFalsePositiveRate = expectedFalsePositiveRate; }
+    
+    public double getObservedFalsePositiveRate() { return observedFalsePositiveRate; }
+    public void setObservedFalsePositiveRate(double observedFalsePositiveRate) { this.observedFalsePositiveRate = observedFalsePositiveRate; }
+    
+    public long getDefiniteMisses() { return definiteMisses; }
+    public void setDefiniteMisses(long definiteMisses) { this.definiteMisses = definiteMisses; }
+    
+    public long getDatabaseChecks() { return databaseChecks; }
+    public void setDatabaseChecks(long databaseChecks) { this.databaseChecks = databaseChecks; }
+    
+    public long getFalsePositives() { return falsePositives; }
+    public void setFalsePositives(long falsePositives) { this.falsePositives = falsePositives; }
+    
+    @Override
+    public String toString() {
+        return "EmailFilterStatsResponseDto{" +
+                "ready=" + ready +
+                ", insertions=" + insertions +
+                ", expectedFalsePositiveRate=" + expectedFalsePositiveRate +
+                ", observedFalsePositiveRate=" + observedFalsePositiveRate +
+                '}';
+    }
+}
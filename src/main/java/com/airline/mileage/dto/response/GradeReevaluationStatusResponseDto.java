@@ -0,0 +1,84 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.service.GradeReevaluationService;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 등급 재평가 작업 상태
+ * changesByGrade 는 새 등급별 변경 회원 수, progressPercent 는 시작 시 활성 회원 수 대비 확인한 비율
+ */
+public class GradeReevaluationStatusResponseDto {
+    
+    private String jobId;
+    private GradeReevaluationService.Status status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long totalRanges;
+    private long completedRanges;
+    private long estimatedRows;
+    private long scannedRows;
+    private long changedRows;
+    private Map<MemberGrade, Long> changesByGrade;
+    private double progressPercent;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String error;
+    
+    public GradeReevaluationStatusResponseDto() {}
+    
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    
+    public GradeReevaluationService.Status getStatus() { return status; }
+    public void setStatus(GradeReevaluationService.Status status) { this.status = status; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    
+    public long getTotalRanges() { return totalRanges; }
+    public void setTotalRanges(long totalRanges) { this.totalRanges = totalRanges; }
+    
+    public long getCompletedRanges() { return completedRanges; }
+    public void setCompletedRanges(long completedRanges) { this.completedRanges = completedRanges; }
+    
+    public long getEstimatedRows() { return estimatedRows; }
+    public void setEstimatedRows(long estimatedRows) { this.estimatedRows = estimatedRows; }
+    
+    public long getScannedRows() { return scannedRows; }
+    public void setScannedRows(long scannedRows) { this.scannedRows = scannedRows; }
+    
+    public long getChangedRows() { return changedRows; }
+    public void setChangedRows(long changedRows) { this.changedRows = changedRows; }
+    
+    public Map<MemberGrade, Long> getChangesByGrade() { return changesByGrade; }
+    public void setChangesByGrade(Map<MemberGrade, Long> changesByGrade) { this.changesByGrade = changesByGrade; }
+    
+    public double getProgressPercent() { return progressPercent; }
+    public void setProgressPercent(double progressPercent) { this.progressPercent = progressPercent; }
+    
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+    
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    
+    @Override
+    public String toString() {
+        return "GradeReevaluationStatusResponseDto{" +
+                "jobId='" + jobId + '\'' +
+                ", status=" + status +
+                ", scannedRows=" + scannedRows +
+                ", changedRows=" + changedRows +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
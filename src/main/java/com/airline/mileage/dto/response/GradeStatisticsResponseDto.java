@@ -0,0 +1,54 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MemberGrade;
+
+public class GradeStatisticsResponseDto {
+    
+    private MemberGrade grade;
+    private String gradeDisplayName;
+    private long activeMembers;
+    private long deletedMembers;
+    private long totalMileage;
+    private long availableMileage;
+    
+    public GradeStatisticsResponseDto() {}
+    
+    public GradeStatisticsResponseDto(MemberGrade grade, long activeMembers, long deletedMembers,
+                                      long totalMileage, long availableMileage) {
+        this.grade = grade;
+        this.gradeDisplayName = grade.getDisplayName();
+        this.activeMembers = activeMembers;
+        this.deletedMembers = deletedMembers;
+        this.totalMileage = totalMileage;
+        this.availableMileage = availableMileage;
+    }
+    
+    public MemberGrade getGrade() { return grade; }
+    public void setGrade(MemberGrade grade) { this.grade = grade; }
+    
+    public String getGradeDisplayName() { return gradeDisplayName; }
+    public void setGradeDisplayName(String gradeDisplayName) { this.gradeDisplayName = gradeDisplayName; }
+    
+    public long getActiveMembers() { return activeMembers; }
+    public void setActiveMembers(long activeMembers) { this.activeMembers = activeMembers; }
+    
+    public long getDeletedMembers() { return deletedMembers; }
+    public void setDeletedMembers(long deletedMembers) { this.deletedMembers = deletedMembers; }
+    
+    public long getTotalMileage() { return totalMileage; }
+    public void setTotalMileage(long totalMileage) { this.totalMileage = totalMileage; }
+    
+    public long getAvailableMileage() { return availableMileage; }
+    public void setAvailableMileage(long availableMileage) { this.availableMileage = availableMileage; }
+    
+    @Override
+    public String toString() {
+        return "GradeStatisticsResponseDto{" +
+                "grade=" + grade +
+                ", activeMembers=" + activeMembers +
+                ", deletedMembers=" + deletedMembers +
+                ", totalMileage=" + totalMileage +
+                ", availableMileage=" + availableMileage +
+                '}';
+    }
+}
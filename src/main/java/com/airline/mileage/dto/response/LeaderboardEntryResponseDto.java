@@ -0,0 +1,42 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MemberGrade;
+
+public class LeaderboardEntryResponseDto {
+    
+    private int rank;
+    private Long memberId;
+    private Integer totalMileage;
+    private MemberGrade grade;
+    
+    public LeaderboardEntryResponseDto() {}
+    
+    public LeaderboardEntryResponseDto(int rank, Long memberId, Integer totalMileage, MemberGrade grade) {
+        this.rank = rank;
+        this.memberId = memberId;
+        this.totalMileage = totalMileage;
+        this.grade = grade;
+    }
+    
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public Integer getTotalMileage() { return totalMileage; }
+    public void setTotalMileage(Integer totalMileage) { this.totalMileage = totalMileage; }
+    
+    public MemberGrade getGrade() { return grade; }
+    public void setGrade(MemberGrade grade) { this.grade = grade; }
+    
+    @Override
+    public String toString() {
+        return "LeaderboardEntryResponseDto{" +
+                "rank=" + rank +
+                ", memberId=" + memberId +
+                ", totalMileage=" + totalMileage +
+                ", grade=" + grade +
+                '}';
+    }
+}
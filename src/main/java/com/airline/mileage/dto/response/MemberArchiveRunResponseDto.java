@@ -0,0 +1,55 @@
+package com.airline.mileage.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 회원 보관 실행 결과
+ */
+public class MemberArchiveRunResponseDto {
+    
+    private LocalDateTime deletedBefore;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long batches;
+    private long archivedRows;
+    private long elapsedMillis;
+    private long throttledMillis;
+    private double rowsPerSecond;
+    
+    public MemberArchiveRunResponseDto() {}
+    
+    public LocalDateTime getDeletedBefore() { return deletedBefore; }
+    public void setDeletedBefore(LocalDateTime deletedBefore) { this.deletedBefore = deletedBefore; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    
+    public long getBatches() { return batches; }
+    public void setBatches(long batches) { this.batches = batches; }
+    
+    public long getArchivedRows() { return archivedRows; }
+    public void setArchivedRows(long archivedRows) { this.archivedRows = archivedRows; }
+    
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    
+    public long getThrottledMillis() { return throttledMillis; }
+    public void setThrottledMillis(long throttledMillis) { this.throttledMillis = throttledMillis; }
+    
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+    
+    @Override
+    public String toString() {
+        return "MemberArchiveRunResponseDto{" +
+                "deletedBefore=" + deletedBefore +
+                ", batches=" + batches +
+                ", archivedRows=" + archivedRows +
+                ", elapsedMillis=" + elapsedMillis +
+                ", throttledMillis=" + throttledMillis +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * 회원 조회 캐시 통계
+ */
+public class MemberCacheStatsResponseDto {
+    
+    private long size;
+    private long emailIndexSize;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long emailMissCount;
+    private long loadCount;
+    private double averageLoadMillis;
+    
+    public MemberCacheStatsResponseDto() {}
+    
+    public long getSize() { return size; }
+    public void setSize(long size) { this.size = size; }
+    
+    public long getEmailIndexSize() { return emailIndexSize; }
+    public void setEmailIndexSize(long emailIndexSize) { this.emailIndexSize = emailIndexSize; }
+    
+    public long getHitCount() { return hitCount; }
+    public void setHitCount(long hitCount) { this.hitCount = hitCount; }
+    
+    public long getMissCount() { return missCount; }
+    public void setMissCount(long missCount) { this.missCount = missCount; }
+    
+    public double getHitRate() { return hitRate; }
+    public void setHitRate(double hitRate) { this.hitRate = hitRate; }
+    
+    public long getEvictionCount() { return evictionCount; }
+    public void setEvictionCount(long evictionCount) { this.evictionCount = evictionCount; }
+    
+    public long getEmailMissCount() { return emailMissCount; }
+    public void setEmailMissCount(long emailMissCount) { this.emailMissCount = emailMissCount; }
+    
+    public long getLoadCount() { return loadCount; }
+    public void setLoadCount(long loadCount) { this.loadCount = loadCount; }
+    
+    public double getAverageLoadMillis() { return averageLoadMillis; }
+    public void setAverageLoadMillis(double averageLoadMillis) { this.averageLoadMillis = averageLoadMillis; }
+    
+    @Override
+    public String toString() {
+        return "MemberCacheStatsResponseDto{" +
+                "size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + hitRate +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
@@ -0,0 +1,43 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * 대량 회원 가입 결과
+ * 거절된 행은 rejectedFile(CSV: line,reason,원본 행)에 남긴다 (거절이 없으면 null)
+ */
+public class MemberImportResponseDto {
+
+    private String importId;
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private int chunks;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String rejectedFile;
+
+    public MemberImportResponseDto() {}
+
+    public String getImportId() { return importId; }
+    public void setImportId(String importId) { this.importId = importId; }
+
+    public long getTotalRows() { return totalRows; }
+    public void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+
+    public long getRejectedRows() { return rejectedRows; }
+    public void setRejectedRows(long rejectedRows) { this.rejectedRows = rejectedRows; }
+
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public String getRejectedFile() { return rejectedFile; }
+    public void setRejectedFile(String rejectedFile) { this.rejectedFile = rejectedFile; }
+}
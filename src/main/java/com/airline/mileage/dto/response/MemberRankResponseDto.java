@@ -0,0 +1,60 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 회원 순위 정보
+ * percentile 은 0~100 (100 이 1위), 등급 순위는 같은 등급 회원 중 순위
+ */
+public class MemberRankResponseDto {
+    
+    private Long memberId;
+    private MemberGrade grade;
+    private Integer totalMileage;
+    private int rank;
+    private int totalMembers;
+    private double percentile;
+    private int gradeRank;
+    private int gradeMembers;
+    private double gradePercentile;
+    
+    public MemberRankResponseDto() {}
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public MemberGrade getGrade() { return grade; }
+    public void setGrade(MemberGrade grade) { this.grade = grade; }
+    
+    public Integer getTotalMileage() { return totalMileage; }
+    public void setTotalMileage(Integer totalMileage) { this.totalMileage = totalMileage; }
+    
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+    
+    public int getTotalMembers() { return totalMembers; }
+    public void setTotalMembers(int totalMembers) { this.totalMembers = totalMembers; }
+    
+    public double getPercentile() { return percentile; }
+    public void setPercentile(double percentile) { this.percentile = percentile; }
+    
+    public int getGradeRank() { return gradeRank; }
+    public void setGradeRank(int gradeRank) { this.gradeRank = gradeRank; }
+    
+    public int getGradeMembers() { return gradeMembers; }
+    public void setGradeMembers(int gradeMembers) { this.gradeMembers = gradeMembers; }
+    
+    public double getGradePercentile() { return gradePercentile; }
+    public void setGradePercentile(double gradePercentile) { this.gradePercentile = gradePercentile; }
+    
+    @Override
+    public String toString() {
+        return "MemberRankResponseDto{" +
+                "memberId=" + memberId +
+                ", grade=" + grade +
+                ", totalMileage=" + totalMileage +
+                ", rank=" + rank + "/" + totalMembers +
+                ", percentile=" + percentile +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.airline.mileage.dto.response;
 
 import com.airline.mileage.entity.Member;
 import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
 import java.time.LocalDateTime;
 
 public class MemberResponseDto {
@@ -32,6 +33,19 @@ public class MemberResponseDto {
         this.updatedAt = member.getUpdatedAt();
     }
     
+    public MemberResponseDto(MemberSnapshot member) {
+        this.id = member.id();
+        this.email = member.email();
+        this.name = member.name();
+        this.phone = member.phone();
+        this.grade = member.grade();
+        this.gradeDisplayName = member.grade().getDisplayName();
+        this.totalMileage = member.totalMileage();
+        this.availableMileage = member.availableMileage();
+        this.createdAt = member.createdAt();
+        this.updatedAt = member.updatedAt();
+    }
+    
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     
@@ -0,0 +1,67 @@
+package com.airline.mileage.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 통계
+ * 메모리 카운터 기준이며, lastReconciledAt 시점에 DB 집계로 맞춘 뒤의 변경이 반영된 값이다.
+ * lastReconcileMemberDrift / lastReconcileMileageDrift 는 마지막 대사 때 카운터와 DB 의 차이.
+ */
+public class MemberStatisticsResponseDto {
+    
+    private long totalActive;
+    private long totalDeleted;
+    private long total;
+    private long totalMileage;
+    private long availableMileage;
+    private List<GradeStatisticsResponseDto> grades = new ArrayList<>();
+    private List<MileageHistogramBucketDto> mileageHistogram = new ArrayList<>();
+    private LocalDateTime lastReconciledAt;
+    private long lastReconcileMemberDrift;
+    private long lastReconcileMileageDrift;
+    
+    public MemberStatisticsResponseDto() {}
+    
+    public long getTotalActive() { return totalActive; }
+    public void setTotalActive(long totalActive) { this.totalActive = totalActive; }
+    
+    public long getTotalDeleted() { return totalDeleted; }
+    public void setTotalDeleted(long totalDeleted) { this.totalDeleted = totalDeleted; }
+    
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    
+    public long getTotalMileage() { return totalMileage; }
+    public void setTotalMileage(long totalMileage) { this.totalMileage = totalMileage; }
+    
+    public long getAvailableMileage() { return availableMileage; }
+    public void setAvailableMileage(long availableMileage) { this.availableMileage = availableMileage; }
+    
+    public List<GradeStatisticsResponseDto> getGrades() { return grades; }
+    public void setGrades(List<GradeStatisticsResponseDto> grades) { this.grades = grades; }
+    
+    public List<MileageHistogramBucketDto> getMileageHistogram() { return mileageHistogram; }
+    public void setMileageHistogram(List<MileageHistogramBucketDto> mileageHistogram) { this.mileageHistogram = mileageHistogram; }
+    
+    public LocalDateTime getLastReconciledAt() { return lastReconciledAt; }
+    public void setLastReconciledAt(LocalDateTime lastReconciledAt) { this.lastReconciledAt = lastReconciledAt; }
+    
+    public long getLastReconcileMemberDrift() { return lastReconcileMemberDrift; }
+    public void setLastReconcileMemberDrift(long lastReconcileMemberDrift) { this.lastReconcileMemberDrift = lastReconcileMemberDrift; }
+    
+    public long getLastReconcileMileageDrift() { return lastReconcileMileageDrift; }
+    public void setLastReconcileMileageDrift(long lastReconcileMileageDrift) { this.lastReconcileMileageDrift = lastReconcileMileageDrift; }
+    
+    @Override
+    public String toString() {
+        return "MemberStatisticsResponseDto{" +
+                "totalActive=" + totalActive +
+                ", totalDeleted=" + totalDeleted +
+                ", total=" + total +
+                ", totalMileage=" + totalMileage +
+                ", lastReconciledAt=" + lastReconciledAt +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+package com.airline.mileage.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 소멸 스윕 결과
+ */
+public class MileageExpirySweepResponseDto {
+    
+    private LocalDate asOf;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long batches;
+    private long expiredLots;
+    private long affectedMembers;
+    private long expiredMileage;
+    private long elapsedMillis;
+    private double lotsPerSecond;
+    
+    public MileageExpirySweepResponseDto() {}
+    
+    public LocalDate getAsOf() { return asOf; }
+    public void setAsOf(LocalDate asOf) { this.asOf = asOf; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    
+    public long getBatches() { return batches; }
+    public void setBatches(long batches) { this.batches = batches; }
+    
+    public long getExpiredLots() { return expiredLots; }
+    public void setExpiredLots(long expiredLots) { this.expiredLots = expiredLots; }
+    
+    public long getAffectedMembers() { return affectedMembers; }
+    public void setAffectedMembers(long affectedMembers) { this.affectedMembers = affectedMembers; }
+    
+    public long getExpiredMileage() { return expiredMileage; }
+    public void setExpiredMileage(long expiredMileage) { this.expiredMileage = expiredMileage; }
+    
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    
+    public double getLotsPerSecond() { return lotsPerSecond; }
+    public void setLotsPerSecond(double lotsPerSecond) { this.lotsPerSecond = lotsPerSecond; }
+    
+    @Override
+    public String toString() {
+        return "MileageExpirySweepResponseDto{" +
+                "asOf=" + asOf +
+                ", batches=" + batches +
+                ", expiredLots=" + expiredLots +
+                ", affectedMembers=" + affectedMembers +
+                ", expiredMileage=" + expiredMileage +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
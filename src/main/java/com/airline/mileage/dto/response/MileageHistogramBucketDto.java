@@ -0,0 +1,37 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * 누적 마일리지 구간 [minMileage, maxMileage) 의 활성 회원 수 (마지막 구간은 maxMileage 가 null)
+ */
+public class MileageHistogramBucketDto {
+    
+    private int minMileage;
+    private Integer maxMileage;
+    private long members;
+    
+    public MileageHistogramBucketDto() {}
+    
+    public MileageHistogramBucketDto(int minMileage, Integer maxMileage, long members) {
+        this.minMileage = minMileage;
+        this.maxMileage = maxMileage;
+        this.members = members;
+    }
+    
+    public int getMinMileage() { return minMileage; }
+    public void setMinMileage(int minMileage) { this.minMileage = minMileage; }
+    
+    public Integer getMaxMileage() { return maxMileage; }
+    public void setMaxMileage(Integer maxMileage) { this.maxMileage = maxMileage; }
+    
+    public long getMembers() { return members; }
+    public void setMembers(long members) { this.members = members; }
+    
+    @Override
+    public String toString() {
+        return "MileageHistogramBucketDto{" +
+                "minMileage=" + minMileage +
+                ", maxMileage=" + maxMileage +
+                ", members=" + members +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MileageLot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class MileageLotResponseDto {
+    
+    private Long id;
+    private Integer amount;
+    private Integer remaining;
+    private LocalDateTime earnedAt;
+    private LocalDate expiresOn;
+    
+    public MileageLotResponseDto() {}
+    
+    public MileageLotResponseDto(MileageLot lot) {
+        this.id = lot.getId();
+        this.amount = lot.getAmount();
+        this.remaining = lot.getRemaining();
+        this.earnedAt = lot.getEarnedAt();
+        this.expiresOn = lot.getExpiresOn();
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Integer getAmount() { return amount; }
+    public void setAmount(Integer amount) { this.amount = amount; }
+    
+    public Integer getRemaining() { return remaining; }
+    public void setRemaining(Integer remaining) { this.remaining = remaining; }
+    
+    public LocalDateTime getEarnedAt() { return earnedAt; }
+    public void setEarnedAt(LocalDateTime earnedAt) { this.earnedAt = earnedAt; }
+    
+    public LocalDate getExpiresOn() { return expiresOn; }
+    public void setExpiresOn(LocalDate expiresOn) { this.expiresOn = expiresOn; }
+    
+    @Override
+    public String toString() {
+        return "MileageLotResponseDto{" +
+                "id=" + id +
+                ", amount=" + amount +
+                ", remaining=" + remaining +
+                ", earnedAt=" + earnedAt +
+                ", expiresOn=" + expiresOn +
+                '}';
+    }
+}
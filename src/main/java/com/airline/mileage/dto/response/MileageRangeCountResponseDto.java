@@ -0,0 +1,45 @@
+package com.airline.mileage.dto.response;
+
+public class MileageRangeCountResponseDto {
+    
+    public enum Source {
+        MEMORY,
+        DATABASE
+    }
+    
+    private int minMileage;
+    private int maxMileage;
+    private long count;
+    private Source source;
+    
+    public MileageRangeCountResponseDto() {}
+    
+    public MileageRangeCountResponseDto(int minMileage, int maxMileage, long count, Source source) {
+        this.minMileage = minMileage;
+        this.maxMileage = maxMileage;
+        this.count = count;
+        this.source = source;
+    }
+    
+    public int getMinMileage() { return minMileage; }
+    public void setMinMileage(int minMileage) { this.minMileage = minMileage; }
+    
+    public int getMaxMileage() { return maxMileage; }
+    public void setMaxMileage(int maxMileage) { this.maxMileage = maxMileage; }
+    
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+    
+    public Source getSource() { return source; }
+    public void setSource(Source source) { this.source = source; }
+    
+    @Override
+    public String toString() {
+        return "MileageRangeCountResponseDto{" +
+                "minMileage=" + minMileage +
+                ", maxMileage=" + maxMileage +
+                ", count=" + count +
+                ", source=" + source +
+                '}';
+    }
+}
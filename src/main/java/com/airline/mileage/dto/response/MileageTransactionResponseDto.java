@@ -0,0 +1,65 @@
+package com.airline.mileage.dto.response;
+
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.entity.MileageTransactionType;
+import java.time.LocalDateTime;
+
+public class MileageTransactionResponseDto {
+    
+    private Long id;
+    private Long memberId;
+    private MileageTransactionType type;
+    private String typeDisplayName;
+    private Integer delta;
+    private String reason;
+    private Integer balanceAfter;
+    private LocalDateTime createdAt;
+    
+    public MileageTransactionResponseDto() {}
+    
+    public MileageTransactionResponseDto(MileageTransaction transaction) {
+        this.id = transaction.getId();
+        this.memberId = transaction.getMemberId();
+        this.type = transaction.getType();
+        this.typeDisplayName = transaction.getType().getDisplayName();
+        this.delta = transaction.getDelta();
+        this.reason = transaction.getReason();
+        this.balanceAfter = transaction.getBalanceAfter();
+        this.createdAt = transaction.getCreatedAt();
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public MileageTransactionType getType() { return type; }
+    public void setType(MileageTransactionType type) { this.type = type; }
+    
+    public String getTypeDisplayName() { return typeDisplayName; }
+    public void setTypeDisplayName(String typeDisplayName) { this.typeDisplayName = typeDisplayName; }
+    
+    public Integer getDelta() { return delta; }
+    public void setDelta(Integer delta) { this.delta = delta; }
+    
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+    
+    public Integer getBalanceAfter() { return balanceAfter; }
+    public void setBalanceAfter(Integer balanceAfter) { this.balanceAfter = balanceAfter; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    @Override
+    public String toString() {
+        return "MileageTransactionResponseDto{" +
+                "id=" + id +
+                ", memberId=" + memberId +
+                ", type=" + type +
+                ", delta=" + delta +
+                ", balanceAfter=" + balanceAfter +
+                '}';
+    }
+}
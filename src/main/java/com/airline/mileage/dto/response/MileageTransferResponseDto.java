@@ -0,0 +1,29 @@
+package com.airline.mileage.dto.response;
+
+import java.util.List;
+
+/**
+ * 마일리지 양도 결과
+ * sender 는 보낸 회원, recipients 는 받은 회원 (id 순, 같은 회원에게 여러 건이면 한 번만), 양도 후 상태
+ */
+public class MileageTransferResponseDto {
+    
+    private MemberResponseDto sender;
+    private List<MemberResponseDto> recipients;
+    private int transfers;
+    private int transferredMileage;
+    
+    public MileageTransferResponseDto() {}
+    
+    public MemberResponseDto getSender() { return sender; }
+    public void setSender(MemberResponseDto sender) { this.sender = sender; }
+    
+    public List<MemberResponseDto> getRecipients() { return recipients; }
+    public void setRecipients(List<MemberResponseDto> recipients) { this.recipients = recipients; }
+    
+    public int getTransfers() { return transfers; }
+    public void setTransfers(int transfers) { this.transfers = transfers; }
+    
+    public int getTransferredMileage() { return transferredMileage; }
+    public void setTransferredMileage(int transferredMileage) { this.transferredMileage = transferredMileage; }
+}
@@ -0,0 +1,54 @@
+package com.airline.mileage.dto.response;
+
+/**
+ * write-behind 버퍼 상태
+ * flushLagMillis 는 가장 오래 대기 중인 적립이 기다린 시간
+ */
+public class WriteBufferStatsResponseDto {
+    
+    private boolean enabled;
+    private long pendingCredits;
+    private int pendingMembers;
+    private long flushLagMillis;
+    private long lastFlushAt;
+    private long lastFlushDurationMillis;
+    private int lastFlushCredits;
+    private long flushedCredits;
+    
+    public WriteBufferStatsResponseDto() {}
+    
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    
+    public long getPendingCredits() { return pendingCredits; }
+    public void setPendingCredits(long pendingCredits) { this.pendingCredits = pendingCredits; }
+    
+    public int getPendingMembers() { return pendingMembers; }
+    public void setPendingMembers(int pendingMembers) { this.pendingMembers = pendingMembers; }
+    
+    public long getFlushLagMillis() { return flushLagMillis; }
+    public void setFlushLagMillis(long flushLagMillis) { this.flushLagMillis = flushLagMillis; }
+    
+    public long getLastFlushAt() { return lastFlushAt; }
+    public void setLastFlushAt(long lastFlushAt) { this.lastFlushAt = lastFlushAt; }
+    
+    public long getLastFlushDurationMillis() { return lastFlushDurationMillis; }
+    public void setLastFlushDurationMillis(long lastFlushDurationMillis) { this.lastFlushDurationMillis = lastFlushDurationMillis; }
+    
+    public int getLastFlushCredits() { return lastFlushCredits; }
+    public void setLastFlushCredits(int lastFlushCredits) { this.lastFlushCredits = lastFlushCredits; }
+    
+    public long getFlushedCredits() { return flushedCredits; }
+    public void setFlushedCredits(long flushedCredits) { this.flushedCredits = flushedCredits; }
+    
+    @Override
+    public String toString() {
+        return "WriteBufferStatsResponseDto{" +
+                "enabled=" + enabled +
+                ", pendingCredits=" + pendingCredits +
+                ", pendingMembers=" + pendingMembers +
+                ", flushLagMillis=" + flushLagMillis +
+                ", flushedCredits=" + flushedCredits +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 마일리지 적립 작업 진행 상태
+ * 청크가 커밋될 때마다 같은 트랜잭션에서 committedRows 를 갱신하므로
+ * 실패 후 같은 jobId 로 다시 요청하면 마지막 커밋 지점부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "bulk_accrual_jobs")
+public class BulkAccrualJob {
+    
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    @Id
+    @Column(length = 64)
+    private String jobId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+    
+    // 커밋된 마지막 입력 행 번호
+    @Column(nullable = false)
+    private Long committedRows = 0L;
+    
+    @Column(nullable = false)
+    private Long appliedRows = 0L;
+    
+    @Column(nullable = false)
+    private Long failedRows = 0L;
+    
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    protected BulkAccrualJob() {}
+    
+    public BulkAccrualJob(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getJobId() { return jobId; }
+    
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    
+    public Long getCommittedRows() { return committedRows; }
+    public Long getAppliedRows() { return appliedRows; }
+    public Long getFailedRows() { return failedRows; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    
+    /**
+     * 청크 커밋 반영
+     */
+    public void advance(long lastRow, long applied, long failed) {
+        this.committedRows = lastRow;
+        this.appliedRows += applied;
+        this.failedRows += failed;
+        this.status = Status.RUNNING;
+    }
+    
+    @Override
+    public String toString() {
+        return "BulkAccrualJob{" +
+                "jobId='" + jobId + '\'' +
+                ", status=" + status +
+                ", committedRows=" + committedRows +
+                ", appliedRows=" + appliedRows +
+                ", failedRows=" + failedRows +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키 처리 결과 (마일리지 적립/사용)
+ * 마일리지 변경과 같은 트랜잭션에서 먼저 INSERT 하므로, 같은 키로 동시에 들어온 요청은
+ * 기본 키 충돌로 한쪽만 커밋되고 나머지는 롤백된 뒤 저장된 응답을 돌려받는다.
+ * 키를 직접 지정하므로 save 가 merge(조회 후 덮어쓰기) 대신 INSERT 하도록 새 객체 여부를 직접 알려준다.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+    
+    // 회원 id:작업:클라이언트 키
+    @Id
+    @Column(name = "scope_key", length = 160)
+    private String scopeKey;
+    
+    // 요청 본문 지문 (같은 키로 다른 요청을 보내면 거절)
+    @Column(nullable = false, length = 300)
+    private String fingerprint;
+    
+    // 응답(MemberResponseDto) JSON
+    @Column(length = 4000)
+    private String response;
+    
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    protected IdempotencyRecord() {}
+    
+    public IdempotencyRecord(String scopeKey, String fingerprint) {
+        this.scopeKey = scopeKey;
+        this.fingerprint = fingerprint;
+    }
+    
+    public String getScopeKey() { return scopeKey; }
+    public String getFingerprint() { return fingerprint; }
+    
+    public String getResponse() { return response; }
+    public void setResponse(String response) { this.response = response; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    
+    @Override
+    public String getId() { return scopeKey; }
+    
+    @Override
+    public boolean isNew() { return isNew; }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -9,13 +9,25 @@ import org.hibernate.annotations.Where;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+    // 마일리지 범위 검색: 활성 회원 범위 스캔 + (total_mileage, id) 키셋 페이지, COUNT 는 인덱스만으로 처리
+    @Index(name = "idx_members_deleted_mileage_id", columnList = "deleted, total_mileage, id"),
+    // 보관 대상(오래된 탈퇴 회원) 범위 조회
+    @Index(name = "idx_members_deleted_at", columnList = "deleted, deleted_at")
+})
 @SQLDelete(sql = "UPDATE members SET deleted = true, deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted = false")
 public class Member {
     
+    public static final int ID_BLOCK_SIZE = 100;
+    
+    /**
+     * pooled 시퀀스로 id 를 블록 단위(allocationSize)로 받아 INSERT 를 JDBC 배치로 묶는다 (IDENTITY 는 배치 불가).
+     * 기존 DB 의 시퀀스는 시작 시 MemberIdSequenceConfig 가 이미 쓰인 id(보관된 회원 포함) 뒤로 올린다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = Member.ID_BLOCK_SIZE)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 100)
@@ -0,0 +1,69 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 탈퇴 회원 (members 에서 옮겨 온 행)
+ * 활성 회원 테이블과 이메일 unique 인덱스가 탈퇴 회원으로 커지지 않도록 MemberArchiveService 가 배치로 옮긴다.
+ * 이메일은 보관 후에도 재사용하지 않으므로 여기서도 unique 이고, 복구하면 같은 id 로 members 에 되돌린다.
+ * 옮기기/복구는 MemberRepositoryImpl 의 JDBC 문으로만 하고 이 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "members_archive", indexes = {
+    @Index(name = "idx_members_archive_archived_at", columnList = "archived_at")
+})
+public class MemberArchive {
+
+    @Id
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 100)
+    private String email;
+
+    @Column(nullable = false)
+    private String password;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(length = 20)
+    private String phone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MemberGrade grade;
+
+    @Column(nullable = false)
+    private Integer totalMileage;
+
+    @Column(nullable = false)
+    private Integer availableMileage;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected MemberArchive() {}
+
+    public Long getId() { return id; }
+    public String getEmail() { return email; }
+    public String getName() { return name; }
+    public String getPhone() { return phone; }
+    public MemberGrade getGrade() { return grade; }
+    public Integer getTotalMileage() { return totalMileage; }
+    public Integer getAvailableMileage() { return availableMileage; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -1,5 +1,8 @@
 package com.airline.mileage.entity;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 public enum MemberGrade {
     BASIC("일반", 0, 1.0),
     SILVER("실버", 20000, 1.2),
@@ -7,6 +10,19 @@ public enum MemberGrade {
     DIAMOND("다이아몬드", 100000, 2.0),
 	VIP("VIP", 1000000, 3.0);
     
+    /** 기준 마일리지 오름차순 등급표 (getGradeByMileage 에서 이진 탐색) */
+    private static final MemberGrade[] BY_THRESHOLD;
+    private static final int[] THRESHOLDS;
+    
+    static {
+        BY_THRESHOLD = values().clone();
+        Arrays.sort(BY_THRESHOLD, Comparator.comparingInt(MemberGrade::getRequiredMileage));
+        THRESHOLDS = new int[BY_THRESHOLD.length];
+        for (int i = 0; i < BY_THRESHOLD.length; i++) {
+            THRESHOLDS[i] = BY_THRESHOLD[i].requiredMileage;
+        }
+    }
+    
     private final String displayName;
     private final int requiredMileage;
     private final double mileageRate;
@@ -29,17 +45,14 @@ public enum MemberGrade {
         return mileageRate;
     }
     
+    /**
+     * 누적 마일리지에 해당하는 등급 (기준 마일리지 이상인 가장 높은 등급)
+     */
     public static MemberGrade getGradeByMileage(int totalMileage) {
-    	if(totalMileage >= VIP.requiredMileage) {
-    		return VIP;
-    	}else if (totalMileage >= DIAMOND.requiredMileage) {
-            return DIAMOND;
-        } else if (totalMileage >= GOLD.requiredMileage) {
-            return GOLD;
-        } else if (totalMileage >= SILVER.requiredMileage) {
-            return SILVER;
-        } else {
-            return BASIC;
+        int index = Arrays.binarySearch(THRESHOLDS, totalMileage);
+        if (index < 0) {
+            index = -index - 2;
         }
+        return index < 0 ? BY_THRESHOLD[0] : BY_THRESHOLD[index];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.airline.mileage.entity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 상태의 불변 스냅샷
+ * 영속성 컨텍스트 밖(이벤트, 캐시 등)에서 안전하게 공유하기 위해 사용
+ * version 은 만들 때마다 증가하는 값이다. 변경 후 스냅샷은 회원 행 잠금을 쥔 채 만들어지므로 같은 회원에서는
+ * 커밋 순서와 같은 순서가 되어, 커밋 후 이벤트가 뒤바뀌어 도착해도 오래된 것을 가려낼 수 있다.
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String name,
+        String phone,
+        MemberGrade grade,
+        int totalMileage,
+        int availableMileage,
+        boolean deleted,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version) {
+    
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    
+    public MemberSnapshot(Long id, String email, String name, String phone, MemberGrade grade,
+                          int totalMileage, int availableMileage, boolean deleted,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, email, name, phone, grade, totalMileage, availableMileage, deleted, createdAt, updatedAt,
+            nextVersion());
+    }
+    
+    /**
+     * 다음 스냅샷 버전 (스냅샷 없이 바뀌는 변경, 예: 탈퇴의 순서 표시용)
+     */
+    public static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+    
+    public static MemberSnapshot of(Member member) {
+        return new MemberSnapshot(
+            member.getId(),
+            member.getEmail(),
+            member.getName(),
+            member.getPhone(),
+            member.getGrade(),
+            member.getTotalMileage(),
+            member.getAvailableMileage(),
+            member.isDeleted(),
+            member.getCreatedAt(),
+            member.getUpdatedAt()
+        );
+    }
+    
+    public MemberSnapshot withMileage(MemberGrade grade, int totalMileage, int availableMileage) {
+        return new MemberSnapshot(id, email, name, phone, grade, totalMileage, availableMileage,
+            deleted, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,69 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 적립 단위 마일리지 (유효기간이 있는 lot)
+ * 사용은 소멸일이 빠른 lot 부터 차감(FIFO)하고, 소멸일이 지난 잔여분은 소멸 스윕이 만료 처리한다.
+ * 회원의 availableMileage 는 열린 lot 잔여 합계 + lot 도입 이전의 소멸 없는 잔액이다.
+ * lot 의 잔여/상태 변경은 항상 회원 행 잠금을 잡은 트랜잭션에서만 한다.
+ */
+@Entity
+@Table(name = "mileage_lots", indexes = {
+    // 소멸 스윕: 소멸일 버킷 범위 스캔 (닫힌 lot 은 null 이라 범위에 포함되지 않음)
+    @Index(name = "idx_mileage_lots_expiry_bucket", columnList = "expiry_bucket, id"),
+    // 사용 차감: 회원의 열린 lot 을 소멸일 순으로
+    @Index(name = "idx_mileage_lots_member_bucket", columnList = "member_id, expiry_bucket, id")
+})
+public class MileageLot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+    
+    // 적립 마일리지
+    @Column(nullable = false, updatable = false)
+    private Integer amount;
+    
+    // 남은 마일리지
+    @Column(nullable = false)
+    private Integer remaining;
+    
+    @Column(name = "earned_at", nullable = false, updatable = false)
+    private LocalDateTime earnedAt;
+    
+    @Column(name = "expires_on", nullable = false, updatable = false)
+    private LocalDate expiresOn;
+    
+    // 잔여가 있는 동안은 expiresOn 과 같고, 소진/소멸되면 null
+    @Column(name = "expiry_bucket")
+    private LocalDate expiryBucket;
+    
+    protected MileageLot() {}
+    
+    public Long getId() { return id; }
+    public Long getMemberId() { return memberId; }
+    public Integer getAmount() { return amount; }
+    public Integer getRemaining() { return remaining; }
+    public LocalDateTime getEarnedAt() { return earnedAt; }
+    public LocalDate getExpiresOn() { return expiresOn; }
+    public LocalDate getExpiryBucket() { return expiryBucket; }
+    
+    @Override
+    public String toString() {
+        return "MileageLot{" +
+                "id=" + id +
+                ", memberId=" + memberId +
+                ", amount=" + amount +
+                ", remaining=" + remaining +
+                ", earnedAt=" + earnedAt +
+                ", expiresOn=" + expiresOn +
+                '}';
+    }
+}
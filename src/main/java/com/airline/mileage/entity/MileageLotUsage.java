@@ -0,0 +1,46 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 원장 기록(사용/소멸)이 어느 lot 에서 얼마를 차감했는지
+ */
+@Entity
+@Immutable
+@Table(name = "mileage_lot_usages", indexes = {
+    @Index(name = "idx_mileage_lot_usages_transaction", columnList = "transaction_id"),
+    @Index(name = "idx_mileage_lot_usages_lot", columnList = "lot_id")
+})
+public class MileageLotUsage {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "transaction_id", nullable = false, updatable = false)
+    private Long transactionId;
+    
+    @Column(name = "lot_id", nullable = false, updatable = false)
+    private Long lotId;
+    
+    @Column(nullable = false, updatable = false)
+    private Integer amount;
+    
+    protected MileageLotUsage() {}
+    
+    public Long getId() { return id; }
+    public Long getTransactionId() { return transactionId; }
+    public Long getLotId() { return lotId; }
+    public Integer getAmount() { return amount; }
+    
+    @Override
+    public String toString() {
+        return "MileageLotUsage{" +
+                "id=" + id +
+                ", transactionId=" + transactionId +
+                ", lotId=" + lotId +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package com.airline.mileage.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 변경 이력 (추가만 가능한 원장)
+ * IDENTITY 가 아닌 pooled 시퀀스로 id 를 미리 할당하므로 JDBC 배치 INSERT 가 가능하다.
+ */
+@Entity
+@Immutable
+@Table(name = "mileage_transactions",
+       indexes = @Index(name = "idx_mileage_tx_member_created", columnList = "member_id, created_at"))
+public class MileageTransaction {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mileage_transaction_seq")
+    @SequenceGenerator(name = "mileage_transaction_seq", sequenceName = "mileage_transaction_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private MileageTransactionType type;
+    
+    // 적립은 양수, 사용/소멸은 음수
+    @Column(nullable = false, updatable = false)
+    private Integer delta;
+    
+    @Column(updatable = false)
+    private String reason;
+    
+    @Column(nullable = false, updatable = false)
+    private Integer balanceAfter;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    protected MileageTransaction() {}
+    
+    public MileageTransaction(Long memberId, MileageTransactionType type, Integer delta,
+                              String reason, Integer balanceAfter) {
+        this.memberId = memberId;
+        this.type = type;
+        this.delta = delta;
+        this.reason = reason;
+        this.balanceAfter = balanceAfter;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public Long getId() { return id; }
+    public Long getMemberId() { return memberId; }
+    public MileageTransactionType getType() { return type; }
+    public Integer getDelta() { return delta; }
+    public String getReason() { return reason; }
+    public Integer getBalanceAfter() { return balanceAfter; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    
+    @Override
+    public String toString() {
+        return "MileageTransaction{" +
+                "id=" + id +
+                ", memberId=" + memberId +
+                ", type=" + type +
+                ", delta=" + delta +
+                ", reason='" + reason + '\'' +
+                ", balanceAfter=" + balanceAfter +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
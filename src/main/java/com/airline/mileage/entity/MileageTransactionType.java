@@ -0,0 +1,19 @@
+package com.airline.mileage.entity;
+
+public enum MileageTransactionType {
+    ADD("적립"),
+    USE("사용"),
+    EXPIRE("소멸"),
+    TRANSFER_OUT("양도"),
+    TRANSFER_IN("양수");
+    
+    private final String displayName;
+    
+    MileageTransactionType(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,47 @@
+package com.airline.mileage.event;
+
+import com.airline.mileage.entity.MemberSnapshot;
+
+/**
+ * 회원 변경 이벤트
+ * before 는 변경 전 상태(가입 시 null), after 는 변경 후 상태(삭제 시 null)
+ */
+public record MemberChangedEvent(Type type, MemberSnapshot before, MemberSnapshot after) {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        MILEAGE_CHANGED,
+        GRADE_CHANGED,
+        RESTORED
+    }
+    
+    public static MemberChangedEvent created(MemberSnapshot after) {
+        return new MemberChangedEvent(Type.CREATED, null, after);
+    }
+    
+    public static MemberChangedEvent updated(MemberSnapshot before, MemberSnapshot after) {
+        return new MemberChangedEvent(Type.UPDATED, before, after);
+    }
+    
+    public static MemberChangedEvent deleted(MemberSnapshot before) {
+        return new MemberChangedEvent(Type.DELETED, before, null);
+    }
+    
+    public static MemberChangedEvent mileageChanged(MemberSnapshot before, MemberSnapshot after) {
+        return new MemberChangedEvent(Type.MILEAGE_CHANGED, before, after);
+    }
+    
+    public static MemberChangedEvent gradeChanged(MemberSnapshot before, MemberSnapshot after) {
+        return new MemberChangedEvent(Type.GRADE_CHANGED, before, after);
+    }
+    
+    public static MemberChangedEvent restored(MemberSnapshot before, MemberSnapshot after) {
+        return new MemberChangedEvent(Type.RESTORED, before, after);
+    }
+    
+    public Long memberId() {
+        return after != null ? after.id() : before.id();
+    }
+}
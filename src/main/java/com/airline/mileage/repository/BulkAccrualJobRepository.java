@@ -0,0 +1,20 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.BulkAccrualJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BulkAccrualJobRepository extends JpaRepository<BulkAccrualJob, String> {
+    
+    // 청크 커밋 시 진행 상태 행 잠금 (동시에 같은 작업을 진행하지 못하도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM BulkAccrualJob j WHERE j.jobId = :jobId")
+    Optional<BulkAccrualJob> findByIdForUpdate(@Param("jobId") String jobId);
+}
@@ -0,0 +1,10 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 등급/탈퇴 여부별 회원 수와 마일리지 합계
+ */
+public record MemberAggregateView(MemberGrade grade, boolean deleted, long members,
+                                  long totalMileage, long availableMileage) {
+}
@@ -0,0 +1,9 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 등급 재평가용 회원 정보 (id, 누적 마일리지, 등급, 탈퇴 여부)
+ */
+public record MemberGradeView(long id, int totalMileage, MemberGrade grade, boolean deleted) {
+}
@@ -0,0 +1,9 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 랭킹 계산용 최소 컬럼 프로젝션 (엔티티를 만들지 않음)
+ */
+public record MemberMileageView(Long id, Integer totalMileage, MemberGrade grade) {
+}
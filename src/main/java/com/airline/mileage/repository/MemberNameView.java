@@ -0,0 +1,7 @@
+package com.airline.mileage.repository;
+
+/**
+ * 이름 검색 색인 재구성용 (id, 이름)
+ */
+public record MemberNameView(Long id, String name) {
+}
@@ -2,28 +2,103 @@ package com.airline.mileage.repository;
 
 import com.airline.mileage.entity.Member;
 import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+    
+    /** 스트리밍 조회 시 한 번에 가져올 행 수 */
+    String STREAM_FETCH_SIZE = "1000";
+    
+    /**
+     * 목록/검색 응답용 프로젝션 (비밀번호 제외)
+     * 불변 스냅샷으로 바로 읽으므로 엔티티를 만들거나 영속성 컨텍스트에 올리지 않는다 (변경 감지 없음).
+     */
+    String SNAPSHOT_SELECT = "SELECT new com.airline.mileage.entity.MemberSnapshot(m.id, m.email, m.name, m.phone, "
+        + "m.grade, m.totalMileage, m.availableMileage, m.deleted, m.createdAt, m.updatedAt) FROM Member m ";
     
     Optional<Member> findByEmail(String email);
     boolean existsByEmail(String email);
     List<Member> findByGrade(MemberGrade grade);
     List<Member> findByNameContaining(String name);
     
+    // 이메일 → id (이메일 유니크 인덱스만 읽음, 삭제 여부는 id 로 회원을 읽을 때 걸러짐)
+    @Query(value = "SELECT id FROM members WHERE email = :email", nativeQuery = true)
+    Optional<Long> findIdByEmail(@Param("email") String email);
+    
     @Query("SELECT m FROM Member m WHERE m.email = :email")
     Optional<Member> findByEmailIncludingDeleted(@Param("email") String email);
     
     @Query("SELECT m FROM Member m")
     List<Member> findAllIncludingDeleted();
     
+    // 삭제/보관된 회원 포함 이메일 사용 건수 (보관된 이메일도 재사용하지 않음, @Where 우회를 위해 native)
+    @Query(value = "SELECT (SELECT COUNT(*) FROM members WHERE email = :email) "
+        + "+ (SELECT COUNT(*) FROM members_archive WHERE email = :email)", nativeQuery = true)
+    long countByEmailIncludingDeleted(@Param("email") String email);
+    
+    // 삭제/보관된 회원 포함, 주어진 이메일 중 이미 사용 중인 것 (대량 가입 청크당 한 번)
+    @Query(value = "SELECT email FROM members WHERE email IN (:emails) "
+        + "UNION ALL SELECT email FROM members_archive WHERE email IN (:emails)", nativeQuery = true)
+    List<String> findExistingEmailsIncludingDeleted(@Param("emails") Collection<String> emails);
+    
+    // 삭제/보관된 회원 포함 전체 회원 수
+    @Query(value = "SELECT (SELECT COUNT(*) FROM members) + (SELECT COUNT(*) FROM members_archive)",
+        nativeQuery = true)
+    long countIncludingDeleted();
+    
+    // 삭제/보관된 회원 포함 전체 이메일 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = "SELECT email FROM members UNION ALL SELECT email FROM members_archive", nativeQuery = true)
+    Stream<String> streamAllEmailsIncludingDeleted();
+    
+    // 커서(id) 이후 활성 회원 조회 - OFFSET 없이 PK 인덱스 범위 스캔
+    @Query(SNAPSHOT_SELECT + "WHERE m.id > :cursor ORDER BY m.id ASC")
+    List<MemberSnapshot> findSnapshotsAfter(@Param("cursor") Long cursor, Limit limit);
+    
+    // 전체 활성 회원 스트리밍 (forward-only 커서)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SNAPSHOT_SELECT + "ORDER BY m.id")
+    Stream<MemberSnapshot> streamSnapshots();
+    
+    // id 목록으로 활성 회원 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(SNAPSHOT_SELECT + "WHERE m.id IN :ids")
+    List<MemberSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 등급별 활성 회원 조회
+    @Query(SNAPSHOT_SELECT + "WHERE m.grade = :grade")
+    List<MemberSnapshot> findSnapshotsByGrade(@Param("grade") MemberGrade grade);
+    
+    // 랭킹 재구성용 (id, 누적 마일리지, 등급)만 스트리밍
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.airline.mileage.repository.MemberMileageView(m.id, m.totalMileage, m.grade) FROM Member m")
+    Stream<MemberMileageView> streamMileageViews();
+    
+    // 이름 검색 색인 재구성용 (id, 이름)만 스트리밍
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.airline.mileage.repository.MemberNameView(m.id, m.name) FROM Member m")
+    Stream<MemberNameView> streamNameViews();
+    
     // 삭제된 회원만 조회
     @Query("SELECT m FROM Member m WHERE m.deleted = true")
     List<Member> findDeletedMembers();
@@ -40,12 +115,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.grade = :grade AND m.deleted = false")
     List<Member> findActiveByGrade(@Param("grade") MemberGrade grade);
     
-    // 마일리지 범위로 활성 회원 검색
-    @Query("SELECT m FROM Member m WHERE m.totalMileage BETWEEN :minMileage AND :maxMileage AND m.deleted = false")
-    List<Member> findActiveByMileageRange(@Param("minMileage") Integer minMileage, 
-                                         @Param("maxMileage") Integer maxMileage);
+    // 마일리지 범위 내 활성 회원을 (마일리지, id) 커서 이후부터 조회
+    // 범위 시작을 커서 마일리지로 좁혀 (deleted, total_mileage, id) 인덱스에서 바로 이어 읽음
+    @Query(SNAPSHOT_SELECT + "WHERE m.deleted = false " +
+           "AND m.totalMileage BETWEEN :cursorMileage AND :maxMileage " +
+           "AND (m.totalMileage > :cursorMileage OR m.id > :cursorId) " +
+           "ORDER BY m.totalMileage ASC, m.id ASC")
+    List<MemberSnapshot> findActiveSnapshotsByMileageRangeAfter(@Param("cursorMileage") Integer cursorMileage,
+                                                             @Param("cursorId") Long cursorId,
+                                                             @Param("maxMileage") Integer maxMileage,
+                                                             Limit limit);
     
-    // 상위 마일리지 활성 회원 조회
-    @Query("SELECT m FROM Member m WHERE m.deleted = false ORDER BY m.totalMileage DESC")
-    List<Member> findTop10ActiveByOrderByTotalMileageDesc();
+    // 마일리지 범위 내 활성 회원 수 (인덱스만으로 처리)
+    @Query("SELECT COUNT(m) FROM Member m WHERE m.deleted = false " +
+           "AND m.totalMileage BETWEEN :minMileage AND :maxMileage")
+    long countActiveByMileageRange(@Param("minMileage") Integer minMileage,
+                                   @Param("maxMileage") Integer maxMileage);
 }
\ No newline at end of file
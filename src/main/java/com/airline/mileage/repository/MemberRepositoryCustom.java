@@ -0,0 +1,118 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 UPDATE 문으로 처리하는 마일리지 변경 (조회-수정-저장 경쟁 조건 없음)
+ */
+public interface MemberRepositoryCustom {
+    
+    /**
+     * 마일리지 적립 및 등급 재계산
+     * @return 활성 회원이 없으면 false
+     */
+    boolean addMileageAtomically(Long memberId, int mileage);
+    
+    /**
+     * 잔액이 충분할 때만 마일리지 차감
+     * @return 회원이 없거나 잔액이 부족하면 false
+     */
+    boolean useMileageAtomically(Long memberId, int mileage);
+    
+    /**
+     * 회원별 적립 합계를 JDBC 배치 UPDATE 로 반영 (회원당 한 문장, 등급은 회원당 한 번 재계산)
+     * 드라이버에 따라 배치 결과 건수를 알 수 없으므로 반영 여부는 호출 쪽에서 다시 조회해 확인한다.
+     */
+    void addMileageBatch(Map<Long, Integer> mileageByMember);
+    
+    /**
+     * 회원별 마일리지를 사용 가능 잔액에만 더함 (양도 수령용, 누적 마일리지/등급은 그대로)
+     */
+    void creditAvailableBatch(Map<Long, Integer> mileageByMember);
+    
+    /**
+     * 등급/탈퇴 여부별 회원 수, 누적/사용 가능 마일리지 합계 (삭제된 회원 포함, GROUP BY 한 번)
+     * 보관된 회원(members_archive)도 탈퇴 회원으로 센다.
+     */
+    List<MemberAggregateView> aggregateByGradeIncludingDeleted();
+    
+    /**
+     * 활성 회원의 누적 마일리지 구간별 회원 수
+     * @param lowerBounds 오름차순 구간 하한 (첫 값 이하도 첫 구간에 포함)
+     * @return 구간별 회원 수 (lowerBounds 와 같은 길이)
+     */
+    long[] countActiveByMileageBuckets(int[] lowerBounds);
+    
+    /**
+     * 활성 회원 id 의 최소/최대값
+     * @return {min, max}, 활성 회원이 없으면 null
+     */
+    long[] findActiveIdBounds();
+    
+    /**
+     * (afterId, toId) 구간 회원을 id 순으로 조회 (잠금 없음, 탈퇴 회원 포함)
+     * deleted 조건을 걸면 (deleted, total_mileage, id) 인덱스를 타고 정렬하게 되므로
+     * PK 범위 스캔을 유지하기 위해 탈퇴 회원은 호출 쪽에서 거른다.
+     */
+    List<MemberGradeView> findGradeViews(long afterId, long toId, int limit);
+    
+    /**
+     * 활성 회원을 행 잠금(FOR UPDATE)으로 다시 읽어 스냅샷으로 반환 (트랜잭션 안에서 호출)
+     */
+    List<MemberSnapshot> lockActiveSnapshots(Collection<Long> ids);
+    
+    /**
+     * 탈퇴 회원을 포함해 행 잠금(FOR UPDATE)으로 읽어 스냅샷으로 반환 (id 순으로 잠금, 트랜잭션 안에서 호출)
+     */
+    List<MemberSnapshot> lockSnapshots(Collection<Long> ids);
+    
+    /**
+     * 보관된 회원(members_archive)을 행 잠금으로 읽어 탈퇴 상태 스냅샷으로 반환 (id 순으로 잠금, 트랜잭션 안에서 호출)
+     */
+    List<MemberSnapshot> lockArchivedSnapshots(Collection<Long> ids);
+    
+    /**
+     * 회원별 마일리지를 사용 가능 잔액에서 차감 (소멸 처리용, 탈퇴 회원 포함, 누적 마일리지/등급은 그대로)
+     */
+    void deductMileageBatch(Map<Long, Integer> mileageByMember);
+    
+    /**
+     * 보관된 회원별 마일리지를 보관 행의 사용 가능 잔액에서 차감 (소멸 처리용)
+     */
+    void deductArchivedMileageBatch(Map<Long, Integer> mileageByMember);
+    
+    /**
+     * 여러 회원의 등급을 한 문장으로 변경 (UPDATE ... WHERE id IN (...))
+     */
+    int updateGrades(MemberGrade grade, Collection<Long> ids);
+    
+    /**
+     * deletedBefore 이전에 탈퇴한 회원 id 를 최대 limit 개 행 잠금 (보관 배치, 트랜잭션 안에서 호출)
+     * 잠근 회원은 배치가 커밋될 때까지 복구할 수 없다.
+     */
+    List<Long> lockArchivableIds(LocalDateTime deletedBefore, int limit);
+    
+    /**
+     * 잠근 탈퇴 회원을 members_archive 로 옮기고 members 에서 삭제 (INSERT ... SELECT, DELETE 각 한 문장)
+     * @return 옮긴 회원 수
+     */
+    int moveToArchive(Collection<Long> ids);
+    
+    /**
+     * 탈퇴(soft delete) 상태를 해제
+     * @return 탈퇴 회원이 아니면 false
+     */
+    boolean undelete(Long id);
+    
+    /**
+     * 보관된 회원을 같은 id 의 활성 회원으로 members 에 되돌리고 보관 행 삭제 (트랜잭션 안에서 호출)
+     * @return 보관 당시 상태 (탈퇴), 보관된 회원이 아니면 null
+     */
+    MemberSnapshot restoreFromArchive(Long id);
+}
@@ -0,0 +1,328 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+    
+    // MySQL 은 SET 을 왼쪽부터 적용해 뒤 항목이 바뀐 값을 읽으므로, grade 는 total_mileage 보다 먼저 계산해야 한다
+    private static final String ADD_MILEAGE_SQL =
+        "UPDATE members SET " +
+        "grade = " + gradeCase("total_mileage + :mileage") + ", " +
+        "total_mileage = total_mileage + :mileage, " +
+        "available_mileage = available_mileage + :mileage, " +
+        "updated_at = :now " +
+        "WHERE id = :id AND deleted = false";
+    
+    private static final String USE_MILEAGE_SQL =
+        "UPDATE members SET " +
+        "available_mileage = available_mileage - :mileage, " +
+        "updated_at = :now " +
+        "WHERE id = :id AND deleted = false AND available_mileage >= :mileage";
+    
+    private static final String CREDIT_AVAILABLE_SQL =
+        "UPDATE members SET " +
+        "available_mileage = available_mileage + :mileage, " +
+        "updated_at = :now " +
+        "WHERE id = :id AND deleted = false";
+    
+    private static final String AGGREGATE_BY_GRADE_SQL =
+        "SELECT grade, deleted, COUNT(*) AS members, " +
+        "COALESCE(SUM(total_mileage), 0) AS total_mileage, " +
+        "COALESCE(SUM(available_mileage), 0) AS available_mileage " +
+        "FROM members GROUP BY grade, deleted " +
+        "UNION ALL SELECT grade, TRUE AS deleted, COUNT(*) AS members, " +
+        "COALESCE(SUM(total_mileage), 0) AS total_mileage, " +
+        "COALESCE(SUM(available_mileage), 0) AS available_mileage " +
+        "FROM members_archive GROUP BY grade";
+    
+    private static final String ACTIVE_ID_BOUNDS_SQL =
+        "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM members WHERE deleted = false";
+    
+    private static final String GRADE_VIEWS_SQL =
+        "SELECT id, total_mileage, grade, deleted FROM members " +
+        "WHERE id > :afterId AND id < :toId ORDER BY id LIMIT :limit";
+    
+    private static final String LOCK_ACTIVE_SNAPSHOTS_SQL =
+        "SELECT id, email, name, phone, grade, total_mileage, available_mileage, deleted, created_at, updated_at " +
+        "FROM members WHERE id IN (:ids) AND deleted = false ORDER BY id FOR UPDATE";
+    
+    private static final String LOCK_SNAPSHOTS_SQL =
+        "SELECT id, email, name, phone, grade, total_mileage, available_mileage, deleted, created_at, updated_at " +
+        "FROM members WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    
+    private static final String DEDUCT_MILEAGE_SQL =
+        "UPDATE members SET available_mileage = available_mileage - :mileage, updated_at = :now WHERE id = :id";
+    
+    private static final String DEDUCT_ARCHIVED_MILEAGE_SQL =
+        "UPDATE members_archive SET available_mileage = available_mileage - :mileage, updated_at = :now WHERE id = :id";
+    
+    private static final String UPDATE_GRADES_SQL =
+        "UPDATE members SET grade = :grade, updated_at = :now WHERE id IN (:ids)";
+    
+    private static final String MEMBER_COLUMNS =
+        "id, email, password, name, phone, grade, total_mileage, available_mileage, created_at, updated_at";
+    
+    // (deleted, deleted_at) 인덱스 범위를 앞에서부터 limit 개만 읽는다 (ORDER BY 를 붙이면 범위 전체를 정렬).
+    // 옮긴 행은 사라지므로 커서 없이 다음 배치를 다시 앞에서 읽는다.
+    private static final String LOCK_ARCHIVABLE_IDS_SQL =
+        "SELECT id FROM members WHERE deleted = true AND deleted_at < :deletedBefore LIMIT :limit FOR UPDATE";
+    
+    private static final String COPY_TO_ARCHIVE_SQL =
+        "INSERT INTO members_archive (" + MEMBER_COLUMNS + ", deleted_at, archived_at) " +
+        "SELECT " + MEMBER_COLUMNS + ", deleted_at, :now FROM members WHERE id IN (:ids) AND deleted = true";
+    
+    private static final String DELETE_ARCHIVED_SQL =
+        "DELETE FROM members WHERE id IN (:ids) AND deleted = true";
+    
+    private static final String UNDELETE_SQL =
+        "UPDATE members SET deleted = false, deleted_at = NULL, updated_at = :now WHERE id = :id AND deleted = true";
+    
+    private static final String LOCK_ARCHIVED_SQL =
+        "SELECT id, email, name, phone, grade, total_mileage, available_mileage, TRUE AS deleted, " +
+        "created_at, updated_at FROM members_archive WHERE id = :id FOR UPDATE";
+    
+    private static final String LOCK_ARCHIVED_SNAPSHOTS_SQL =
+        "SELECT id, email, name, phone, grade, total_mileage, available_mileage, TRUE AS deleted, " +
+        "created_at, updated_at FROM members_archive WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    
+    private static final String COPY_FROM_ARCHIVE_SQL =
+        "INSERT INTO members (id, email, password, name, phone, grade, total_mileage, available_mileage, " +
+        "deleted, deleted_at, created_at, updated_at) " +
+        "SELECT id, email, password, name, phone, grade, total_mileage, available_mileage, " +
+        "false, NULL, created_at, :now FROM members_archive WHERE id = :id";
+    
+    private static final String DELETE_FROM_ARCHIVE_SQL = "DELETE FROM members_archive WHERE id = :id";
+    
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public boolean addMileageAtomically(Long memberId, int mileage) {
+        return jdbcTemplate.update(ADD_MILEAGE_SQL, params(memberId, mileage)) == 1;
+    }
+    
+    @Override
+    public boolean useMileageAtomically(Long memberId, int mileage) {
+        return jdbcTemplate.update(USE_MILEAGE_SQL, params(memberId, mileage)) == 1;
+    }
+    
+    @Override
+    public void addMileageBatch(Map<Long, Integer> mileageByMember) {
+        if (mileageByMember.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[mileageByMember.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : mileageByMember.entrySet()) {
+            batch[i++] = params(entry.getKey(), entry.getValue());
+        }
+        jdbcTemplate.batchUpdate(ADD_MILEAGE_SQL, batch);
+    }
+    
+    @Override
+    public List<MemberAggregateView> aggregateByGradeIncludingDeleted() {
+        return jdbcTemplate.query(AGGREGATE_BY_GRADE_SQL, (rs, rowNum) -> new MemberAggregateView(
+            MemberGrade.valueOf(rs.getString("grade")),
+            rs.getBoolean("deleted"),
+            rs.getLong("members"),
+            rs.getLong("total_mileage"),
+            rs.getLong("available_mileage")));
+    }
+    
+    @Override
+    public long[] countActiveByMileageBuckets(int[] lowerBounds) {
+        StringBuilder bucket = new StringBuilder("CASE");
+        for (int i = lowerBounds.length - 1; i > 0; i--) {
+            bucket.append(" WHEN total_mileage >= ").append(lowerBounds[i]).append(" THEN ").append(i);
+        }
+        bucket.append(" ELSE 0 END");
+        String sql = "SELECT bucket, COUNT(*) AS members FROM (SELECT " + bucket + " AS bucket " +
+            "FROM members WHERE deleted = false) b GROUP BY bucket";
+        
+        long[] counts = new long[lowerBounds.length];
+        jdbcTemplate.query(sql, rs -> {
+            counts[rs.getInt("bucket")] = rs.getLong("members");
+        });
+        return counts;
+    }
+    
+    @Override
+    public long[] findActiveIdBounds() {
+        return jdbcTemplate.query(ACTIVE_ID_BOUNDS_SQL, rs -> {
+            rs.next();
+            long max = rs.getLong("max_id");
+            return rs.wasNull() ? null : new long[] {rs.getLong("min_id"), max};
+        });
+    }
+    
+    @Override
+    public List<MemberGradeView> findGradeViews(long afterId, long toId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("toId", toId)
+            .addValue("limit", limit);
+        return jdbcTemplate.query(GRADE_VIEWS_SQL, params, (rs, rowNum) -> new MemberGradeView(
+            rs.getLong("id"), rs.getInt("total_mileage"), MemberGrade.valueOf(rs.getString("grade")),
+            rs.getBoolean("deleted")));
+    }
+    
+    @Override
+    public List<MemberSnapshot> lockActiveSnapshots(Collection<Long> ids) {
+        return lockSnapshots(LOCK_ACTIVE_SNAPSHOTS_SQL, ids);
+    }
+    
+    @Override
+    public List<MemberSnapshot> lockSnapshots(Collection<Long> ids) {
+        return lockSnapshots(LOCK_SNAPSHOTS_SQL, ids);
+    }
+    
+    @Override
+    public List<MemberSnapshot> lockArchivedSnapshots(Collection<Long> ids) {
+        return lockSnapshots(LOCK_ARCHIVED_SNAPSHOTS_SQL, ids);
+    }
+    
+    private List<MemberSnapshot> lockSnapshots(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(sql, Map.of("ids", ids), MemberRepositoryImpl::snapshot);
+    }
+    
+    private static MemberSnapshot snapshot(ResultSet rs, int rowNum) throws SQLException {
+        return new MemberSnapshot(
+            rs.getLong("id"),
+            rs.getString("email"),
+            rs.getString("name"),
+            rs.getString("phone"),
+            MemberGrade.valueOf(rs.getString("grade")),
+            rs.getInt("total_mileage"),
+            rs.getInt("available_mileage"),
+            rs.getBoolean("deleted"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")));
+    }
+    
+    @Override
+    public void creditAvailableBatch(Map<Long, Integer> mileageByMember) {
+        updateBatch(CREDIT_AVAILABLE_SQL, mileageByMember);
+    }
+    
+    @Override
+    public void deductMileageBatch(Map<Long, Integer> mileageByMember) {
+        updateBatch(DEDUCT_MILEAGE_SQL, mileageByMember);
+    }
+    
+    @Override
+    public void deductArchivedMileageBatch(Map<Long, Integer> mileageByMember) {
+        updateBatch(DEDUCT_ARCHIVED_MILEAGE_SQL, mileageByMember);
+    }
+    
+    private void updateBatch(String sql, Map<Long, Integer> mileageByMember) {
+        if (mileageByMember.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[mileageByMember.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : mileageByMember.entrySet()) {
+            batch[i++] = params(entry.getKey(), entry.getValue());
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+    
+    @Override
+    public int updateGrades(MemberGrade grade, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("grade", grade.name())
+            .addValue("ids", ids)
+            .addValue("now", LocalDateTime.now());
+        return jdbcTemplate.update(UPDATE_GRADES_SQL, params);
+    }
+    
+    @Override
+    public List<Long> lockArchivableIds(LocalDateTime deletedBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("deletedBefore", deletedBefore)
+            .addValue("limit", limit);
+        return jdbcTemplate.queryForList(LOCK_ARCHIVABLE_IDS_SQL, params, Long.class);
+    }
+    
+    @Override
+    public int moveToArchive(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("now", LocalDateTime.now());
+        jdbcTemplate.update(COPY_TO_ARCHIVE_SQL, params);
+        return jdbcTemplate.update(DELETE_ARCHIVED_SQL, params);
+    }
+    
+    @Override
+    public boolean undelete(Long id) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("now", LocalDateTime.now());
+        return jdbcTemplate.update(UNDELETE_SQL, params) == 1;
+    }
+    
+    @Override
+    public MemberSnapshot restoreFromArchive(Long id) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("now", LocalDateTime.now());
+        List<MemberSnapshot> archived = jdbcTemplate.query(LOCK_ARCHIVED_SQL, params, MemberRepositoryImpl::snapshot);
+        if (archived.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.update(COPY_FROM_ARCHIVE_SQL, params);
+        jdbcTemplate.update(DELETE_FROM_ARCHIVE_SQL, params);
+        return archived.get(0);
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+    
+    private static MapSqlParameterSource params(Long memberId, int mileage) {
+        return new MapSqlParameterSource()
+            .addValue("id", memberId)
+            .addValue("mileage", mileage)
+            .addValue("now", LocalDateTime.now());
+    }
+    
+    /**
+     * MemberGrade 기준표로 만든 등급 CASE 식 (높은 등급부터 비교)
+     */
+    static String gradeCase(String totalMileageExpression) {
+        MemberGrade[] grades = MemberGrade.values().clone();
+        Arrays.sort(grades, Comparator.comparingInt(MemberGrade::getRequiredMileage).reversed());
+        
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int i = 0; i < grades.length - 1; i++) {
+            sql.append(" WHEN ").append(totalMileageExpression)
+               .append(" >= ").append(grades[i].getRequiredMileage())
+               .append(" THEN '").append(grades[i].name()).append('\'');
+        }
+        sql.append(" ELSE '").append(grades[grades.length - 1].name()).append("' END");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MileageLot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MileageLotRepository extends JpaRepository<MileageLot, Long>, MileageLotRepositoryCustom {
+    
+    // 회원의 열린 lot (소멸일 순, 차감 순서와 같음)
+    @Query("SELECT l FROM MileageLot l WHERE l.memberId = :memberId AND l.expiryBucket IS NOT NULL " +
+           "ORDER BY l.expiryBucket ASC, l.id ASC")
+    List<MileageLot> findOpenByMemberId(@Param("memberId") Long memberId);
+}
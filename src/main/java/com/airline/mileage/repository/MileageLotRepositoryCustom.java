@@ -0,0 +1,48 @@
+package com.airline.mileage.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * lot 적립/차감/소멸 (JDBC 배치, 호출 쪽에서 회원 행 잠금을 잡은 상태로 호출)
+ */
+public interface MileageLotRepositoryCustom {
+    
+    /**
+     * lot 생성 (회원 id → 적립 마일리지, 한 번의 배치 INSERT)
+     */
+    void insertLots(Map<Long, Integer> mileageByMember, LocalDateTime earnedAt, LocalDate expiresOn);
+    
+    /**
+     * 회원의 열린 lot 을 (소멸일, id) 커서 이후부터 소멸일 순으로 조회
+     */
+    List<MileageLotView> findOpenLots(Long memberId, LocalDate afterBucket, long afterId, int limit);
+    
+    /**
+     * lot 잔여 변경 (0 이 되면 닫음)
+     */
+    void updateRemaining(Map<Long, Integer> remainingByLot);
+    
+    /**
+     * 소멸일이 asOf 이하인 열린 lot (소멸일 버킷 인덱스 범위 스캔, 잠금 없음)
+     */
+    List<MileageLotView> findDueLots(LocalDate asOf, int limit);
+    
+    /**
+     * 주어진 lot 중 아직 열려 있고 소멸일이 asOf 이하인 lot 을 다시 조회 (회원 잠금 이후 최신 잔여 확인용)
+     */
+    List<MileageLotView> findDueLotsByIds(Collection<Long> ids, LocalDate asOf);
+    
+    /**
+     * lot 을 잔여 0 으로 닫음
+     */
+    int closeLots(Collection<Long> ids);
+    
+    /**
+     * 원장 기록별 lot 차감 내역 기록 (원장 id → (lot id → 차감 마일리지))
+     */
+    void insertUsages(Map<Long, Map<Long, Integer>> usagesByTransaction);
+}
@@ -0,0 +1,145 @@
+package com.airline.mileage.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class MileageLotRepositoryImpl implements MileageLotRepositoryCustom {
+    
+    private static final String INSERT_LOT_SQL =
+        "INSERT INTO mileage_lots (member_id, amount, remaining, earned_at, expires_on, expiry_bucket) " +
+        "VALUES (:memberId, :amount, :amount, :earnedAt, :expiresOn, :expiresOn)";
+    
+    private static final String OPEN_LOTS_SQL =
+        "SELECT id, member_id, remaining, expiry_bucket FROM mileage_lots " +
+        "WHERE member_id = :memberId AND expiry_bucket IS NOT NULL " +
+        "ORDER BY expiry_bucket, id LIMIT :limit";
+    
+    private static final String OPEN_LOTS_AFTER_SQL =
+        "SELECT id, member_id, remaining, expiry_bucket FROM mileage_lots " +
+        "WHERE member_id = :memberId AND expiry_bucket >= :afterBucket " +
+        "AND (expiry_bucket > :afterBucket OR id > :afterId) " +
+        "ORDER BY expiry_bucket, id LIMIT :limit";
+    
+    private static final String UPDATE_REMAINING_SQL =
+        "UPDATE mileage_lots SET remaining = :remaining, " +
+        "expiry_bucket = CASE WHEN :remaining > 0 THEN expiry_bucket END " +
+        "WHERE id = :id";
+    
+    private static final String DUE_LOTS_SQL =
+        "SELECT id, member_id, remaining, expiry_bucket FROM mileage_lots " +
+        "WHERE expiry_bucket <= :asOf ORDER BY expiry_bucket, id LIMIT :limit";
+    
+    private static final String DUE_LOTS_BY_IDS_SQL =
+        "SELECT id, member_id, remaining, expiry_bucket FROM mileage_lots " +
+        "WHERE id IN (:ids) AND expiry_bucket <= :asOf ORDER BY id";
+    
+    private static final String CLOSE_LOTS_SQL =
+        "UPDATE mileage_lots SET remaining = 0, expiry_bucket = NULL WHERE id IN (:ids)";
+    
+    private static final String INSERT_USAGE_SQL =
+        "INSERT INTO mileage_lot_usages (transaction_id, lot_id, amount) VALUES (:transactionId, :lotId, :amount)";
+    
+    private static final RowMapper<MileageLotView> LOT_VIEW_MAPPER = (rs, rowNum) -> new MileageLotView(
+        rs.getLong("id"),
+        rs.getLong("member_id"),
+        rs.getInt("remaining"),
+        rs.getDate("expiry_bucket").toLocalDate());
+    
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertLots(Map<Long, Integer> mileageByMember, LocalDateTime earnedAt, LocalDate expiresOn) {
+        if (mileageByMember.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[mileageByMember.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : mileageByMember.entrySet()) {
+            batch[i++] = new MapSqlParameterSource()
+                .addValue("memberId", entry.getKey())
+                .addValue("amount", entry.getValue())
+                .addValue("earnedAt", earnedAt)
+                .addValue("expiresOn", Date.valueOf(expiresOn));
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOT_SQL, batch);
+    }
+    
+    @Override
+    public List<MileageLotView> findOpenLots(Long memberId, LocalDate afterBucket, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("memberId", memberId)
+            .addValue("limit", limit);
+        if (afterBucket == null) {
+            return jdbcTemplate.query(OPEN_LOTS_SQL, params, LOT_VIEW_MAPPER);
+        }
+        params.addValue("afterBucket", Date.valueOf(afterBucket)).addValue("afterId", afterId);
+        return jdbcTemplate.query(OPEN_LOTS_AFTER_SQL, params, LOT_VIEW_MAPPER);
+    }
+    
+    @Override
+    public void updateRemaining(Map<Long, Integer> remainingByLot) {
+        if (remainingByLot.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = new SqlParameterSource[remainingByLot.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : remainingByLot.entrySet()) {
+            batch[i++] = new MapSqlParameterSource()
+                .addValue("id", entry.getKey())
+                .addValue("remaining", entry.getValue());
+        }
+        jdbcTemplate.batchUpdate(UPDATE_REMAINING_SQL, batch);
+    }
+    
+    @Override
+    public List<MileageLotView> findDueLots(LocalDate asOf, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("asOf", Date.valueOf(asOf))
+            .addValue("limit", limit);
+        return jdbcTemplate.query(DUE_LOTS_SQL, params, LOT_VIEW_MAPPER);
+    }
+    
+    @Override
+    public List<MileageLotView> findDueLotsByIds(Collection<Long> ids, LocalDate asOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("asOf", Date.valueOf(asOf));
+        return jdbcTemplate.query(DUE_LOTS_BY_IDS_SQL, params, LOT_VIEW_MAPPER);
+    }
+    
+    @Override
+    public int closeLots(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(CLOSE_LOTS_SQL, Map.of("ids", ids));
+    }
+    
+    @Override
+    public void insertUsages(Map<Long, Map<Long, Integer>> usagesByTransaction) {
+        List<SqlParameterSource> batch = new ArrayList<>();
+        usagesByTransaction.forEach((transactionId, usages) -> usages.forEach((lotId, amount) ->
+            batch.add(new MapSqlParameterSource()
+                .addValue("transactionId", transactionId)
+                .addValue("lotId", lotId)
+                .addValue("amount", amount))));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USAGE_SQL, batch.toArray(new SqlParameterSource[0]));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.airline.mileage.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 차감/소멸 처리용 lot 정보 (id, 회원 id, 남은 마일리지, 소멸일 버킷)
+ */
+public record MileageLotView(long id, long memberId, int remaining, LocalDate expiryBucket) {
+}
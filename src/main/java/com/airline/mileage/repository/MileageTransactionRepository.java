@@ -0,0 +1,29 @@
+package com.airline.mileage.repository;
+
+import com.airline.mileage.entity.MileageTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MileageTransactionRepository extends JpaRepository<MileageTransaction, Long> {
+    
+    // 회원 이력 첫 페이지 (최신순, (member_id, created_at) 인덱스 사용)
+    @Query("SELECT t FROM MileageTransaction t WHERE t.memberId = :memberId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<MileageTransaction> findLatestByMemberId(@Param("memberId") Long memberId, Limit limit);
+    
+    // 커서 (createdAt, id) 이전 이력
+    @Query("SELECT t FROM MileageTransaction t WHERE t.memberId = :memberId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<MileageTransaction> findByMemberIdBefore(@Param("memberId") Long memberId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+}
@@ -0,0 +1,264 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.BulkAccrualErrorDto;
+import com.airline.mileage.dto.response.BulkAccrualResponseDto;
+import com.airline.mileage.entity.BulkAccrualJob;
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.repository.BulkAccrualJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대량 마일리지 적립 (항공편 정산)
+ * 입력을 청크 단위로 읽어 회원별로 묶은 뒤 MileageCreditWriter 로 반영하고,
+ * 청크마다 원장 기록과 작업 진행 상태를 같은 트랜잭션으로 커밋한다.
+ */
+@Service
+public class BulkMileageAccrualService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkMileageAccrualService.class);
+    private static final int MAX_REASON_LENGTH = 255;
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    @Autowired
+    private BulkAccrualJobRepository jobRepository;
+
+    @Autowired
+    private MileageCreditWriter creditWriter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${mileage.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${mileage.bulk.max-reported-errors:10000}")
+    private int maxReportedErrors;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 적립 입력 한 행 (파싱 실패 시 error 에 사유)
+     */
+    record AccrualRow(long line, Long memberId, Integer mileage, String reason, String error) {
+    }
+
+    /**
+     * 대량 적립 실행
+     * jobId 가 이미 있으면 마지막으로 커밋된 행 이후부터 이어서 처리한다.
+     */
+    public BulkAccrualResponseDto accrue(String jobId, Format format, InputStream body) throws IOException {
+        String id = (jobId == null || jobId.isBlank()) ? UUID.randomUUID().toString() : jobId;
+        if (!runningJobs.add(id)) {
+            throw new IllegalStateException("이미 실행 중인 작업입니다: " + id);
+        }
+
+        long started = System.nanoTime();
+        BulkAccrualResponseDto report = new BulkAccrualResponseDto();
+        report.setJobId(id);
+        try {
+            BulkAccrualJob job = transactionTemplate.execute(status ->
+                jobRepository.findById(id).orElseGet(() -> jobRepository.save(new BulkAccrualJob(id))));
+            if (job.getStatus() == BulkAccrualJob.Status.COMPLETED) {
+                report.setStatus(BulkAccrualJob.Status.COMPLETED);
+                report.setCommittedRows(job.getCommittedRows());
+                return report;
+            }
+
+            long resumeAfter = job.getCommittedRows();
+            report.setCommittedRows(resumeAfter);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            List<AccrualRow> chunk = new ArrayList<>(chunkSize);
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (text.isBlank() || (line == 0 && format == Format.CSV && isCsvHeader(text))) {
+                    continue;
+                }
+                line++;
+                if (line <= resumeAfter) {
+                    report.setSkippedRows(report.getSkippedRows() + 1);
+                    continue;
+                }
+                chunk.add(parse(format, line, text));
+                if (chunk.size() == chunkSize) {
+                    commitChunk(id, chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(id, chunk, report);
+            }
+
+            updateStatus(id, BulkAccrualJob.Status.COMPLETED);
+            report.setStatus(BulkAccrualJob.Status.COMPLETED);
+        } catch (DataAccessException e) {
+            log.error("대량 적립 실패 - jobId: {}, 마지막 커밋 행: {}", id, report.getCommittedRows(), e);
+            updateStatus(id, BulkAccrualJob.Status.FAILED);
+            report.setStatus(BulkAccrualJob.Status.FAILED);
+        } finally {
+            runningJobs.remove(id);
+            long elapsedNanos = System.nanoTime() - started;
+            long processed = report.getAppliedRows() + report.getFailedRows();
+            report.setElapsedMillis(elapsedNanos / 1_000_000);
+            report.setRowsPerSecond(elapsedNanos == 0 ? 0 : processed * 1_000_000_000.0 / elapsedNanos);
+        }
+        return report;
+    }
+
+    /**
+     * 한 청크를 하나의 트랜잭션으로 반영
+     */
+    private void commitChunk(String jobId, List<AccrualRow> chunk, BulkAccrualResponseDto report) {
+        long firstLine = chunk.get(0).line();
+        long lastLine = chunk.get(chunk.size() - 1).line();
+        List<BulkAccrualErrorDto> errors = new ArrayList<>();
+        long[] applied = new long[1];
+
+        transactionTemplate.executeWithoutResult(status -> {
+            BulkAccrualJob job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalStateException("작업을 찾을 수 없습니다: " + jobId));
+            if (job.getCommittedRows() != firstLine - 1) {
+                throw new IllegalStateException("다른 실행이 이미 작업을 진행했습니다: " + jobId);
+            }
+
+            // 회원별로 묶기 (입력 순서 유지)
+            Map<Long, List<AccrualRow>> rowsByMember = new LinkedHashMap<>();
+            for (AccrualRow row : chunk) {
+                String error = row.error() != null ? row.error() : validate(row);
+                if (error != null) {
+                    errors.add(new BulkAccrualErrorDto(row.line(), row.memberId(), error));
+                } else {
+                    rowsByMember.computeIfAbsent(row.memberId(), key -> new ArrayList<>()).add(row);
+                }
+            }
+            Map<Long, List<MileageCreditWriter.Credit>> credits = new LinkedHashMap<>();
+            rowsByMember.forEach((memberId, rows) -> credits.put(memberId, rows.stream()
+                .map(row -> new MileageCreditWriter.Credit(row.mileage(), row.reason()))
+                .toList()));
+            Map<Long, Member> updated = creditWriter.apply(credits);
+
+            for (Map.Entry<Long, List<AccrualRow>> entry : rowsByMember.entrySet()) {
+                if (updated.containsKey(entry.getKey())) {
+                    applied[0] += entry.getValue().size();
+                    continue;
+                }
+                for (AccrualRow row : entry.getValue()) {
+                    errors.add(new BulkAccrualErrorDto(row.line(), row.memberId(),
+                        "회원을 찾을 수 없습니다: " + row.memberId()));
+                }
+            }
+
+            job.advance(lastLine, applied[0], errors.size());
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        report.setCommittedRows(lastLine);
+        report.setAppliedRows(report.getAppliedRows() + applied[0]);
+        report.setFailedRows(report.getFailedRows() + errors.size());
+        report.setChunks(report.getChunks() + 1);
+        for (BulkAccrualErrorDto error : errors) {
+            if (report.getErrors().size() < maxReportedErrors) {
+                report.getErrors().add(error);
+            } else {
+                report.setErrorsTruncated(true);
+                break;
+            }
+        }
+    }
+
+    private void updateStatus(String jobId, BulkAccrualJob.Status status) {
+        transactionTemplate.executeWithoutResult(tx ->
+            jobRepository.findById(jobId).ifPresent(job -> job.setStatus(status)));
+    }
+
+    private static String validate(AccrualRow row) {
+        if (row.memberId() == null || row.memberId() <= 0) {
+            return "회원 ID가 올바르지 않습니다";
+        }
+        if (row.mileage() == null || row.mileage() < 1) {
+            return "마일리지는 1 이상이어야 합니다";
+        }
+        if (row.reason() != null && row.reason().length() > MAX_REASON_LENGTH) {
+            return "사유는 255자 이하여야 합니다";
+        }
+        return null;
+    }
+
+    private AccrualRow parse(Format format, long line, String text) {
+        try {
+            return format == Format.NDJSON ? parseJson(line, text) : parseCsv(line, text);
+        } catch (IOException | RuntimeException e) {
+            return new AccrualRow(line, null, null, null, "행을 해석할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * memberId,mileage,reason (reason 은 나머지 전체, 따옴표로 감싸도 됨)
+     */
+    private static AccrualRow parseCsv(long line, String text) {
+        String[] columns = text.split(",", 3);
+        if (columns.length < 2) {
+            return new AccrualRow(line, null, null, null, "열이 부족합니다 (memberId,mileage,reason)");
+        }
+        String reason = columns.length == 3 ? unquote(columns[2].trim()) : null;
+        return new AccrualRow(line, Long.valueOf(columns[0].trim()), Integer.valueOf(columns[1].trim()),
+            reason, null);
+    }
+
+    private AccrualRow parseJson(long line, String text) throws IOException {
+        JsonNode node = objectMapper.readTree(text);
+        JsonNode memberId = node.get("memberId");
+        JsonNode mileage = node.get("mileage");
+        JsonNode reason = node.get("reason");
+        return new AccrualRow(line,
+            memberId == null || memberId.isNull() ? null : memberId.asLong(),
+            mileage == null || mileage.isNull() ? null : mileage.asInt(),
+            reason == null || reason.isNull() ? null : reason.asText(),
+            null);
+    }
+
+    private static boolean isCsvHeader(String text) {
+        return text.trim().toLowerCase().startsWith("memberid");
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,193 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.EmailFilterStatsResponseDto;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.support.BloomFilter;
+import com.airline.mileage.support.ReplicaRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 존재 여부 확인용 Bloom 필터
+ * 필터가 "없음"이라고 하면 DB 를 조회하지 않고, "있을 수 있음"일 때만 DB 로 확인한다.
+ * 탈퇴(soft delete) 회원의 이메일도 unique 제약을 차지하므로 삭제 여부와 관계없이 모두 넣는다.
+ * Bloom 필터는 삭제가 안 되므로 이메일 변경 시 이전 이메일은 그대로 남고(오탐으로만 처리),
+ * 추가 건수가 용량을 넘으면 DB 에서 다시 만든다.
+ */
+@Service
+public class EmailExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailExistenceFilter.class);
+    private static final long MIN_CAPACITY = 1024;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${member.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Object lock = new Object();
+    private final List<String> pendingDuringRebuild = new ArrayList<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile BloomFilter filter;
+
+    private final AtomicLong definiteMisses = new AtomicLong();
+    private final AtomicLong databaseChecks = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * 시작 시 members.email 을 스트리밍으로 읽어 필터 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            BloomFilter fresh = transactionTemplate.execute(status -> {
+                long count = memberRepository.countIncludingDeleted();
+                BloomFilter built = new BloomFilter(Math.max(MIN_CAPACITY, count * 2), falsePositiveRate);
+                try (Stream<String> emails = memberRepository.streamAllEmailsIncludingDeleted()) {
+                    emails.forEach(email -> built.put(normalize(email)));
+                }
+                return built;
+            });
+
+            synchronized (lock) {
+                for (String email : pendingDuringRebuild) {
+                    fresh.put(email);
+                }
+                pendingDuringRebuild.clear();
+                filter = fresh;
+            }
+            log.info("이메일 필터 생성 완료: {}건, {}비트, 해시 {}개, {}ms", fresh.getInsertions(),
+                fresh.getBitSize(), fresh.getHashFunctions(), System.currentTimeMillis() - started);
+        } finally {
+            synchronized (lock) {
+                pendingDuringRebuild.clear();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 새 이메일 등록 (가입, 이메일 변경 시 저장 전에 호출)
+     */
+    public void put(String email) {
+        String key = normalize(email);
+        boolean full;
+        synchronized (lock) {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(key);
+            }
+            if (rebuilding.get()) {
+                pendingDuringRebuild.add(key);
+            }
+            full = current != null && current.getInsertions() > current.getCapacity();
+        }
+        if (full && !rebuilding.get()) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * 이메일 사용 여부 (탈퇴 회원 포함)
+     */
+    public boolean exists(String email) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(email))) {
+            definiteMisses.incrementAndGet();
+            return false;
+        }
+
+        databaseChecks.incrementAndGet();
+        boolean exists = memberRepository.countByEmailIncludingDeleted(email) > 0;
+        if (!exists && current != null) {
+            falsePositives.incrementAndGet();
+        }
+        return exists;
+    }
+
+    /**
+     * 이메일 목록 중 이미 사용 중인 것 (정규화한 값, 탈퇴 회원 포함)
+     * 필터가 "있을 수 있음"이라고 한 이메일만 모아 한 번의 IN 조회로 확인한다.
+     * 바로 앞 청크에서 가입한 이메일도 보이도록 primary 에서 조회한다.
+     */
+    public Set<String> findExisting(Collection<String> emails) {
+        BloomFilter current = filter;
+        List<String> candidates = new ArrayList<>();
+        for (String email : emails) {
+            if (current != null && !current.mightContain(normalize(email))) {
+                definiteMisses.incrementAndGet();
+            } else {
+                candidates.add(email);
+            }
+        }
+        Set<String> existing = new HashSet<>();
+        if (candidates.isEmpty()) {
+            return existing;
+        }
+        databaseChecks.addAndGet(candidates.size());
+        for (String email : ReplicaRouting.onPrimary(
+                () -> memberRepository.findExistingEmailsIncludingDeleted(candidates))) {
+            existing.add(normalize(email));
+        }
+        if (current != null) {
+            falsePositives.addAndGet(candidates.size() - existing.size());
+        }
+        return existing;
+    }
+
+    public EmailFilterStatsResponseDto getStats() {
+        EmailFilterStatsResponseDto stats = new EmailFilterStatsResponseDto();
+        BloomFilter current = filter;
+        stats.setReady(current != null);
+        if (current != null) {
+            stats.setCapacity(current.getCapacity());
+            stats.setBitSize(current.getBitSize());
+            stats.setHashFunctions(current.getHashFunctions());
+            stats.setInsertions(current.getInsertions());
+            stats.setExpectedFalsePositiveRate(current.expectedFalsePositiveRate());
+        }
+        long misses = definiteMisses.get();
+        long falseHits = falsePositives.get();
+        stats.setDefiniteMisses(misses);
+        stats.setDatabaseChecks(databaseChecks.get());
+        stats.setFalsePositives(falseHits);
+        // 실제로 없는 이메일 중 필터가 "있을 수 있음"이라고 답한 비율
+        stats.setObservedFalsePositiveRate(misses + falseHits == 0 ? 0.0 : (double) falseHits / (misses + falseHits));
+        return stats;
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,296 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.GradeReevaluationStatusResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberGradeView;
+import com.airline.mileage.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 전체 회원 등급 재평가
+ * 등급 기준(requiredMileage)을 바꾸거나 등급을 추가한 뒤 기존 회원을 다시 분류한다.
+ * 활성 회원 id 범위를 구간으로 나눠 fork-join 작업자가 병렬로 처리하며, 구간 안에서는
+ * 페이지 단위로 (id, 누적 마일리지, 등급)만 읽으므로 전체 회원을 메모리에 올리지 않는다.
+ * 등급이 바뀌는 회원만 행 잠금으로 다시 읽어 등급별 UPDATE ... WHERE id IN (...) 으로 반영하고
+ * 커밋 후 등급 변경 이벤트를 발행한다.
+ */
+@Service
+public class GradeReevaluationService {
+
+    private static final Logger log = LoggerFactory.getLogger(GradeReevaluationService.class);
+    private static final long PROGRESS_LOG_INTERVAL_MILLIS = 5_000;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${member.regrade.range-size:100000}")
+    private long rangeSize;
+
+    @Value("${member.regrade.page-size:1000}")
+    private int pageSize;
+
+    @Value("${member.regrade.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Job lastJob;
+
+    /**
+     * 진행 중인 재평가 작업 상태
+     */
+    private static final class Job {
+        final String jobId = UUID.randomUUID().toString();
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final long startedNanos = System.nanoTime();
+        final AtomicLong scannedRows = new AtomicLong();
+        final AtomicLong changedRows = new AtomicLong();
+        final AtomicLong completedRanges = new AtomicLong();
+        final AtomicLongArray changesByGrade = new AtomicLongArray(MemberGrade.values().length);
+        final AtomicLong lastLoggedAt = new AtomicLong(System.currentTimeMillis());
+        volatile Status status = Status.RUNNING;
+        volatile long totalRanges;
+        volatile long estimatedRows;
+        volatile long finishedNanos;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+    }
+
+    /**
+     * id 구간 [fromId, toId) 처리 작업 (구간 크기 이하가 될 때까지 반으로 나눔)
+     */
+    private final class RangeTask extends RecursiveAction {
+        private final Job job;
+        private final long fromId;
+        private final long toId;
+
+        RangeTask(Job job, long fromId, long toId) {
+            this.job = job;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected void compute() {
+            if (toId - fromId > rangeSize) {
+                long middle = fromId + (toId - fromId) / 2;
+                invokeAll(new RangeTask(job, fromId, middle), new RangeTask(job, middle, toId));
+                return;
+            }
+            processRange(job, fromId, toId);
+            job.completedRanges.incrementAndGet();
+            logProgress(job);
+        }
+    }
+
+    /**
+     * 백그라운드로 재평가 시작
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public GradeReevaluationStatusResponseDto start() {
+        Job job = begin();
+        Thread thread = new Thread(() -> execute(job), "grade-reevaluation");
+        thread.setDaemon(true);
+        thread.start();
+        return toDto(job);
+    }
+
+    /**
+     * 재평가를 호출한 스레드에서 끝까지 실행
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public GradeReevaluationStatusResponseDto reevaluate() {
+        Job job = begin();
+        execute(job);
+        return toDto(job);
+    }
+
+    /**
+     * 마지막(또는 진행 중인) 작업 상태
+     */
+    public GradeReevaluationStatusResponseDto getStatus() {
+        Job job = lastJob;
+        if (job == null) {
+            throw new IllegalArgumentException("실행한 등급 재평가 작업이 없습니다");
+        }
+        return toDto(job);
+    }
+
+    private Job begin() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("등급 재평가가 이미 실행 중입니다");
+        }
+        Job job = new Job();
+        lastJob = job;
+        return job;
+    }
+
+    private void execute(Job job) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            long[] bounds = memberRepository.findActiveIdBounds();
+            if (bounds != null) {
+                long fromId = bounds[0];
+                long toId = bounds[1] + 1;
+                job.estimatedRows = memberRepository.countActiveMembers();
+                job.totalRanges = countLeaves(toId - fromId);
+                log.info("등급 재평가 시작 - jobId: {}, 활성 회원 약 {}명, 구간 {}개, 병렬 {}",
+                    job.jobId, job.estimatedRows, job.totalRanges, pool.getParallelism());
+                pool.invoke(new RangeTask(job, fromId, toId));
+            }
+            job.status = Status.COMPLETED;
+        } catch (RuntimeException e) {
+            log.error("등급 재평가 실패 - jobId: {}", job.jobId, e);
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+        } finally {
+            pool.shutdown();
+            job.finishedNanos = System.nanoTime();
+            job.finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+        log.info("등급 재평가 종료 - jobId: {}, 상태: {}, 확인 {}건, 변경 {}건, {}ms", job.jobId, job.status,
+            job.scannedRows.get(), job.changedRows.get(), (job.finishedNanos - job.startedNanos) / 1_000_000);
+    }
+
+    /**
+     * 한 구간을 페이지 단위로 읽어 등급이 바뀌는 회원만 반영
+     */
+    private void processRange(Job job, long fromId, long toId) {
+        long afterId = fromId - 1;
+        while (true) {
+            List<MemberGradeView> page = memberRepository.findGradeViews(afterId, toId, pageSize);
+            if (page.isEmpty()) {
+                return;
+            }
+            List<Long> candidates = new ArrayList<>();
+            int active = 0;
+            for (MemberGradeView row : page) {
+                if (row.deleted()) {
+                    continue;
+                }
+                active++;
+                if (MemberGrade.getGradeByMileage(row.totalMileage()) != row.grade()) {
+                    candidates.add(row.id());
+                }
+            }
+            if (!candidates.isEmpty()) {
+                applyChanges(job, candidates);
+            }
+            job.scannedRows.addAndGet(active);
+            if (page.size() < pageSize) {
+                return;
+            }
+            afterId = page.get(page.size() - 1).id();
+        }
+    }
+
+    /**
+     * 후보 회원을 잠금 후 다시 읽어(그 사이 적립/사용 반영) 등급별로 한 문장씩 UPDATE
+     * 이벤트는 커밋 후 트랜잭션 밖에서 발행한다 (회원마다 트랜잭션 동기화를 등록하지 않도록).
+     */
+    private void applyChanges(Job job, List<Long> candidates) {
+        List<MemberChangedEvent> events = transactionTemplate.execute(status -> {
+            Map<MemberGrade, List<MemberSnapshot>> changes = new EnumMap<>(MemberGrade.class);
+            for (MemberSnapshot before : memberRepository.lockActiveSnapshots(candidates)) {
+                MemberGrade grade = MemberGrade.getGradeByMileage(before.totalMileage());
+                if (grade != before.grade()) {
+                    changes.computeIfAbsent(grade, key -> new ArrayList<>()).add(before);
+                }
+            }
+            List<MemberChangedEvent> changed = new ArrayList<>();
+            for (Map.Entry<MemberGrade, List<MemberSnapshot>> entry : changes.entrySet()) {
+                MemberGrade grade = entry.getKey();
+                memberRepository.updateGrades(grade, entry.getValue().stream().map(MemberSnapshot::id).toList());
+                for (MemberSnapshot before : entry.getValue()) {
+                    changed.add(MemberChangedEvent.gradeChanged(before,
+                        before.withMileage(grade, before.totalMileage(), before.availableMileage())));
+                }
+                job.changesByGrade.addAndGet(grade.ordinal(), entry.getValue().size());
+            }
+            return changed;
+        });
+        job.changedRows.addAndGet(events.size());
+        events.forEach(eventPublisher::publishEvent);
+    }
+
+    private void logProgress(Job job) {
+        long now = System.currentTimeMillis();
+        long last = job.lastLoggedAt.get();
+        if (now - last >= PROGRESS_LOG_INTERVAL_MILLIS && job.lastLoggedAt.compareAndSet(last, now)) {
+            GradeReevaluationStatusResponseDto status = toDto(job);
+            log.info("등급 재평가 진행 - 구간 {}/{}, 확인 {}건, 변경 {}건, {}건/초", status.getCompletedRanges(),
+                status.getTotalRanges(), status.getScannedRows(), status.getChangedRows(),
+                Math.round(status.getRowsPerSecond()));
+        }
+    }
+
+    private long countLeaves(long span) {
+        return span <= rangeSize ? 1 : countLeaves(span / 2) + countLeaves(span - span / 2);
+    }
+
+    private static GradeReevaluationStatusResponseDto toDto(Job job) {
+        GradeReevaluationStatusResponseDto dto = new GradeReevaluationStatusResponseDto();
+        dto.setJobId(job.jobId);
+        dto.setStatus(job.status);
+        dto.setStartedAt(job.startedAt);
+        dto.setFinishedAt(job.finishedAt);
+        dto.setTotalRanges(job.totalRanges);
+        dto.setCompletedRanges(job.completedRanges.get());
+        dto.setEstimatedRows(job.estimatedRows);
+        dto.setScannedRows(job.scannedRows.get());
+        dto.setChangedRows(job.changedRows.get());
+        Map<MemberGrade, Long> changesByGrade = new EnumMap<>(MemberGrade.class);
+        for (MemberGrade grade : MemberGrade.values()) {
+            long changed = job.changesByGrade.get(grade.ordinal());
+            if (changed > 0) {
+                changesByGrade.put(grade, changed);
+            }
+        }
+        dto.setChangesByGrade(changesByGrade);
+
+        long endNanos = job.finishedNanos != 0 ? job.finishedNanos : System.nanoTime();
+        long elapsedNanos = endNanos - job.startedNanos;
+        dto.setElapsedMillis(elapsedNanos / 1_000_000);
+        dto.setRowsPerSecond(elapsedNanos == 0 ? 0 : job.scannedRows.get() * 1_000_000_000.0 / elapsedNanos);
+        if (job.status == Status.COMPLETED) {
+            dto.setProgressPercent(100.0);
+        } else if (job.estimatedRows > 0) {
+            dto.setProgressPercent(Math.min(100.0,
+                Math.round(job.scannedRows.get() * 10_000.0 / job.estimatedRows) / 100.0));
+        }
+        dto.setError(job.error);
+        return dto;
+    }
+}
@@ -0,0 +1,209 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.IdempotencyRecord;
+import com.airline.mileage.repository.IdempotencyRecordRepository;
+import com.airline.mileage.support.ReplicaRouting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 마일리지 적립/사용 멱등 키 (Idempotency-Key 헤더)
+ * 키는 회원 id, 작업과 함께 묶고 요청 본문 지문과 결과를 Caffeine 에 크기/TTL 제한으로 보관한다.
+ * 같은 키가 동시에 들어오면 먼저 등록한 요청만 실행하고 나머지는 그 결과(또는 예외)를 기다려 그대로 돌려준다.
+ * 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있다.
+ * persistent 이면 키를 마일리지 변경과 같은 트랜잭션에서 idempotency_keys 에도 기록해
+ * 재시작, 메모리에서 밀려난 뒤, 다른 서버로 들어온 재시도도 한 번만 반영한다.
+ * (write-behind 적립은 DB 반영 전에 키가 커밋되므로 버퍼 유실 시에는 보장하지 않는다)
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    public static final int MAX_KEY_LENGTH = 100;
+
+    /**
+     * 같은 키를 다른 요청 본문으로 다시 사용
+     */
+    public static class KeyReusedException extends IllegalStateException {
+        public KeyReusedException(String key) {
+            super("다른 요청에 이미 사용한 멱등 키입니다: " + key);
+        }
+    }
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MileageMetrics mileageMetrics;
+
+    @Value("${mileage.idempotency.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${mileage.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${mileage.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMillis;
+
+    @Value("${mileage.idempotency.persistent:false}")
+    private boolean persistent;
+
+    private Cache<String, Entry> entries;
+
+    private record Entry(String fingerprint, CompletableFuture<MemberResponseDto> result) {
+    }
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * 멱등 키로 작업 실행 (키가 없으면 그대로 실행)
+     */
+    public MemberResponseDto execute(String key, Long memberId, String operation, MileageRequestDto request,
+                                     Supplier<MemberResponseDto> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등 키는 1-" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+        String scope = memberId + ":" + operation + ":" + key;
+        String fingerprint = request.getMileage() + ":" + (request.getReason() == null ? "" : request.getReason());
+
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(scope, entry);
+        if (existing != null) {
+            return replay(key, existing, fingerprint);
+        }
+        try {
+            MemberResponseDto response = persistent ? executeRecorded(key, scope, fingerprint, action) : action.get();
+            entry.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(scope, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    /**
+     * 보관 기간이 지난 DB 키 삭제
+     */
+    @Scheduled(fixedDelayString = "${mileage.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!persistent) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+            recordRepository.deleteCreatedBefore(LocalDateTime.now().minusSeconds(ttlSeconds)));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 멱등 키 삭제: {}건", deleted);
+        }
+    }
+
+    private MemberResponseDto replay(String key, Entry entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new KeyReusedException(key);
+        }
+        try {
+            MemberResponseDto response = entry.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            mileageMetrics.idempotentReplay();
+            return response;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 멱등 키의 요청을 처리 중입니다: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 멱등 키의 요청을 기다리다 중단되었습니다: " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 키를 먼저 INSERT 한 뒤 같은 트랜잭션에서 작업을 실행하고 응답을 기록
+     * 같은 키를 다른 트랜잭션이 먼저 넣었으면 INSERT 에서 기다렸다가 충돌하므로 작업은 실행되지 않는다.
+     */
+    private MemberResponseDto executeRecorded(String key, String scope, String fingerprint,
+                                              Supplier<MemberResponseDto> action) {
+        MemberResponseDto response = transactionTemplate.execute(status -> {
+            IdempotencyRecord record;
+            try {
+                record = recordRepository.saveAndFlush(new IdempotencyRecord(scope, fingerprint));
+            } catch (DataIntegrityViolationException e) {
+                status.setRollbackOnly();
+                return null;
+            }
+            MemberResponseDto result = action.get();
+            record.setResponse(write(result));
+            return result;
+        });
+        if (response != null) {
+            return response;
+        }
+
+        // 방금 충돌한 키이므로 복제 지연 없이 primary 에서 읽는다
+        IdempotencyRecord stored = ReplicaRouting.onPrimary(() -> recordRepository.findById(scope))
+            .filter(record -> record.getResponse() != null)
+            .orElseThrow(() -> new IllegalStateException("같은 멱등 키의 요청을 처리 중입니다: " + key));
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            throw new KeyReusedException(key);
+        }
+        mileageMetrics.idempotentReplay();
+        return read(stored.getResponse());
+    }
+
+    private String write(MemberResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 키 응답을 저장할 수 없습니다", e);
+        }
+    }
+
+    private MemberResponseDto read(String json) {
+        try {
+            return objectMapper.readValue(json, MemberResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 키 응답을 읽을 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.LeaderboardEntryResponseDto;
+import com.airline.mileage.dto.response.MemberRankResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberMileageView;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.support.RankedSkipList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 마일리지 리더보드
+ * 활성 회원의 누적 마일리지 순위를 메모리의 스킵 리스트로 유지한다.
+ * 시작 시 DB 에서 재구성하고 이후에는 회원 변경 이벤트(커밋 이후)로 갱신한다.
+ * 커밋 후 이벤트는 커밋 순서와 다르게 도착할 수 있으므로 회원별로 마지막에 반영한 스냅샷 version 을 두고
+ * 그보다 오래된 이벤트는 버린다 (탈퇴로 빠진 회원도 version 은 남겨 늦게 온 변경이 다시 넣지 않게 함).
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<MemberChangedEvent> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private Boards boards = new Boards();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 전체 / 등급별 순위 구조
+     */
+    private static final class Boards {
+        final RankedSkipList overall = new RankedSkipList();
+        final Map<MemberGrade, RankedSkipList> byGrade = new EnumMap<>(MemberGrade.class);
+        // 회원별 마지막으로 반영한 이벤트의 스냅샷 version
+        final Map<Long, Long> versions = new HashMap<>();
+
+        Boards() {
+            for (MemberGrade grade : MemberGrade.values()) {
+                byGrade.put(grade, new RankedSkipList());
+            }
+        }
+
+        void put(long id, int totalMileage, MemberGrade grade) {
+            overall.put(id, totalMileage);
+            for (Map.Entry<MemberGrade, RankedSkipList> entry : byGrade.entrySet()) {
+                if (entry.getKey() == grade) {
+                    entry.getValue().put(id, totalMileage);
+                } else {
+                    entry.getValue().remove(id);
+                }
+            }
+        }
+
+        void remove(long id) {
+            overall.remove(id);
+            for (RankedSkipList list : byGrade.values()) {
+                list.remove(id);
+            }
+        }
+
+        MemberGrade gradeOf(long id) {
+            for (Map.Entry<MemberGrade, RankedSkipList> entry : byGrade.entrySet()) {
+                if (entry.getValue().contains(id)) {
+                    return entry.getKey();
+                }
+            }
+            return null;
+        }
+
+        RankedSkipList board(MemberGrade grade) {
+            return grade == null ? overall : byGrade.get(grade);
+        }
+    }
+
+    /**
+     * DB 에서 리더보드 재구성
+     * 재구성 중 들어온 변경은 모아 두었다가 교체 직후 다시 적용한다. 읽은 행이 어느 이벤트까지 반영했는지 알 수 없으므로
+     * 기존 version 을 넘겨받아, 이미 반영한 것보다 오래된 이벤트가 다시 적용되지 않게 한다.
+     * 재구성 전에 커밋된 변경이 빠지지 않도록 복제본이 아닌 primary 에서 읽는다 (read-only 트랜잭션으로 열지 않음).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.currentTimeMillis();
+        Boards fresh = new Boards();
+        try (Stream<MemberMileageView> rows = memberRepository.streamMileageViews()) {
+            rows.forEach(row -> fresh.put(row.id(), row.totalMileage(), row.grade()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            fresh.versions.putAll(boards.versions);
+            boards = fresh;
+            rebuilding = false;
+            ready = true;
+            MemberChangedEvent event;
+            while ((event = pendingDuringRebuild.poll()) != null) {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("리더보드 재구성 완료: {}명, {}ms", fresh.overall.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 회원 변경 반영 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (rebuilding) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(MemberChangedEvent event) {
+        MemberSnapshot after = event.after();
+        // 탈퇴는 변경 후 스냅샷이 없으므로 도착 시점의 version 으로 기록 (이후 늦게 온 변경은 버림)
+        long version = after == null ? MemberSnapshot.nextVersion() : after.version();
+        Long applied = boards.versions.get(event.memberId());
+        if (applied != null && version < applied) {
+            return;
+        }
+        boards.versions.put(event.memberId(), version);
+        if (after == null || after.deleted()) {
+            boards.remove(event.memberId());
+        } else {
+            boards.put(after.id(), after.totalMileage(), after.grade());
+        }
+    }
+
+    /**
+     * 시작 시 재구성이 끝났는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 누적 마일리지가 [minMileage, maxMileage] 인 활성 회원 수
+     */
+    public int countInRange(int minMileage, int maxMileage) {
+        lock.readLock().lock();
+        try {
+            return boards.overall.countInRange(minMileage, maxMileage);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명 (grade 가 null 이면 전체)
+     */
+    public List<LeaderboardEntryResponseDto> getTop(int limit, MemberGrade grade) {
+        lock.readLock().lock();
+        try {
+            return toEntries(boards.board(grade).range(1, limit), 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명의 회원 id (순위 순)
+     */
+    public List<Long> getTopMemberIds(int limit) {
+        lock.readLock().lock();
+        try {
+            List<RankedSkipList.Entry> entries = boards.overall.range(1, limit);
+            List<Long> ids = new ArrayList<>(entries.size());
+            for (RankedSkipList.Entry entry : entries) {
+                ids.add(entry.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 순위 및 백분위
+     */
+    public MemberRankResponseDto getRank(Long memberId) {
+        lock.readLock().lock();
+        try {
+            int rank = boards.overall.rank(memberId);
+            if (rank < 0) {
+                throw new IllegalArgumentException("랭킹에 없는 회원입니다: " + memberId);
+            }
+            MemberGrade grade = boards.gradeOf(memberId);
+            RankedSkipList gradeBoard = boards.board(grade);
+            int gradeRank = gradeBoard.rank(memberId);
+
+            MemberRankResponseDto dto = new MemberRankResponseDto();
+            dto.setMemberId(memberId);
+            dto.setGrade(grade);
+            dto.setTotalMileage(boards.overall.score(memberId));
+            dto.setRank(rank);
+            dto.setTotalMembers(boards.overall.size());
+            dto.setPercentile(percentile(rank, boards.overall.size()));
+            dto.setGradeRank(gradeRank);
+            dto.setGradeMembers(gradeBoard.size());
+            dto.setGradePercentile(percentile(gradeRank, gradeBoard.size()));
+            return dto;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 주변 순위 (앞뒤 radius 명, grade 가 null 이면 전체)
+     */
+    public List<LeaderboardEntryResponseDto> getAround(Long memberId, int radius, MemberGrade grade) {
+        lock.readLock().lock();
+        try {
+            RankedSkipList board = boards.board(grade);
+            int rank = board.rank(memberId);
+            if (rank < 0) {
+                throw new IllegalArgumentException("랭킹에 없는 회원입니다: " + memberId);
+            }
+            int from = Math.max(1, rank - radius);
+            return toEntries(board.range(from, rank - from + radius + 1), from);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LeaderboardEntryResponseDto> toEntries(List<RankedSkipList.Entry> entries, int firstRank) {
+        List<LeaderboardEntryResponseDto> result = new ArrayList<>(entries.size());
+        int rank = firstRank;
+        for (RankedSkipList.Entry entry : entries) {
+            result.add(new LeaderboardEntryResponseDto(rank++, entry.id(), entry.score(), boards.gradeOf(entry.id())));
+        }
+        return result;
+    }
+
+    private static double percentile(int rank, int total) {
+        if (total <= 1) {
+            return 100.0;
+        }
+        double value = (total - rank) * 100.0 / (total - 1);
+        return Math.round(value * 100) / 100.0;
+    }
+}
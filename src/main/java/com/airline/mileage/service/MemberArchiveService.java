@@ -0,0 +1,143 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MemberArchiveRunResponseDto;
+import com.airline.mileage.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 탈퇴 회원 보관 (members → members_archive)
+ * 보관 기간이 지난 탈퇴 회원을 (deleted, deleted_at) 인덱스로 배치 크기씩 잠가 옮기고 배치마다 커밋하므로
+ * 잠금은 배치 단위로만 잡힌다. 배치 사이에는 배치에 걸린 시간에 비례해 쉬어 DB 사용 비율을 duty-cycle 이하로 둔다.
+ * 보관된 회원은 이미 탈퇴 상태라 캐시/랭킹/검색 색인에 없으므로 이벤트를 발행하지 않고,
+ * 통계(탈퇴 회원 수)와 이메일 중복 검사는 보관 테이블을 함께 본다. 복구는 MemberService.restoreMember.
+ */
+@Service
+public class MemberArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberArchiveService.class);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${member.archive.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${member.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${member.archive.duty-cycle:0.5}")
+    private double dutyCycle;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder archivedRows = new LongAdder();
+
+    /**
+     * 매일 보관 기간이 지난 탈퇴 회원 보관
+     */
+    @Scheduled(cron = "${member.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        try {
+            archiveOlderThan(null);
+        } catch (IllegalStateException e) {
+            log.warn("탈퇴 회원 보관 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 탈퇴한 지 days 일이 지난 회원을 모두 보관 (null 이면 설정된 보관 기간)
+     * @throws IllegalArgumentException 설정된 보관 기간보다 짧을 때
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public MemberArchiveRunResponseDto archiveOlderThan(Integer days) {
+        int keepDays = days == null ? retentionDays : days;
+        if (keepDays < retentionDays) {
+            throw new IllegalArgumentException("보관 기간은 " + retentionDays + "일보다 짧을 수 없습니다: " + keepDays);
+        }
+        return archive(LocalDateTime.now().minusDays(keepDays));
+    }
+
+    /**
+     * deletedBefore 이전에 탈퇴한 회원을 모두 보관
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public MemberArchiveRunResponseDto archive(LocalDateTime deletedBefore) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("탈퇴 회원 보관이 이미 실행 중입니다");
+        }
+        MemberArchiveRunResponseDto result = new MemberArchiveRunResponseDto();
+        result.setDeletedBefore(deletedBefore);
+        result.setStartedAt(LocalDateTime.now());
+        long started = System.nanoTime();
+        long throttledNanos = 0;
+        try {
+            while (true) {
+                long batchStarted = System.nanoTime();
+                Integer moved = transactionTemplate.execute(status -> {
+                    List<Long> ids = memberRepository.lockArchivableIds(deletedBefore, batchSize);
+                    return memberRepository.moveToArchive(ids);
+                });
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archivedRows.add(moved);
+                result.setBatches(result.getBatches() + 1);
+                result.setArchivedRows(result.getArchivedRows() + moved);
+                if (moved < batchSize) {
+                    break;
+                }
+                long pauseNanos = pauseAfter(System.nanoTime() - batchStarted);
+                if (pauseNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+                    throttledNanos += pauseNanos;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("탈퇴 회원 보관 중단 - {}건 보관", result.getArchivedRows());
+        } finally {
+            running.set(false);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        result.setFinishedAt(LocalDateTime.now());
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setThrottledMillis(throttledNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos == 0 ? 0 : result.getArchivedRows() * 1e9 / elapsedNanos);
+        log.info("탈퇴 회원 보관 - 기준: {} 이전 탈퇴, {}건, 배치 {}회, {}ms (대기 {}ms), 초당 {}건",
+            deletedBefore, result.getArchivedRows(), result.getBatches(), result.getElapsedMillis(),
+            result.getThrottledMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 시작 이후 보관한 회원 수
+     */
+    public long getArchivedRows() {
+        return archivedRows.sum();
+    }
+
+    /**
+     * 배치 실행 시간이 전체의 duty-cycle 이 되도록 쉴 시간 (1 이상이면 쉬지 않음)
+     */
+    private long pauseAfter(long batchNanos) {
+        if (dutyCycle >= 1) {
+            return 0;
+        }
+        double cycle = Math.max(dutyCycle, 0.01);
+        return (long) (batchNanos * (1 - cycle) / cycle);
+    }
+}
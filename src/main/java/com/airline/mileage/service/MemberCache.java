@@ -0,0 +1,171 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MemberCacheStatsResponseDto;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 회원 조회 캐시 (id 기준, 이메일 → id 보조 인덱스)
+ * Caffeine(W-TinyLFU)으로 크기와 TTL 을 제한하고, 불변 스냅샷만 저장하므로
+ * 여러 스레드가 동시에 읽어도 수정 중인 회원이 보이지 않는다.
+ * 회원 변경 이벤트가 커밋된 뒤 해당 회원을 무효화한다.
+ * 조회(DB 로딩)는 캐시 밖에서 하고, 로딩 중에 무효화가 없었을 때만 저장한다. 캐시의 compute 안에서 로딩하면
+ * 커넥션을 쥔 채 커밋 후 무효화하는 스레드가 로딩 완료를 기다리고, 로딩은 커넥션을 기다리는 교착이 생길 수 있다.
+ */
+@Service
+public class MemberCache {
+
+    @Value("${member.cache.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${member.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private Cache<Long, MemberSnapshot> membersById;
+    private Cache<String, Long> idsByEmail;
+
+    // id 구간별 무효화 횟수 - 로딩 전후 값이 같을 때만 저장
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final LongAdder emailMissCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        membersById = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        idsByEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * id 로 조회 (없으면 loader 로 읽어 저장, loader 가 null 이면 저장하지 않음)
+     */
+    public MemberSnapshot getById(Long id, Function<Long, MemberSnapshot> loader) {
+        MemberSnapshot cached = membersById.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = invalidations.get(stripe(id));
+        MemberSnapshot member = load(id, loader);
+        if (member != null) {
+            putIfNotInvalidated(member, () -> invalidations.get(stripe(id)) == stamp);
+        }
+        return member;
+    }
+
+    /**
+     * 이메일로 조회 (보조 인덱스 또는 idLoader 로 id 만 찾은 뒤 getById 로 읽어 id 구간별 무효화 확인을 그대로 사용)
+     * 찾은 회원의 이메일이 그 사이 바뀌었으면 id 를 한 번 더 찾는다.
+     */
+    public MemberSnapshot getByEmail(String email, Function<String, Long> idLoader,
+                                     Function<Long, MemberSnapshot> loader) {
+        String key = emailKey(email);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long id = idsByEmail.getIfPresent(key);
+            if (id == null) {
+                emailMissCount.increment();
+                id = idLoader.apply(email);
+                if (id == null) {
+                    return null;
+                }
+            }
+            MemberSnapshot member = getById(id, loader);
+            if (member != null && emailKey(member.email()).equals(key)) {
+                return member;
+            }
+            idsByEmail.invalidate(key);
+        }
+        return null;
+    }
+
+    /**
+     * 회원 무효화
+     */
+    public void invalidate(Long id) {
+        // 저장 여부 확인보다 먼저 올려야 로딩 중이던 이전 상태가 다시 저장되지 않음
+        invalidations.incrementAndGet(stripe(id));
+        MemberSnapshot cached = membersById.getIfPresent(id);
+        membersById.invalidate(id);
+        if (cached != null) {
+            idsByEmail.invalidate(emailKey(cached.email()));
+        }
+    }
+
+    /**
+     * 회원 정보/마일리지 변경, 삭제 시 무효화 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.memberId());
+        if (event.before() != null) {
+            idsByEmail.invalidate(emailKey(event.before().email()));
+        }
+        if (event.after() != null) {
+            idsByEmail.invalidate(emailKey(event.after().email()));
+        }
+    }
+
+    private <K> MemberSnapshot load(K key, Function<K, MemberSnapshot> loader) {
+        long started = System.nanoTime();
+        try {
+            return loader.apply(key);
+        } finally {
+            loadCount.increment();
+            loadNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * 무효화 확인과 저장을 같은 키의 compute 안에서 하여 확인 직후의 무효화가 저장보다 먼저 끝나지 않게 함
+     */
+    private void putIfNotInvalidated(MemberSnapshot member, BooleanSupplier unchanged) {
+        membersById.asMap().compute(member.id(), (id, current) -> unchanged.getAsBoolean() ? member : current);
+        idsByEmail.put(emailKey(member.email()), member.id());
+    }
+
+    public MemberCacheStatsResponseDto getStats() {
+        CacheStats stats = membersById.stats();
+        MemberCacheStatsResponseDto dto = new MemberCacheStatsResponseDto();
+        dto.setSize(membersById.estimatedSize());
+        dto.setEmailIndexSize(idsByEmail.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setEmailMissCount(emailMissCount.sum());
+        long loads = loadCount.sum();
+        dto.setLoadCount(loads);
+        dto.setAverageLoadMillis(loads == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loads);
+        return dto;
+    }
+
+    private static int stripe(Long id) {
+        return (int) (id & (INVALIDATION_STRIPES - 1));
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
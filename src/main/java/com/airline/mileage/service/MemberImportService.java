@@ -0,0 +1,316 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.response.MemberImportResponseDto;
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 회원 가입 (제휴 항공사 회원 이관)
+ * CSV 를 청크 단위로 읽어 다음 청크 검증(MemberRequestDto 규칙, 병렬)과 이전 청크 저장을 겹쳐 처리한다.
+ * 청크마다 이메일 중복은 Bloom 필터를 거친 뒤 IN 조회 한 번으로 확인하고,
+ * 회원 id 는 pooled 시퀀스로 블록 단위로 받으므로 INSERT 가 JDBC 배치로 묶인다.
+ * 거절된 행은 사유와 함께 파일로 남긴다.
+ */
+@Service
+public class MemberImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImportService.class);
+    private static final int MAX_INSERT_ATTEMPTS = 2;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EmailExistenceFilter emailFilter;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${member.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${member.import.parallelism:4}")
+    private int parallelism;
+
+    @Value("${member.import.rejected-dir:${java.io.tmpdir}/member-import}")
+    private String rejectedDir;
+
+    /**
+     * 입력 한 행 (검증 실패 시 error 에 사유)
+     */
+    record ImportRow(long line, String text, MemberRequestDto request, String error) {
+    }
+
+    /**
+     * CSV(email,password,name,phone) 가입 실행
+     */
+    public MemberImportResponseDto importCsv(InputStream body) throws IOException {
+        String importId = UUID.randomUUID().toString();
+        long started = System.nanoTime();
+        MemberImportResponseDto report = new MemberImportResponseDto();
+        report.setImportId(importId);
+        ForkJoinPool validationPool = new ForkJoinPool(Math.max(1, parallelism));
+        try (RejectedRows rejected = new RejectedRows(Path.of(rejectedDir, importId + "-rejected.csv"))) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            Future<List<ImportRow>> validating = null;
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (text.isBlank() || (line == 0 && isCsvHeader(text))) {
+                    continue;
+                }
+                line++;
+                chunk.add(new ImportRow(line, text, null, null));
+                if (chunk.size() == chunkSize) {
+                    Future<List<ImportRow>> next = validate(validationPool, chunk);
+                    if (validating != null) {
+                        commitChunk(await(validating), report, rejected);
+                    }
+                    validating = next;
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (validating != null) {
+                commitChunk(await(validating), report, rejected);
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(await(validate(validationPool, chunk)), report, rejected);
+            }
+            report.setTotalRows(line);
+            report.setRejectedFile(rejected.path());
+        } finally {
+            validationPool.shutdown();
+            long elapsedNanos = System.nanoTime() - started;
+            report.setElapsedMillis(elapsedNanos / 1_000_000);
+            report.setRowsPerSecond(elapsedNanos == 0 ? 0
+                : (report.getImportedRows() + report.getRejectedRows()) * 1_000_000_000.0 / elapsedNanos);
+        }
+        log.info("회원 대량 가입 완료 - importId: {}, 가입 {}건, 거절 {}건, {}ms", importId,
+            report.getImportedRows(), report.getRejectedRows(), report.getElapsedMillis());
+        return report;
+    }
+
+    /**
+     * 청크의 각 행을 해석하고 검증 (전용 풀에서 병렬)
+     */
+    private Future<List<ImportRow>> validate(ForkJoinPool pool, List<ImportRow> chunk) {
+        return pool.submit(() -> chunk.parallelStream().map(this::parseAndValidate).toList());
+    }
+
+    /**
+     * 검증을 통과한 행 중 파일 안 중복, 기존 이메일을 거르고 하나의 트랜잭션으로 저장
+     * 검사와 저장 사이에 같은 이메일로 가입한 회원이 있으면 다시 검사해 한 번 더 시도한다.
+     */
+    private void commitChunk(List<ImportRow> rows, MemberImportResponseDto report, RejectedRows rejected)
+            throws IOException {
+        Map<String, ImportRow> candidates = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            if (row.error() != null) {
+                reject(row, row.error(), report, rejected);
+            } else if (candidates.putIfAbsent(EmailExistenceFilter.normalize(row.request().getEmail()), row) != null) {
+                reject(row, "파일 안에서 중복된 이메일입니다", report, rejected);
+            }
+        }
+
+        for (int attempt = 1; !candidates.isEmpty(); attempt++) {
+            Set<String> existing = emailFilter.findExisting(candidates.values().stream()
+                .map(row -> row.request().getEmail())
+                .toList());
+            for (String email : existing) {
+                ImportRow row = candidates.remove(email);
+                if (row != null) {
+                    reject(row, "이미 존재하는 이메일입니다: " + row.request().getEmail(), report, rejected);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            try {
+                insert(candidates.values());
+                report.setImportedRows(report.getImportedRows() + candidates.size());
+                break;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("회원 대량 가입 청크 충돌, 이메일 재확인 후 재시도 - {}행", candidates.size());
+            }
+        }
+        report.setChunks(report.getChunks() + 1);
+    }
+
+    private void insert(Iterable<ImportRow> rows) {
+        List<Member> members = new ArrayList<>(chunkSize);
+        for (ImportRow row : rows) {
+            MemberRequestDto request = row.request();
+            emailFilter.put(request.getEmail());
+            members.add(new Member(request.getEmail(), request.getPassword(), request.getName(), request.getPhone()));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.saveAllAndFlush(members);
+            for (Member member : members) {
+                eventPublisher.publishEvent(MemberChangedEvent.created(MemberSnapshot.of(member)));
+            }
+            entityManager.clear();
+        });
+    }
+
+    private static void reject(ImportRow row, String reason, MemberImportResponseDto report, RejectedRows rejected)
+            throws IOException {
+        rejected.write(row.line(), reason, row.text());
+        report.setRejectedRows(report.getRejectedRows() + 1);
+    }
+
+    private ImportRow parseAndValidate(ImportRow row) {
+        List<String> columns = splitCsv(row.text());
+        if (columns.size() < 3) {
+            return new ImportRow(row.line(), row.text(), null, "열이 부족합니다 (email,password,name,phone)");
+        }
+        String phone = columns.size() > 3 ? columns.get(3).trim() : "";
+        MemberRequestDto request = new MemberRequestDto(columns.get(0).trim(), columns.get(1),
+            columns.get(2).trim(), phone.isEmpty() ? null : phone);
+        Set<ConstraintViolation<MemberRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return new ImportRow(row.line(), row.text(), request, null);
+        }
+        String error = violations.stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining("; "));
+        return new ImportRow(row.line(), row.text(), null, error);
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("회원 대량 가입이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean isCsvHeader(String text) {
+        return text.trim().toLowerCase().startsWith("email");
+    }
+
+    /**
+     * 쉼표로 나누고 따옴표로 감싼 값은 벗긴다 ("" 는 따옴표 하나)
+     */
+    static List<String> splitCsv(String text) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    column.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * 거절 행 파일 (line,reason,row), 첫 거절 때 만든다
+     */
+    private static final class RejectedRows implements Closeable {
+
+        private final Path path;
+        private BufferedWriter writer;
+
+        private RejectedRows(Path path) {
+            this.path = path;
+        }
+
+        void write(long line, String reason, String text) throws IOException {
+            if (writer == null) {
+                Files.createDirectories(path.getParent());
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                writer.write("line,reason,row");
+                writer.newLine();
+            }
+            writer.write(line + "," + quote(reason) + "," + quote(text));
+            writer.newLine();
+        }
+
+        String path() {
+            return writer == null ? null : path.toAbsolutePath().toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberNameView;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.support.NGramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 회원 이름 검색 색인
+ * LIKE '%이름%' 전체 스캔 대신 메모리의 n-gram 역색인으로 활성 회원을 찾는다.
+ * 시작 시 DB 에서 재구성하고 이후에는 회원 변경 이벤트(커밋 이후)로 가입/이름 변경/탈퇴를 반영한다.
+ * 커밋 후 이벤트는 커밋 순서와 다르게 도착할 수 있으므로 LeaderboardService 와 같이 회원별로 마지막에 반영한
+ * 스냅샷 version 을 두고 그보다 오래된 이벤트는 버린다 (탈퇴한 회원도 version 은 남겨 늦게 온 이름 변경이 다시 넣지 않게 함).
+ */
+@Service
+public class MemberNameSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberNameSearchService.class);
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<MemberChangedEvent> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private NGramIndex index = new NGramIndex();
+    // 회원별 마지막으로 반영한 이벤트의 스냅샷 version (재구성으로 색인을 바꿔도 그대로 유지)
+    private final Map<Long, Long> versions = new HashMap<>();
+    private boolean rebuilding;
+
+    /**
+     * DB 에서 색인 재구성
+     * 재구성 중 들어온 변경은 모아 두었다가 교체 직후 다시 적용한다. 읽은 행이 어느 이벤트까지 반영했는지 알 수 없으므로
+     * version 은 교체 후에도 그대로 두어, 이미 반영한 것보다 오래된 이벤트가 다시 적용되지 않게 한다.
+     * 재구성 전에 커밋된 변경이 빠지지 않도록 복제본이 아닌 primary 에서 읽는다 (read-only 트랜잭션으로 열지 않음).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.currentTimeMillis();
+        NGramIndex fresh = new NGramIndex();
+        try (Stream<MemberNameView> rows = memberRepository.streamNameViews()) {
+            rows.forEach(row -> fresh.put(row.id(), row.name()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+            rebuilding = false;
+            MemberChangedEvent event;
+            while ((event = pendingDuringRebuild.poll()) != null) {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("이름 검색 색인 재구성 완료: {}명, term {}개, {}ms", fresh.size(), fresh.termCount(),
+            System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 가입, 이름 변경, 탈퇴 반영 (트랜잭션 커밋 이후)
+     * 마일리지/등급 변경처럼 이름이 그대로인 이벤트는 잠금 없이 건너뛴다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        MemberSnapshot before = event.before();
+        MemberSnapshot after = event.after();
+        if (before != null && after != null && before.deleted() == after.deleted()
+                && Objects.equals(before.name(), after.name())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (rebuilding) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(MemberChangedEvent event) {
+        MemberSnapshot after = event.after();
+        // 탈퇴는 변경 후 스냅샷이 없으므로 도착 시점의 version 으로 기록 (이후 늦게 온 변경은 버림)
+        long version = after == null ? MemberSnapshot.nextVersion() : after.version();
+        Long applied = versions.get(event.memberId());
+        if (applied != null && version < applied) {
+            return;
+        }
+        versions.put(event.memberId(), version);
+        if (after == null || after.deleted()) {
+            index.remove(event.memberId());
+        } else {
+            index.put(after.id(), after.name());
+        }
+    }
+
+    /**
+     * 이름 검색 (순위순으로 offset 부터 limit 명의 id, 전체 일치 건수)
+     */
+    public NGramIndex.Result search(String name, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(name, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
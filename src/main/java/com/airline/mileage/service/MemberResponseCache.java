@@ -0,0 +1,133 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 상세 응답 캐시 (직렬화된 JSON 바이트와 ETag)
+ * 잔액 폴링처럼 같은 회원을 반복 조회할 때 응답 DTO 생성과 JSON 직렬화를 생략하고 바이트를 그대로 내보낸다.
+ * ETag 는 id, updatedAt, 대기 중인 write-behind 적립으로 만들며, 회원 스냅샷은 MemberCache 에서 가져오므로
+ * 캐시 적중이면 If-None-Match 비교(304)까지 DB 를 읽지 않는다.
+ * 저장된 바이트는 현재 스냅샷의 ETag 와 같을 때만 쓰므로 무효화와 저장이 엇갈려도 이전 응답이 나가지 않고,
+ * 회원 변경 이벤트가 커밋된 뒤에는 해당 회원의 바이트를 바로 버린다. 크기는 바이트 합계로 제한한다.
+ */
+@Service
+public class MemberResponseCache {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MileageWriteBuffer writeBuffer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${member.response-cache.maximum-bytes:33554432}")
+    private long maximumBytes;
+
+    private Cache<Long, EncodedMember> responses;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 직렬화된 회원 응답
+     */
+    public record EncodedMember(String etag, byte[] json) {}
+
+    @PostConstruct
+    void init() {
+        responses = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((Long id, EncodedMember member) -> member.json().length + member.etag().length())
+            .build();
+    }
+
+    /**
+     * 회원 응답 (ID)
+     * @throws IllegalArgumentException 회원이 없을 때
+     */
+    public EncodedMember getById(Long id) {
+        return encoded(memberService.getMemberSnapshot(id));
+    }
+
+    /**
+     * 회원 응답 (이메일)
+     * @throws IllegalArgumentException 회원이 없을 때
+     */
+    public EncodedMember getByEmail(String email) {
+        return encoded(memberService.getMemberSnapshotByEmail(email));
+    }
+
+    /**
+     * 회원 정보/마일리지 변경, 삭제 시 버림 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        responses.invalidate(event.memberId());
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getSizeBytes() {
+        return responses.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private EncodedMember encoded(MemberSnapshot member) {
+        int pending = writeBuffer.pendingFor(member.id());
+        String etag = etag(member, pending);
+        EncodedMember cached = responses.getIfPresent(member.id());
+        if (cached != null && cached.etag().equals(etag)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        EncodedMember encoded;
+        try {
+            encoded = new EncodedMember(etag,
+                objectMapper.writeValueAsBytes(writeBuffer.withPending(new MemberResponseDto(member), pending)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 대기 적립은 updatedAt 에 드러나지 않아 캐시 항목이 그 변화를 알아챌 수 없으므로, 반영된 응답은 저장하지 않음
+        if (pending == 0) {
+            responses.put(member.id(), encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * "id-updatedAt(마이크로초, 36진수)[-대기 적립]"
+     */
+    static String etag(MemberSnapshot member, int pending) {
+        long micros = member.updatedAt() == null ? 0
+            : member.updatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000 + member.updatedAt().getNano() / 1_000;
+        StringBuilder etag = new StringBuilder(32).append('"').append(member.id())
+            .append('-').append(Long.toString(micros, 36));
+        if (pending != 0) {
+            etag.append('-').append(pending);
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -5,31 +5,94 @@ package com.airline.mileage.service;
 
 import com.airline.mileage.dto.request.MemberRequestDto;
 import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.CursorPageResponseDto;
 import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.dto.response.MileageRangeCountResponseDto;
+import com.airline.mileage.dto.response.PageResponseDto;
 import com.airline.mileage.entity.Member;
 import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.entity.MileageTransactionType;
+import com.airline.mileage.event.MemberChangedEvent;
 import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.support.NGramIndex;
+import com.airline.mileage.support.ReplicaRouting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class MemberService {
     
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int TOP_MILEAGE_LIMIT = 10;
+    
     @Autowired
     private MemberRepository memberRepository;
     
+    @Autowired
+    private LeaderboardService leaderboardService;
+    
+    @Autowired
+    private MileageLedgerService ledgerService;
+    
+    @Autowired
+    private MileageLotService lotService;
+    
+    @Autowired
+    private MileageWriteBuffer writeBuffer;
+    
+    @Autowired
+    private MemberCache memberCache;
+    
+    @Autowired
+    private EmailExistenceFilter emailFilter;
+    
+    @Autowired
+    private MemberStatisticsService statisticsService;
+    
+    @Autowired
+    private MemberNameSearchService nameSearchService;
+    
+    @Autowired
+    private MileageMetrics mileageMetrics;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${member.mileage-range.in-memory-count:true}")
+    private boolean inMemoryRangeCount;
+    
     /**
      * 회원 가입
      */
     public MemberResponseDto createMember(MemberRequestDto requestDto) {
-        if (memberRepository.existsByEmail(requestDto.getEmail())) {
+        if (emailFilter.exists(requestDto.getEmail())) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + requestDto.getEmail());
         }
+        emailFilter.put(requestDto.getEmail());
         
         Member member = new Member(
             requestDto.getEmail(),
@@ -39,39 +102,92 @@ public class MemberService {
         );
         
         Member savedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(MemberChangedEvent.created(MemberSnapshot.of(savedMember)));
         
         return new MemberResponseDto(savedMember);
     }
     
     /**
-     * 회원 조회 (ID)
+     * 회원 조회 (ID, 캐시 우선)
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않음
+     * 캐시는 모든 요청이 함께 쓰므로 복제본을 사용할 때도 primary 에서 로딩해 지연된 값을 담지 않는다
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MemberResponseDto getMember(Long id) {
-        Member member = memberRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + id));
-        return new MemberResponseDto(member);
+        return writeBuffer.withPending(new MemberResponseDto(getMemberSnapshot(id)));
     }
     
     /**
-     * 회원 조회 (이메일)
+     * 회원 조회 (이메일, 캐시 우선)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MemberResponseDto getMemberByEmail(String email) {
-        Member member = memberRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + email));
-        return new MemberResponseDto(member);
+        return writeBuffer.withPending(new MemberResponseDto(getMemberSnapshotByEmail(email)));
     }
     
     /**
-     * 전체 회원 조회 (활성 회원만)
+     * 회원 스냅샷 조회 (ID, 캐시 우선, 대기 적립 미반영)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MemberSnapshot getMemberSnapshot(Long id) {
+        MemberSnapshot member = memberCache.getById(id,
+            key -> ReplicaRouting.onPrimary(() -> memberRepository.findById(key).map(MemberSnapshot::of).orElse(null)));
+        if (member == null) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + id);
+        }
+        return member;
+    }
+    
+    /**
+     * 회원 스냅샷 조회 (이메일, 캐시 우선, 대기 적립 미반영)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MemberSnapshot getMemberSnapshotByEmail(String email) {
+        MemberSnapshot member = memberCache.getByEmail(email,
+            key -> ReplicaRouting.onPrimary(() -> memberRepository.findIdByEmail(key).orElse(null)),
+            key -> ReplicaRouting.onPrimary(() -> memberRepository.findById(key).map(MemberSnapshot::of).orElse(null)));
+        if (member == null) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + email);
+        }
+        return member;
+    }
+    
+    /**
+     * 회원 목록 조회 (활성 회원만, id 커서 기반 페이지)
      */
     @Transactional(readOnly = true)
-    public List<MemberResponseDto> getAllMembers() {
-        return memberRepository.findAll()
-            .stream()
+    public CursorPageResponseDto<MemberResponseDto> getMembers(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long after = cursor == null ? 0L : cursor;
+        
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<MemberSnapshot> members = memberRepository.findSnapshotsAfter(after, Limit.of(pageSize + 1));
+        boolean hasNext = members.size() > pageSize;
+        if (hasNext) {
+            members = members.subList(0, pageSize);
+        }
+        
+        List<MemberResponseDto> content = members.stream()
             .map(MemberResponseDto::new)
             .collect(Collectors.toList());
+        String nextCursor = hasNext ? String.valueOf(members.get(members.size() - 1).id()) : null;
+        return new CursorPageResponseDto<>(content, nextCursor);
+    }
+    
+    /**
+     * 전체 활성 회원 스트리밍 조회
+     * 스냅샷 프로젝션을 행 단위로 consumer 에 전달 (영속성 컨텍스트에 쌓이지 않아 메모리 사용량이 일정)
+     */
+    @Transactional(readOnly = true)
+    public long streamAllMembers(Consumer<MemberResponseDto> consumer) {
+        long count = 0;
+        try (Stream<MemberSnapshot> members = memberRepository.streamSnapshots()) {
+            for (MemberSnapshot member : (Iterable<MemberSnapshot>) members::iterator) {
+                consumer.accept(new MemberResponseDto(member));
+                count++;
+            }
+        }
+        return count;
     }
     
     /**
@@ -81,16 +197,21 @@ public class MemberService {
         Member member = memberRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + id));
         
-        if (!member.getEmail().equals(requestDto.getEmail()) && 
-            memberRepository.existsByEmail(requestDto.getEmail())) {
+        boolean emailChanged = !member.getEmail().equals(requestDto.getEmail());
+        if (emailChanged && emailFilter.exists(requestDto.getEmail())) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + requestDto.getEmail());
         }
+        if (emailChanged) {
+            emailFilter.put(requestDto.getEmail());
+        }
         
+        MemberSnapshot before = MemberSnapshot.of(member);
         member.setEmail(requestDto.getEmail());
         member.setName(requestDto.getName());
         member.setPhone(requestDto.getPhone());
         
         Member updatedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(MemberChangedEvent.updated(before, MemberSnapshot.of(updatedMember)));
         return new MemberResponseDto(updatedMember);
     }
     
@@ -101,94 +222,261 @@ public class MemberService {
         Member member = memberRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + id));
         
+        MemberSnapshot before = MemberSnapshot.of(member);
         memberRepository.delete(member);
+        eventPublisher.publishEvent(MemberChangedEvent.deleted(before));
     }
     
     /**
-     * 마일리지 적립
+     * 탈퇴 회원 복구 (아직 members 에 있는 탈퇴 회원, 보관된 회원 모두 같은 id 로 되돌림)
+     * @throws IllegalStateException 탈퇴하지 않은 회원일 때
+     */
+    public MemberResponseDto restoreMember(Long id) {
+        List<MemberSnapshot> locked = memberRepository.lockSnapshots(List.of(id));
+        MemberSnapshot before;
+        if (!locked.isEmpty()) {
+            before = locked.get(0);
+            if (!before.deleted()) {
+                throw new IllegalStateException("탈퇴하지 않은 회원입니다: " + id);
+            }
+            memberRepository.undelete(id);
+        } else {
+            before = memberRepository.restoreFromArchive(id);
+            if (before == null) {
+                throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + id);
+            }
+        }
+    
+        MemberSnapshot after = memberRepository.lockSnapshots(List.of(id)).get(0);
+        eventPublisher.publishEvent(MemberChangedEvent.restored(before, after));
+        return new MemberResponseDto(after);
+    }
+    
+    /**
+     * 마일리지 적립 (단일 UPDATE 로 적립 및 등급 재계산, 유효기간이 있는 lot 으로 기록)
+     * write-behind 사용 시에는 대기열에 넣고 저장된 잔액 + 대기 적립으로 응답
+     * (회원을 읽은 뒤 대기열에 넣기 전에 flush 가 커밋됐으면 epoch 가 바뀌므로 다시 읽음)
      */
     public MemberResponseDto addMileage(Long memberId, MileageRequestDto requestDto) {
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
+        int mileage = requestDto.getMileage();
+        if (writeBuffer.isEnabled()) {
+            long epoch = writeBuffer.epoch(memberId);
+            Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
+            // 적립 카운터는 flush 가 커밋될 때 MileageCreditWriter 가 더함
+            MileageWriteBuffer.PendingTotal pending = writeBuffer.enqueue(memberId, mileage, requestDto.getReason());
+            if (pending.epoch() == epoch) {
+                return writeBuffer.withPending(new MemberResponseDto(member), pending.total());
+            }
+            return addedWhileFlushing(memberId);
+        }
         
-        // 마일리지 적립
-        member.addMileage(requestDto.getMileage());
+        if (!memberRepository.addMileageAtomically(memberId, mileage)) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId);
+        }
         
-        Member updatedMember = memberRepository.save(member);
+        Member updatedMember = findUpdatedMember(memberId);
+        ledgerService.append(new MileageTransaction(memberId, MileageTransactionType.ADD,
+            mileage, requestDto.getReason(), updatedMember.getAvailableMileage()));
+        lotService.open(memberId, mileage);
+        
+        MemberSnapshot after = MemberSnapshot.of(updatedMember);
+        int totalBefore = after.totalMileage() - mileage;
+        MemberSnapshot before = after.withMileage(
+            MemberGrade.getGradeByMileage(totalBefore), totalBefore, after.availableMileage() - mileage);
+        eventPublisher.publishEvent(MemberChangedEvent.mileageChanged(before, after));
+        mileageMetrics.added(mileage);
         return new MemberResponseDto(updatedMember);
     }
     
     /**
-     * 마일리지 사용
+     * 회원을 읽은 뒤 대기 적립을 넣기 전에 flush 가 커밋된 경우의 적립 응답
+     * 읽은 행에는 커밋된 적립이 빠져 있고 대기 합계에서는 이미 지워졌으므로 저장된 행과 대기 합계를 다시 읽는다.
+     * 같은 트랜잭션의 일반 조회는 처음 읽은 스냅샷을 다시 볼 수 있어, 최신 커밋을 읽고 이후 flush 커밋을 막는 잠금 조회를 쓴다.
      */
-    public MemberResponseDto useMileage(Long memberId, MileageRequestDto requestDto) {
-        Member member = memberRepository.findById(memberId)
+    private MemberResponseDto addedWhileFlushing(Long memberId) {
+        MemberSnapshot member = memberRepository.lockSnapshots(List.of(memberId)).stream()
+            .filter(snapshot -> !snapshot.deleted())
+            .findFirst()
             .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
-        
-        // 마일리지 사용
-        boolean success = member.useMileage(requestDto.getMileage());
-        if (!success) {
+        return writeBuffer.withPending(new MemberResponseDto(member), writeBuffer.pendingTotal(memberId).total());
+    }
+    
+    /**
+     * 마일리지 사용 (잔액 조건부 단일 UPDATE, 잔액 부족 시 변경 없음)
+     * 회원 행을 잠근 뒤 소멸일이 빠른 lot 부터 차감하고 차감 내역을 원장 기록에 연결
+     */
+    public MemberResponseDto useMileage(Long memberId, MileageRequestDto requestDto) {
+        int mileage = requestDto.getMileage();
+        // 대기 중인 적립을 먼저 반영해 저장된 잔액 + 대기 적립 기준으로 사용
+        writeBuffer.flushMember(memberId);
+        if (!memberRepository.useMileageAtomically(memberId, mileage)) {
+            Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
+            mileageMetrics.rejectedForInsufficientBalance();
             throw new IllegalArgumentException(
                 String.format("사용 가능한 마일리지가 부족합니다. 요청: %d, 보유: %d", 
-                    requestDto.getMileage(), member.getAvailableMileage())
+                    mileage, member.getAvailableMileage())
             );
         }
         
-        Member updatedMember = memberRepository.save(member);
+        Member updatedMember = findUpdatedMember(memberId);
+        MileageTransaction transaction = new MileageTransaction(memberId, MileageTransactionType.USE,
+            -mileage, requestDto.getReason(), updatedMember.getAvailableMileage());
+        ledgerService.append(transaction);
+        lotService.consume(memberId, mileage, transaction.getId());
+        
+        MemberSnapshot after = MemberSnapshot.of(updatedMember);
+        MemberSnapshot before = after.withMileage(
+            after.grade(), after.totalMileage(), after.availableMileage() + mileage);
+        eventPublisher.publishEvent(MemberChangedEvent.mileageChanged(before, after));
+        mileageMetrics.used(mileage);
         return new MemberResponseDto(updatedMember);
     }
     
+    /**
+     * JDBC UPDATE 직후의 회원 상태 조회
+     * 이미 영속성 컨텍스트에 올라온 회원이면 갱신하고, 아니면 한 번만 조회한다.
+     */
+    private Member findUpdatedMember(Long memberId) {
+        Member member = entityManager.getReference(Member.class, memberId);
+        if (Hibernate.isInitialized(member)) {
+            entityManager.refresh(member);
+        } else {
+            Hibernate.initialize(member);
+        }
+        return member;
+    }
+    
+    /**
+     * 이름 검색 (n-gram 색인, 순위순 페이지)
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDto<MemberResponseDto> searchMembersByName(String name, int page, int size) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("검색할 이름을 입력해주세요");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) pageNumber * pageSize > Integer.MAX_VALUE - pageSize) {
+            throw new IllegalArgumentException("페이지 번호가 너무 큽니다: " + page);
+        }
+        
+        NGramIndex.Result result = nameSearchService.search(name, pageNumber * pageSize, pageSize);
+        return new PageResponseDto<>(findInOrder(result.ids()), pageNumber, pageSize, result.total());
+    }
+    
     /**
      * 등급별 회원 조회
      */
     @Transactional(readOnly = true)
     public List<MemberResponseDto> getMembersByGrade(MemberGrade grade) {
-        return memberRepository.findByGrade(grade)
+        return memberRepository.findSnapshotsByGrade(grade)
             .stream()
             .map(MemberResponseDto::new)
             .collect(Collectors.toList());
     }
     
     /**
-     * 마일리지 범위로 회원 검색
+     * 마일리지 범위로 회원 검색 (마일리지 오름차순, "마일리지_id" 커서 기반 페이지)
      */
     @Transactional(readOnly = true)
-    public List<MemberResponseDto> getMembersByMileageRange(Integer minMileage, Integer maxMileage) {
-        return memberRepository.findActiveByMileageRange(minMileage, maxMileage)
-            .stream()
+    public CursorPageResponseDto<MemberResponseDto> getMembersByMileageRange(Integer minMileage, Integer maxMileage,
+                                                                            String cursor, int size) {
+        validateMileageRange(minMileage, maxMileage);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int cursorMileage = minMileage;
+        long cursorId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                cursorMileage = Math.max(minMileage, Integer.parseInt(parts[0]));
+                cursorId = parts.length == 2 ? Long.parseLong(parts[1]) : 0L;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+        
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<MemberSnapshot> members = memberRepository.findActiveSnapshotsByMileageRangeAfter(
+            cursorMileage, cursorId, maxMileage, Limit.of(pageSize + 1));
+        boolean hasNext = members.size() > pageSize;
+        if (hasNext) {
+            members = members.subList(0, pageSize);
+        }
+        
+        List<MemberResponseDto> content = members.stream()
             .map(MemberResponseDto::new)
             .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            MemberSnapshot last = members.get(members.size() - 1);
+            nextCursor = last.totalMileage() + "_" + last.id();
+        }
+        return new CursorPageResponseDto<>(content, nextCursor);
     }
     
     /**
-     * 상위 마일리지 회원 조회
+     * 마일리지 범위 내 활성 회원 수
+     * 메모리 인덱스(리더보드)가 준비되어 있고 사용 설정이면 DB 를 조회하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MileageRangeCountResponseDto countMembersByMileageRange(Integer minMileage, Integer maxMileage) {
+        validateMileageRange(minMileage, maxMileage);
+        if (inMemoryRangeCount && leaderboardService.isReady()) {
+            return new MileageRangeCountResponseDto(minMileage, maxMileage,
+                leaderboardService.countInRange(minMileage, maxMileage), MileageRangeCountResponseDto.Source.MEMORY);
+        }
+        return new MileageRangeCountResponseDto(minMileage, maxMileage,
+            memberRepository.countActiveByMileageRange(minMileage, maxMileage),
+            MileageRangeCountResponseDto.Source.DATABASE);
+    }
+    
+    private static void validateMileageRange(Integer minMileage, Integer maxMileage) {
+        if (minMileage == null || maxMileage == null || minMileage < 0 || minMileage > maxMileage) {
+            throw new IllegalArgumentException("마일리지 범위가 올바르지 않습니다: " + minMileage + " ~ " + maxMileage);
+        }
+    }
+    
+    /**
+     * 상위 마일리지 회원 조회 (리더보드 순위 기준)
      */
     @Transactional(readOnly = true)
     public List<MemberResponseDto> getTopMileageMembers() {
-        return memberRepository.findTop10ActiveByOrderByTotalMileageDesc()
+        return findInOrder(leaderboardService.getTopMemberIds(TOP_MILEAGE_LIMIT));
+    }
+    
+    /**
+     * id 목록 순서대로 활성 회원 응답 생성 (없는 id 는 건너뜀)
+     */
+    private List<MemberResponseDto> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MemberSnapshot> members = memberRepository.findSnapshotsByIdIn(ids)
             .stream()
-            .limit(10)
+            .collect(Collectors.toMap(MemberSnapshot::id, Function.identity()));
+        return ids.stream()
+            .map(members::get)
+            .filter(Objects::nonNull)
             .map(MemberResponseDto::new)
             .collect(Collectors.toList());
     }
     
     /**
-     * 회원 통계 조회
+     * 회원 통계 조회 (메모리 카운터, DB 조회 없음)
      */
-    @Transactional(readOnly = true)
-    public String getMemberStatistics() {
-        long totalActive = memberRepository.countActiveMembers();
-        long totalDeleted = memberRepository.countDeletedMembers();
-        
-        return String.format("총 활성 회원: %d명, 탈퇴 회원: %d명, 전체: %d명", 
-            totalActive, totalDeleted, totalActive + totalDeleted);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberStatisticsResponseDto getMemberStatistics() {
+        return statisticsService.getStatistics();
     }
     
     /**
-     * 이메일 중복 확인 (회원가입 전 체크용)
+     * 이메일 중복 확인 (회원가입 전 체크용, 탈퇴 회원 이메일 포함)
+     * Bloom 필터가 없다고 하면 DB 를 조회하지 않음
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isEmailExists(String email) {
-        return memberRepository.existsByEmail(email);
+        return emailFilter.exists(email);
     }
 }
\ No newline at end of file
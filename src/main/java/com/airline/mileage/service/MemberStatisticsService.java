@@ -0,0 +1,219 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.GradeStatisticsResponseDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.dto.response.MileageHistogramBucketDto;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberAggregateView;
+import com.airline.mileage.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 통계 (등급별 활성/탈퇴 회원 수, 마일리지 합계, 누적 마일리지 분포)
+ * 조회할 때마다 COUNT 를 돌리지 않도록 LongAdder 카운터를 메모리에 두고
+ * 회원 변경 이벤트(커밋 이후)의 변경 전/후 차이로 갱신한다.
+ * 이벤트 유실 등으로 생길 수 있는 오차는 주기적으로 DB 집계와 대사해 맞춘다.
+ * 대사 중 커밋된 변경은 집계에 이미 들어갔는지 알 수 없으므로 다시 적용하지 않고 다음 대사에 맡긴다
+ * (다시 적용하면 집계 전에 커밋된 변경이 두 번 더해짐).
+ */
+@Service
+public class MemberStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberStatisticsService.class);
+
+    /** 누적 마일리지 분포 구간 하한 */
+    static final int[] MILEAGE_BUCKET_BOUNDS =
+        {0, 1_000, 5_000, 10_000, 20_000, 50_000, 100_000, 200_000, 500_000, 1_000_000};
+
+    private static final MemberGrade[] GRADES = MemberGrade.values();
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters();
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile long lastMemberDrift;
+    private volatile long lastMileageDrift;
+
+    /**
+     * 등급별 카운터 (배열 인덱스는 MemberGrade.ordinal, 마일리지 합계는 활성 회원만)
+     */
+    private static final class Counters {
+        final LongAdder[] activeMembers = adders(GRADES.length);
+        final LongAdder[] deletedMembers = adders(GRADES.length);
+        final LongAdder[] totalMileage = adders(GRADES.length);
+        final LongAdder[] availableMileage = adders(GRADES.length);
+        final LongAdder[] histogram = adders(MILEAGE_BUCKET_BOUNDS.length);
+
+        void add(MemberSnapshot member, int sign) {
+            int grade = member.grade().ordinal();
+            if (member.deleted()) {
+                deletedMembers[grade].add(sign);
+                return;
+            }
+            activeMembers[grade].add(sign);
+            totalMileage[grade].add((long) sign * member.totalMileage());
+            availableMileage[grade].add((long) sign * member.availableMileage());
+            histogram[bucketOf(member.totalMileage())].add(sign);
+        }
+
+        long members() {
+            return sum(activeMembers) + sum(deletedMembers);
+        }
+
+        long mileage() {
+            return sum(totalMileage);
+        }
+
+        private static LongAdder[] adders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+
+    /**
+     * 회원 변경 반영 (트랜잭션 커밋 이후)
+     * 카운터는 동시에 갱신할 수 있으므로 읽기 잠금만 잡고, 대사 중 교체와만 배타적이다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            apply(counters, event);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 집계로 카운터 재구성 (시작 시, 이후 주기적으로)
+     * 집계 중 들어온 변경은 새 카운터에 반영하지 않으므로 다음 대사까지 그만큼 차이가 남을 수 있다.
+     * 복제 지연된 집계로 카운터가 틀어지지 않도록 primary 에서 읽는다 (read-only 트랜잭션으로 열지 않음).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${member.statistics.reconcile-interval-ms:300000}",
+               initialDelayString = "${member.statistics.reconcile-interval-ms:300000}")
+    @Transactional
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        Counters fresh = new Counters();
+        for (MemberAggregateView row : memberRepository.aggregateByGradeIncludingDeleted()) {
+            int grade = row.grade().ordinal();
+            if (row.deleted()) {
+                fresh.deletedMembers[grade].add(row.members());
+            } else {
+                fresh.activeMembers[grade].add(row.members());
+                fresh.totalMileage[grade].add(row.totalMileage());
+                fresh.availableMileage[grade].add(row.availableMileage());
+            }
+        }
+        long[] buckets = memberRepository.countActiveByMileageBuckets(MILEAGE_BUCKET_BOUNDS);
+        for (int i = 0; i < buckets.length; i++) {
+            fresh.histogram[i].add(buckets[i]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Counters previous = counters;
+            counters = fresh;
+            if (lastReconciledAt != null) {
+                lastMemberDrift = previous.members() - fresh.members();
+                lastMileageDrift = previous.mileage() - fresh.mileage();
+                if (lastMemberDrift != 0 || lastMileageDrift != 0) {
+                    log.warn("회원 통계 대사 차이 - 회원 수: {}, 누적 마일리지: {}", lastMemberDrift, lastMileageDrift);
+                }
+            }
+            lastReconciledAt = LocalDateTime.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("회원 통계 대사 완료: {}명, {}ms", fresh.members(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 현재 통계
+     */
+    public MemberStatisticsResponseDto getStatistics() {
+        lock.readLock().lock();
+        try {
+            Counters current = counters;
+            MemberStatisticsResponseDto dto = new MemberStatisticsResponseDto();
+            long active = 0;
+            long deleted = 0;
+            long totalMileage = 0;
+            long availableMileage = 0;
+            for (MemberGrade grade : GRADES) {
+                int i = grade.ordinal();
+                GradeStatisticsResponseDto gradeStats = new GradeStatisticsResponseDto(grade,
+                    current.activeMembers[i].sum(), current.deletedMembers[i].sum(),
+                    current.totalMileage[i].sum(), current.availableMileage[i].sum());
+                dto.getGrades().add(gradeStats);
+                active += gradeStats.getActiveMembers();
+                deleted += gradeStats.getDeletedMembers();
+                totalMileage += gradeStats.getTotalMileage();
+                availableMileage += gradeStats.getAvailableMileage();
+            }
+            for (int i = 0; i < MILEAGE_BUCKET_BOUNDS.length; i++) {
+                Integer max = i + 1 < MILEAGE_BUCKET_BOUNDS.length ? MILEAGE_BUCKET_BOUNDS[i + 1] : null;
+                dto.getMileageHistogram().add(
+                    new MileageHistogramBucketDto(MILEAGE_BUCKET_BOUNDS[i], max, current.histogram[i].sum()));
+            }
+            dto.setTotalActive(active);
+            dto.setTotalDeleted(deleted);
+            dto.setTotal(active + deleted);
+            dto.setTotalMileage(totalMileage);
+            dto.setAvailableMileage(availableMileage);
+            dto.setLastReconciledAt(lastReconciledAt);
+            dto.setLastReconcileMemberDrift(lastMemberDrift);
+            dto.setLastReconcileMileageDrift(lastMileageDrift);
+            return dto;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Counters target, MemberChangedEvent event) {
+        if (event.before() != null) {
+            target.add(event.before(), -1);
+        }
+        if (event.after() != null) {
+            target.add(event.after(), 1);
+        } else if (event.type() == MemberChangedEvent.Type.DELETED) {
+            // 탈퇴는 soft delete 이므로 같은 등급의 탈퇴 회원으로 옮김
+            target.deletedMembers[event.before().grade().ordinal()].increment();
+        }
+    }
+
+    private static int bucketOf(int totalMileage) {
+        int index = Arrays.binarySearch(MILEAGE_BUCKET_BOUNDS, totalMileage);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    private static long sum(LongAdder[] adders) {
+        long sum = 0;
+        for (LongAdder adder : adders) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,120 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.entity.MileageTransactionType;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 회원의 적립을 한 번에 반영
+ * 회원별 합계를 회원당 한 문장의 배치 UPDATE 로 반영(등급도 회원당 한 번 재계산)하고
+ * 적립 건별 원장 기록, 회원당 lot 하나, 회원 변경 이벤트를 남긴다. 호출한 트랜잭션에 합류한다.
+ * 적립 카운터(mileage.amount, mileage.transactions)는 커밋 후 호출 단위(대량 적립 chunk, write-behind flush)로 한 번 더한다.
+ */
+@Service
+@Transactional
+public class MileageCreditWriter {
+
+    /**
+     * 적립 한 건
+     */
+    public record Credit(int mileage, String reason) {
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MileageLedgerService ledgerService;
+
+    @Autowired
+    private MileageLotService lotService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MileageMetrics mileageMetrics;
+
+    /**
+     * 적립 반영
+     * @return 반영된 회원 (id → 반영 후 엔티티). 없거나 삭제된 회원은 포함되지 않는다.
+     */
+    public Map<Long, Member> apply(Map<Long, List<Credit>> creditsByMember) {
+        // 여러 회원 행을 잠그므로 다른 배치 작업(소멸 스윕 등)과 같은 id 순으로 갱신
+        Map<Long, Integer> totals = new TreeMap<>();
+        creditsByMember.forEach((memberId, credits) ->
+            totals.put(memberId, credits.stream().mapToInt(Credit::mileage).sum()));
+        if (totals.isEmpty()) {
+            return Map.of();
+        }
+
+        memberRepository.addMileageBatch(totals);
+
+        Map<Long, Member> updated = new HashMap<>();
+        for (Member member : memberRepository.findAllById(totals.keySet())) {
+            updated.put(member.getId(), member);
+        }
+
+        List<MileageTransaction> ledger = new ArrayList<>();
+        Map<Long, Integer> lots = new TreeMap<>();
+        long appliedMileage = 0;
+        for (Map.Entry<Long, List<Credit>> entry : creditsByMember.entrySet()) {
+            Member member = updated.get(entry.getKey());
+            if (member == null) {
+                continue;
+            }
+
+            // 회원의 최종 잔액에서 역산해 건별 적립 후 잔액 기록
+            int sum = totals.get(entry.getKey());
+            lots.put(member.getId(), sum);
+            appliedMileage += sum;
+            int balance = member.getAvailableMileage() - sum;
+            for (Credit credit : entry.getValue()) {
+                balance += credit.mileage();
+                ledger.add(new MileageTransaction(member.getId(), MileageTransactionType.ADD,
+                    credit.mileage(), credit.reason(), balance));
+            }
+
+            MemberSnapshot after = MemberSnapshot.of(member);
+            int totalBefore = after.totalMileage() - sum;
+            MemberSnapshot before = after.withMileage(
+                MemberGrade.getGradeByMileage(totalBefore), totalBefore, after.availableMileage() - sum);
+            eventPublisher.publishEvent(MemberChangedEvent.mileageChanged(before, after));
+        }
+        ledgerService.appendAll(ledger);
+        lotService.openAll(lots);
+        recordOnCommit(appliedMileage, ledger.size());
+        return updated;
+    }
+
+    /**
+     * 반영한 적립 합계와 건수를 트랜잭션이 커밋된 뒤 한 번에 카운터에 더함 (롤백되면 세지 않음)
+     */
+    private void recordOnCommit(long mileage, int credits) {
+        if (credits == 0) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mileageMetrics.added(mileage, credits);
+            }
+        });
+    }
+}
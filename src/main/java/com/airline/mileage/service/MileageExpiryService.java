@@ -0,0 +1,196 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MileageExpirySweepResponseDto;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.entity.MileageTransactionType;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.repository.MileageLotRepository;
+import com.airline.mileage.repository.MileageLotView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 마일리지 소멸 스윕
+ * 소멸일 버킷 인덱스에서 기준일까지 만료된 열린 lot 만 배치 크기씩 읽으므로 전체 lot 수와 무관하게
+ * 만료 대상 수에 비례한 비용만 든다. 배치마다 대상 회원을 id 순으로 행 잠금한 뒤 lot 을 닫고,
+ * 회원별 사용 가능 잔액 차감과 소멸 원장 기록(lot 별 차감 내역 포함)을 같은 트랜잭션으로 커밋하고
+ * (보관된 회원은 members_archive 행에서 차감해 복구 후 잔액이 lot 과 맞게 함)
+ * 커밋 후 활성 회원의 마일리지 변경 이벤트를 발행한다.
+ */
+@Service
+public class MileageExpiryService {
+    
+    private static final Logger log = LoggerFactory.getLogger(MileageExpiryService.class);
+    private static final String EXPIRE_REASON = "유효기간 만료";
+    
+    @Autowired
+    private MemberRepository memberRepository;
+    
+    @Autowired
+    private MileageLotRepository lotRepository;
+    
+    @Autowired
+    private MileageLedgerService ledgerService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${mileage.expiry.batch-size:1000}")
+    private int batchSize;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    /**
+     * 한 배치 처리 결과
+     */
+    private record Batch(int lots, int members, long mileage, List<MemberChangedEvent> events) {
+    }
+    
+    /**
+     * 매일 오늘까지 만료된 lot 소멸
+     */
+    @Scheduled(cron = "${mileage.expiry.sweep-cron:0 10 0 * * *}")
+    public void scheduledSweep() {
+        try {
+            sweep(LocalDate.now());
+        } catch (IllegalStateException e) {
+            log.warn("마일리지 소멸 스윕 건너뜀: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 소멸일이 asOf 이하인 열린 lot 을 모두 소멸 처리
+     * @throws IllegalStateException 이미 실행 중일 때
+     */
+    public MileageExpirySweepResponseDto sweep(LocalDate asOf) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("마일리지 소멸 스윕이 이미 실행 중입니다");
+        }
+        MileageExpirySweepResponseDto result = new MileageExpirySweepResponseDto();
+        result.setAsOf(asOf);
+        result.setStartedAt(LocalDateTime.now());
+        long started = System.nanoTime();
+        try {
+            while (true) {
+                Batch batch = transactionTemplate.execute(status -> expireBatch(asOf));
+                if (batch.lots() == 0) {
+                    break;
+                }
+                // 이벤트는 커밋 이후에 발행 (리스너는 fallbackExecution 으로 바로 실행)
+                batch.events().forEach(eventPublisher::publishEvent);
+                result.setBatches(result.getBatches() + 1);
+                result.setExpiredLots(result.getExpiredLots() + batch.lots());
+                result.setAffectedMembers(result.getAffectedMembers() + batch.members());
+                result.setExpiredMileage(result.getExpiredMileage() + batch.mileage());
+            }
+        } finally {
+            running.set(false);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        result.setFinishedAt(LocalDateTime.now());
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setLotsPerSecond(elapsedNanos == 0 ? 0 : result.getExpiredLots() * 1e9 / elapsedNanos);
+        log.info("마일리지 소멸 스윕 - 기준일: {}, lot {}건, 회원 {}명, {} 마일, {}ms",
+            asOf, result.getExpiredLots(), result.getAffectedMembers(), result.getExpiredMileage(),
+            result.getElapsedMillis());
+        return result;
+    }
+    
+    /**
+     * 만료된 lot 한 배치 소멸 (트랜잭션 안에서 호출)
+     */
+    private Batch expireBatch(LocalDate asOf) {
+        List<MileageLotView> due = lotRepository.findDueLots(asOf, batchSize);
+        if (due.isEmpty()) {
+            return new Batch(0, 0, 0, List.of());
+        }
+        
+        // lot 변경은 회원 잠금 아래에서만 일어나므로 잠근 뒤 잔여를 다시 읽음
+        TreeSet<Long> memberIds = new TreeSet<>();
+        List<Long> lotIds = new ArrayList<>(due.size());
+        for (MileageLotView lot : due) {
+            memberIds.add(lot.memberId());
+            lotIds.add(lot.id());
+        }
+        Map<Long, MemberSnapshot> members = new LinkedHashMap<>();
+        for (MemberSnapshot member : memberRepository.lockSnapshots(memberIds)) {
+            members.put(member.id(), member);
+        }
+        TreeSet<Long> archivedIds = new TreeSet<>(memberIds);
+        archivedIds.removeAll(members.keySet());
+        for (MemberSnapshot member : memberRepository.lockArchivedSnapshots(archivedIds)) {
+            members.put(member.id(), member);
+        }
+        archivedIds.retainAll(members.keySet());
+        List<MileageLotView> lots = lotRepository.findDueLotsByIds(lotIds, asOf);
+        
+        Map<Long, Integer> expiredByMember = new TreeMap<>();
+        Map<Long, Map<Long, Integer>> lotsByMember = new TreeMap<>();
+        List<Long> closing = new ArrayList<>(lots.size());
+        for (MileageLotView lot : lots) {
+            closing.add(lot.id());
+            if (!members.containsKey(lot.memberId())) {
+                continue;
+            }
+            expiredByMember.merge(lot.memberId(), lot.remaining(), Integer::sum);
+            lotsByMember.computeIfAbsent(lot.memberId(), id -> new LinkedHashMap<>()).put(lot.id(), lot.remaining());
+        }
+        lotRepository.closeLots(closing);
+        
+        // 열린 lot 잔여 합계는 사용 가능 잔액을 넘지 않아야 하지만, 어긋난 경우에도 음수가 되지 않게 제한
+        long expiredMileage = 0;
+        List<MileageTransaction> ledger = new ArrayList<>(expiredByMember.size());
+        List<MemberChangedEvent> events = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : expiredByMember.entrySet()) {
+            MemberSnapshot before = members.get(entry.getKey());
+            int expired = Math.min(entry.getValue(), before.availableMileage());
+            if (expired < entry.getValue()) {
+                log.warn("열린 lot 잔여가 사용 가능 잔액보다 큼 - 회원: {}, lot 잔여: {}, 잔액: {}",
+                    before.id(), entry.getValue(), before.availableMileage());
+            }
+            entry.setValue(expired);
+            expiredMileage += expired;
+            MemberSnapshot after = before.withMileage(
+                before.grade(), before.totalMileage(), before.availableMileage() - expired);
+            ledger.add(new MileageTransaction(before.id(), MileageTransactionType.EXPIRE,
+                -expired, EXPIRE_REASON, after.availableMileage()));
+            if (!before.deleted()) {
+                events.add(MemberChangedEvent.mileageChanged(before, after));
+            }
+        }
+        Map<Long, Integer> archivedExpired = new TreeMap<>(expiredByMember);
+        archivedExpired.keySet().retainAll(archivedIds);
+        expiredByMember.keySet().removeAll(archivedIds);
+        memberRepository.deductMileageBatch(expiredByMember);
+        memberRepository.deductArchivedMileageBatch(archivedExpired);
+        ledgerService.appendAll(ledger);
+        
+        Map<Long, Map<Long, Integer>> usages = new LinkedHashMap<>();
+        for (MileageTransaction transaction : ledger) {
+            usages.put(transaction.getId(), lotsByMember.get(transaction.getMemberId()));
+        }
+        lotRepository.insertUsages(usages);
+        return new Batch(lots.size(), ledger.size(), expiredMileage, events);
+    }
+}
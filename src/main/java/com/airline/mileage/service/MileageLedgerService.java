@@ -0,0 +1,96 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.CursorPageResponseDto;
+import com.airline.mileage.dto.response.MileageTransactionResponseDto;
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.repository.MileageTransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 마일리지 원장 기록 및 이력 조회
+ * 기록은 호출한 트랜잭션에 합류하며, flush 시 hibernate.jdbc.batch_size 단위로 묶여 INSERT 된다.
+ */
+@Service
+@Transactional
+public class MileageLedgerService {
+    
+    private static final char CURSOR_SEPARATOR = '_';
+    
+    @Autowired
+    private MileageTransactionRepository transactionRepository;
+    
+    @Autowired
+    private MemberRepository memberRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * 이력 한 건 기록
+     */
+    public void append(MileageTransaction transaction) {
+        entityManager.persist(transaction);
+    }
+    
+    /**
+     * 이력 여러 건 기록 (한 번의 배치 INSERT 로 전송)
+     */
+    public void appendAll(Collection<MileageTransaction> transactions) {
+        for (MileageTransaction transaction : transactions) {
+            entityManager.persist(transaction);
+        }
+    }
+    
+    /**
+     * 회원 마일리지 이력 조회 (최신순, (createdAt, id) 커서 기반)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<MileageTransactionResponseDto> getHistory(Long memberId, String cursor, int size) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId);
+        }
+        
+        int pageSize = Math.max(1, Math.min(size, MemberService.MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<MileageTransaction> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findLatestByMemberId(memberId, limit);
+        } else {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                LocalDateTime createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                Long id = Long.valueOf(cursor.substring(separator + 1));
+                transactions = transactionRepository.findByMemberIdBefore(memberId, createdAt, id, limit);
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+        
+        boolean hasNext = transactions.size() > pageSize;
+        if (hasNext) {
+            transactions = transactions.subList(0, pageSize);
+        }
+        
+        List<MileageTransactionResponseDto> content = transactions.stream()
+            .map(MileageTransactionResponseDto::new)
+            .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            MileageTransaction last = transactions.get(transactions.size() - 1);
+            nextCursor = last.getCreatedAt().toString() + CURSOR_SEPARATOR + last.getId();
+        }
+        return new CursorPageResponseDto<>(content, nextCursor);
+    }
+}
@@ -0,0 +1,128 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MileageLotResponseDto;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.repository.MileageLotRepository;
+import com.airline.mileage.repository.MileageLotView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 마일리지 lot 적립 및 FIFO 차감
+ * 호출한 트랜잭션에 합류하며, 회원 행을 먼저 갱신(잠금)한 뒤 호출해야 같은 회원의 lot 을 동시에 바꾸지 않는다.
+ */
+@Service
+@Transactional
+public class MileageLotService {
+    
+    private static final int CONSUME_PAGE_SIZE = 100;
+    
+    @Autowired
+    private MileageLotRepository lotRepository;
+    
+    @Autowired
+    private MemberRepository memberRepository;
+    
+    @Value("${mileage.expiry.validity-months:120}")
+    private int validityMonths;
+    
+    /**
+     * 적립 한 건을 lot 으로 기록
+     */
+    public void open(Long memberId, int mileage) {
+        openAll(Map.of(memberId, mileage));
+    }
+    
+    /**
+     * 회원별 적립을 회원당 lot 하나로 기록 (같은 시각 적립이라 소멸일이 같음)
+     */
+    public void openAll(Map<Long, Integer> mileageByMember) {
+        LocalDateTime now = LocalDateTime.now();
+        lotRepository.insertLots(mileageByMember, now, expiresOn(now));
+    }
+    
+    /**
+     * 적립 시각 기준 소멸일 (이 날짜부터 사용할 수 없음)
+     */
+    public LocalDate expiresOn(LocalDateTime earnedAt) {
+        return earnedAt.toLocalDate().plusMonths(validityMonths);
+    }
+    
+    /**
+     * 소멸일이 빠른 lot 부터 차감하고 원장 기록에 차감 내역을 남김
+     * lot 잔여가 모자라면 나머지는 lot 도입 이전의 소멸 없는 잔액에서 차감된 것으로 본다.
+     * @return lot id → 차감 마일리지 (차감 순서)
+     */
+    public Map<Long, Integer> consume(Long memberId, int mileage, Long transactionId) {
+        Map<Long, Integer> usages = new LinkedHashMap<>();
+        take(memberId, mileage, transactionId).forEach((lot, taken) -> usages.put(lot.id(), taken));
+        return usages;
+    }
+    
+    /**
+     * 양도: 보내는 회원의 lot 을 소멸일이 빠른 것부터 차감하고, 받는 회원에게 같은 소멸일의 lot 으로 연다
+     * 양도로 유효기간이 늘어나지 않으며, lot 없는 잔액에서 차감된 부분은 받는 회원에게도 lot 없이 더해진다.
+     */
+    public void transfer(Long fromMemberId, Long toMemberId, int mileage, Long transactionId) {
+        Map<LocalDate, Integer> byExpiry = new TreeMap<>();
+        take(fromMemberId, mileage, transactionId).forEach((lot, taken) ->
+            byExpiry.merge(lot.expiryBucket(), taken, Integer::sum));
+        LocalDateTime now = LocalDateTime.now();
+        byExpiry.forEach((expiresOn, amount) -> lotRepository.insertLots(Map.of(toMemberId, amount), now, expiresOn));
+    }
+    
+    private Map<MileageLotView, Integer> take(Long memberId, int mileage, Long transactionId) {
+        Map<MileageLotView, Integer> taken = new LinkedHashMap<>();
+        Map<Long, Integer> usages = new LinkedHashMap<>();
+        Map<Long, Integer> remainingByLot = new LinkedHashMap<>();
+        int left = mileage;
+        LocalDate afterBucket = null;
+        long afterId = 0L;
+        while (left > 0) {
+            List<MileageLotView> lots = lotRepository.findOpenLots(memberId, afterBucket, afterId, CONSUME_PAGE_SIZE);
+            for (MileageLotView lot : lots) {
+                int amount = Math.min(left, lot.remaining());
+                taken.put(lot, amount);
+                usages.put(lot.id(), amount);
+                remainingByLot.put(lot.id(), lot.remaining() - amount);
+                left -= amount;
+                if (left == 0) {
+                    break;
+                }
+            }
+            if (lots.size() < CONSUME_PAGE_SIZE) {
+                break;
+            }
+            MileageLotView last = lots.get(lots.size() - 1);
+            afterBucket = last.expiryBucket();
+            afterId = last.id();
+        }
+        lotRepository.updateRemaining(remainingByLot);
+        lotRepository.insertUsages(Map.of(transactionId, usages));
+        return taken;
+    }
+    
+    /**
+     * 회원의 열린 lot (소멸일 순)
+     */
+    @Transactional(readOnly = true)
+    public List<MileageLotResponseDto> getOpenLots(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId);
+        }
+        return lotRepository.findOpenByMemberId(memberId)
+            .stream()
+            .map(MileageLotResponseDto::new)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.airline.mileage.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마일리지 적립/사용/양도 카운터
+ * 측정값은 생성할 때 한 번만 등록하고 호출마다 더하기만 한다.
+ */
+@Component
+public class MileageMetrics {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Counter addedMileage;
+    private Counter usedMileage;
+    private Counter addCount;
+    private Counter useCount;
+    private Counter transferredMileage;
+    private Counter transferCount;
+    private Counter insufficientBalance;
+    private Counter idempotentReplays;
+
+    @PostConstruct
+    void init() {
+        this.addedMileage = Counter.builder("mileage.amount")
+            .description("적립/사용한 마일리지 합계")
+            .baseUnit("miles")
+            .tag("type", "add")
+            .register(registry);
+        this.usedMileage = Counter.builder("mileage.amount")
+            .description("적립/사용한 마일리지 합계")
+            .baseUnit("miles")
+            .tag("type", "use")
+            .register(registry);
+        this.addCount = Counter.builder("mileage.transactions")
+            .description("마일리지 적립/사용 건수")
+            .tag("type", "add")
+            .register(registry);
+        this.useCount = Counter.builder("mileage.transactions")
+            .description("마일리지 적립/사용 건수")
+            .tag("type", "use")
+            .register(registry);
+        this.transferredMileage = Counter.builder("mileage.amount")
+            .description("적립/사용한 마일리지 합계")
+            .baseUnit("miles")
+            .tag("type", "transfer")
+            .register(registry);
+        this.transferCount = Counter.builder("mileage.transactions")
+            .description("마일리지 적립/사용 건수")
+            .tag("type", "transfer")
+            .register(registry);
+        this.insufficientBalance = Counter.builder("mileage.use.rejected")
+            .description("사용 거절 건수")
+            .tag("reason", "insufficient_balance")
+            .register(registry);
+        this.idempotentReplays = Counter.builder("mileage.idempotency.replays")
+            .description("같은 멱등 키로 다시 들어와 저장된 응답을 돌려준 건수")
+            .register(registry);
+    }
+
+    public void added(int mileage) {
+        addCount.increment();
+        addedMileage.increment(mileage);
+    }
+
+    /**
+     * 여러 건을 한 번에 반영한 적립 (대량 적립 chunk, write-behind flush)
+     */
+    public void added(long mileage, int credits) {
+        addCount.increment(credits);
+        addedMileage.increment(mileage);
+    }
+
+    public void used(int mileage) {
+        useCount.increment();
+        usedMileage.increment(mileage);
+    }
+
+    public void transferred(int mileage, int transfers) {
+        transferCount.increment(transfers);
+        transferredMileage.increment(mileage);
+    }
+
+    public void rejectedForInsufficientBalance() {
+        insufficientBalance.increment();
+    }
+
+    public void idempotentReplay() {
+        idempotentReplays.increment();
+    }
+}
@@ -0,0 +1,144 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.request.MileageTransferRequestDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.dto.response.MileageTransferResponseDto;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.entity.MileageTransaction;
+import com.airline.mileage.entity.MileageTransactionType;
+import com.airline.mileage.event.MemberChangedEvent;
+import com.airline.mileage.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 간 마일리지 양도 (가족 합산, 법인 → 직원 지급)
+ * 보내는 회원 차감과 받는 회원 적립을 한 트랜잭션에서 하고, 관련 회원 행을 모두 id 순으로 먼저 잠근다.
+ * 반대 방향 양도나 적립 배치/소멸 스윕도 같은 id 순으로 잠그므로 서로 교착되지 않는다.
+ * 양도는 사용 가능 잔액과 lot 만 옮기고 양쪽 모두 누적 마일리지와 등급은 바꾸지 않는다. 누적 마일리지는 탑승 실적이므로
+ * 받은 쪽에 더하면 두 회원이 같은 마일리지를 주고받는 것만으로 등급을 올릴 수 있기 때문이다.
+ * 보내는 회원의 lot 은 소멸일을 유지한 채 옮겨진다.
+ */
+@Service
+@Transactional
+public class MileageTransferService {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MileageLedgerService ledgerService;
+
+    @Autowired
+    private MileageLotService lotService;
+
+    @Autowired
+    private MileageWriteBuffer writeBuffer;
+
+    @Autowired
+    private MileageMetrics mileageMetrics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 한 회원에게 양도
+     * @throws IllegalArgumentException 회원이 없거나 자기 자신에게 보내거나 잔액이 부족할 때
+     */
+    public MileageTransferResponseDto transfer(Long fromMemberId, MileageTransferRequestDto request) {
+        return transferAll(fromMemberId, List.of(request));
+    }
+
+    /**
+     * 여러 회원에게 양도 (급여식 일괄 지급, 전부 반영되거나 전부 취소)
+     * @throws IllegalArgumentException 회원이 없거나 자기 자신에게 보내거나 잔액이 부족할 때
+     */
+    public MileageTransferResponseDto transferAll(Long fromMemberId, List<MileageTransferRequestDto> transfers) {
+        if (transfers.isEmpty()) {
+            throw new IllegalArgumentException("양도 내역이 없습니다");
+        }
+        Map<Long, Integer> received = new TreeMap<>();
+        int total = 0;
+        for (MileageTransferRequestDto transfer : transfers) {
+            if (transfer.getToMemberId().equals(fromMemberId)) {
+                throw new IllegalArgumentException("자기 자신에게는 양도할 수 없습니다: " + fromMemberId);
+            }
+            received.merge(transfer.getToMemberId(), transfer.getMileage(), Math::addExact);
+            total = Math.addExact(total, transfer.getMileage());
+        }
+
+        TreeSet<Long> ids = new TreeSet<>(received.keySet());
+        ids.add(fromMemberId);
+        Map<Long, MemberSnapshot> before = lock(ids);
+        // 잠근 뒤에 대기 적립을 반영해야 보내는 회원 행만 먼저 잠그는 순서가 생기지 않음
+        if (writeBuffer.pendingFor(fromMemberId) > 0) {
+            writeBuffer.flushMember(fromMemberId);
+            before.put(fromMemberId, memberRepository.lockSnapshots(List.of(fromMemberId)).get(0));
+        }
+
+        MemberSnapshot sender = before.get(fromMemberId);
+        if (sender.availableMileage() < total || !memberRepository.useMileageAtomically(fromMemberId, total)) {
+            mileageMetrics.rejectedForInsufficientBalance();
+            throw new IllegalArgumentException(
+                String.format("사용 가능한 마일리지가 부족합니다. 요청: %d, 보유: %d",
+                    total, sender.availableMileage())
+            );
+        }
+        memberRepository.creditAvailableBatch(received);
+
+        // 건별 원장 기록 (보낸 쪽/받은 쪽 잔액을 건마다 누적), 보낸 쪽 lot 을 받은 쪽으로 이동
+        Map<Long, Integer> balances = new HashMap<>();
+        before.forEach((id, member) -> balances.put(id, member.availableMileage()));
+        List<MileageTransaction> incoming = new ArrayList<>();
+        for (MileageTransferRequestDto transfer : transfers) {
+            Long toMemberId = transfer.getToMemberId();
+            int mileage = transfer.getMileage();
+            MileageTransaction outgoing = new MileageTransaction(fromMemberId, MileageTransactionType.TRANSFER_OUT,
+                -mileage, transfer.getReason(), balances.merge(fromMemberId, -mileage, Integer::sum));
+            ledgerService.append(outgoing);
+            lotService.transfer(fromMemberId, toMemberId, mileage, outgoing.getId());
+            incoming.add(new MileageTransaction(toMemberId, MileageTransactionType.TRANSFER_IN,
+                mileage, transfer.getReason(), balances.merge(toMemberId, mileage, Integer::sum)));
+        }
+        ledgerService.appendAll(incoming);
+
+        Map<Long, MemberSnapshot> after = lock(ids);
+        after.values().forEach(member ->
+            eventPublisher.publishEvent(MemberChangedEvent.mileageChanged(before.get(member.id()), member)));
+        mileageMetrics.transferred(total, transfers.size());
+
+        MileageTransferResponseDto result = new MileageTransferResponseDto();
+        result.setSender(new MemberResponseDto(after.get(fromMemberId)));
+        result.setRecipients(received.keySet().stream()
+            .map(id -> new MemberResponseDto(after.get(id)))
+            .toList());
+        result.setTransfers(transfers.size());
+        result.setTransferredMileage(total);
+        return result;
+    }
+
+    /**
+     * 활성 회원 행을 id 순으로 잠그고 스냅샷 반환 (없는 회원이 있으면 예외)
+     */
+    private Map<Long, MemberSnapshot> lock(TreeSet<Long> ids) {
+        Map<Long, MemberSnapshot> members = memberRepository.lockActiveSnapshots(ids).stream()
+            .collect(Collectors.toMap(MemberSnapshot::id, Function.identity(), (a, b) -> a, HashMap::new));
+        for (Long id : ids) {
+            if (!members.containsKey(id)) {
+                throw new IllegalArgumentException("회원을 찾을 수 없습니다: " + id);
+            }
+        }
+        return members;
+    }
+}
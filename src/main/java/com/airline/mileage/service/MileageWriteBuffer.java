@@ -0,0 +1,433 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.dto.response.WriteBufferStatsResponseDto;
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.entity.MemberGrade;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 마일리지 적립 쓰기 지연(write-behind) 버퍼
+ * 적립 요청을 회원별로 모아 두었다가 flush 간격 또는 대기 건수 임계치마다
+ * 회원당 한 문장의 UPDATE 로 반영한다. 같은 회원 행에 대한 잠금 경합을 줄이기 위한 선택 기능이며
+ * mileage.write-behind.enabled=true 일 때만 동작한다.
+ * 대기열에서 꺼낸 적립은 반영 트랜잭션이 끝날(afterCompletion) 때까지 in-flight 로 남겨 조회에 계속 더하고,
+ * 커밋되면 지우고 롤백되면 대기열로 되돌린다.
+ */
+@Service
+public class MileageWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(MileageWriteBuffer.class);
+
+    @Value("${mileage.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mileage.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${mileage.write-behind.flush-threshold:1000}")
+    private int flushThreshold;
+
+    @Value("${mileage.write-behind.stripes:16}")
+    private int stripeCount;
+
+    @Autowired
+    private MileageCreditWriter creditWriter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Stripe[] stripes;
+    private ScheduledExecutorService scheduler;
+    private final AtomicLong pendingCredits = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong flushedCredits = new AtomicLong();
+    private volatile long lastFlushAt;
+    private volatile long lastFlushDurationMillis;
+    private volatile int lastFlushCredits;
+
+    /**
+     * 회원 id 로 나눈 잠금 단위
+     */
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<Long, Pending> pending = new HashMap<>();
+        // 꺼냈지만 반영 트랜잭션이 아직 끝나지 않은 적립 합계
+        final Map<Long, Integer> inFlight = new HashMap<>();
+        // 이 stripe 회원의 적립이 커밋되어 저장된 잔액이 바뀔 때마다 증가
+        long epoch;
+    }
+
+    /**
+     * 회원의 대기 적립 합계와 읽은 시점의 flush epoch
+     * 저장된 행을 읽기 전에 받은 epoch 와 같으면 그 사이에 커밋된 flush 가 없어 저장된 잔액 + total 이 맞는다.
+     */
+    public record PendingTotal(int total, long epoch) {
+    }
+
+    /**
+     * 한 회원의 대기 중인 적립
+     */
+    private static final class Pending {
+        final List<MileageCreditWriter.Credit> credits = new ArrayList<>();
+        int total;
+        long firstEnqueuedAt;
+
+        Pending(long firstEnqueuedAt) {
+            this.firstEnqueuedAt = firstEnqueuedAt;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mileage-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+            TimeUnit.MILLISECONDS);
+        log.info("마일리지 write-behind 사용: {}ms 또는 {}건마다 반영", flushIntervalMillis, flushThreshold);
+    }
+
+    /**
+     * 종료 시 남은 적립을 모두 반영
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        int flushed = flush();
+        log.info("마일리지 write-behind 종료: 남은 적립 {}건 반영", flushed);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 적립 대기열에 추가
+     * @return 추가한 적립을 포함한 대기 합계와 epoch (같은 잠금 안에서 읽음)
+     */
+    public PendingTotal enqueue(Long memberId, int mileage, String reason) {
+        Stripe stripe = stripeFor(memberId);
+        PendingTotal total;
+        stripe.lock.lock();
+        try {
+            Pending pending = stripe.pending.computeIfAbsent(memberId, id -> new Pending(System.currentTimeMillis()));
+            pending.credits.add(new MileageCreditWriter.Credit(mileage, reason));
+            pending.total += mileage;
+            total = new PendingTotal(pending.total + stripe.inFlight.getOrDefault(memberId, 0), stripe.epoch);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (pendingCredits.incrementAndGet() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+        return total;
+    }
+
+    /**
+     * 회원 stripe 의 현재 flush epoch (저장된 행을 읽기 전에 받아 두고 PendingTotal 의 epoch 와 비교)
+     */
+    public long epoch(Long memberId) {
+        Stripe stripe = stripeFor(memberId);
+        stripe.lock.lock();
+        try {
+            return stripe.epoch;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 대기 적립 합계와 epoch
+     */
+    public PendingTotal pendingTotal(Long memberId) {
+        Stripe stripe = stripeFor(memberId);
+        stripe.lock.lock();
+        try {
+            Pending pending = stripe.pending.get(memberId);
+            int total = (pending == null ? 0 : pending.total) + stripe.inFlight.getOrDefault(memberId, 0);
+            return new PendingTotal(total, stripe.epoch);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 반영 대기 중인 적립 합계 (반영 트랜잭션이 끝나지 않은 적립 포함)
+     */
+    public int pendingFor(Long memberId) {
+        if (!enabled) {
+            return 0;
+        }
+        Stripe stripe = stripeFor(memberId);
+        stripe.lock.lock();
+        try {
+            Pending pending = stripe.pending.get(memberId);
+            return (pending == null ? 0 : pending.total) + stripe.inFlight.getOrDefault(memberId, 0);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 조회 결과에 반영 대기 중인 적립을 더한 값 (저장된 잔액 + 대기 적립)
+     */
+    public MemberResponseDto withPending(MemberResponseDto member) {
+        return withPending(member, pendingFor(member.getId()));
+    }
+
+    /**
+     * 이미 읽은 대기 적립 합계를 조회 결과에 더함 (ETag 와 응답 본문이 같은 값을 쓰도록)
+     */
+    public MemberResponseDto withPending(MemberResponseDto member, int pending) {
+        if (pending == 0) {
+            return member;
+        }
+        member.setTotalMileage(member.getTotalMileage() + pending);
+        member.setAvailableMileage(member.getAvailableMileage() + pending);
+        MemberGrade grade = MemberGrade.getGradeByMileage(member.getTotalMileage());
+        member.setGrade(grade);
+        member.setGradeDisplayName(grade.getDisplayName());
+        return member;
+    }
+
+    /**
+     * 한 회원의 대기 적립을 현재 트랜잭션에서 반영
+     * 사용 전에 호출해 잔액을 맞추며, 트랜잭션이 롤백되면 다시 대기열로 돌려놓는다.
+     */
+    public void flushMember(Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        Stripe stripe = stripeFor(memberId);
+        Pending pending;
+        stripe.lock.lock();
+        try {
+            pending = stripe.pending.remove(memberId);
+            if (pending != null) {
+                stripe.inFlight.merge(memberId, pending.total, Integer::sum);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (pending == null) {
+            return;
+        }
+        pendingCredits.addAndGet(-pending.credits.size());
+
+        Map<Long, Pending> drained = Map.of(memberId, pending);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean applied = false;
+            try {
+                creditWriter.apply(Map.of(memberId, pending.credits));
+                applied = true;
+            } finally {
+                settle(drained, applied);
+            }
+            return;
+        }
+        settleOnCompletion(drained);
+        creditWriter.apply(Map.of(memberId, pending.credits));
+    }
+
+    /**
+     * 대기 중인 적립을 모두 반영
+     * @return 반영한 적립 건수
+     */
+    public int flush() {
+        if (!enabled) {
+            return 0;
+        }
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            Map<Long, Pending> drained = drainAll();
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            long started = System.currentTimeMillis();
+            Map<Long, List<MileageCreditWriter.Credit>> credits = new LinkedHashMap<>();
+            int count = 0;
+            for (Map.Entry<Long, Pending> entry : drained.entrySet()) {
+                credits.put(entry.getKey(), entry.getValue().credits);
+                count += entry.getValue().credits.size();
+            }
+
+            AtomicBoolean registered = new AtomicBoolean();
+            try {
+                Map<Long, Member> applied = transactionTemplate.execute(status -> {
+                    settleOnCompletion(drained);
+                    registered.set(true);
+                    return creditWriter.apply(credits);
+                });
+                if (applied.size() < credits.size()) {
+                    log.warn("삭제되었거나 없는 회원의 대기 적립 {}명분을 버립니다", credits.size() - applied.size());
+                }
+            } catch (RuntimeException e) {
+                // 트랜잭션을 시작하지 못했으면 afterCompletion 이 오지 않으므로 직접 되돌림
+                if (!registered.get()) {
+                    settle(drained, false);
+                }
+                throw e;
+            }
+
+            lastFlushAt = System.currentTimeMillis();
+            lastFlushDurationMillis = lastFlushAt - started;
+            lastFlushCredits = count;
+            flushedCredits.addAndGet(count);
+            return count;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기열 상태 (대기 건수, 가장 오래된 대기 적립의 지연 등)
+     */
+    public WriteBufferStatsResponseDto getStats() {
+        WriteBufferStatsResponseDto stats = new WriteBufferStatsResponseDto();
+        stats.setEnabled(enabled);
+        if (!enabled) {
+            return stats;
+        }
+
+        long oldest = Long.MAX_VALUE;
+        int members = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                members += stripe.pending.size();
+                for (Pending pending : stripe.pending.values()) {
+                    oldest = Math.min(oldest, pending.firstEnqueuedAt);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        stats.setPendingCredits(pendingCredits.get());
+        stats.setPendingMembers(members);
+        stats.setFlushLagMillis(oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest);
+        stats.setLastFlushAt(lastFlushAt);
+        stats.setLastFlushDurationMillis(lastFlushDurationMillis);
+        stats.setLastFlushCredits(lastFlushCredits);
+        stats.setFlushedCredits(flushedCredits.get());
+        return stats;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("마일리지 write-behind 반영 실패, 다음 주기에 재시도합니다", e);
+        }
+    }
+
+    private Map<Long, Pending> drainAll() {
+        Map<Long, Pending> drained = new LinkedHashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                for (Map.Entry<Long, Pending> entry : stripe.pending.entrySet()) {
+                    stripe.inFlight.merge(entry.getKey(), entry.getValue().total, Integer::sum);
+                }
+                drained.putAll(stripe.pending);
+                stripe.pending.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        long credits = 0;
+        for (Pending pending : drained.values()) {
+            credits += pending.credits.size();
+        }
+        pendingCredits.addAndGet(-credits);
+        return drained;
+    }
+
+    /**
+     * 현재 트랜잭션이 끝나면 꺼낸 적립을 정리하도록 등록
+     */
+    private void settleOnCompletion(Map<Long, Pending> drained) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                settle(drained, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * 꺼낸 적립을 in-flight 에서 지우고, 반영되지 않았으면 기존 대기분 앞에 다시 넣음 (순서 유지)
+     * 같은 잠금 안에서 옮기므로 조회 합계가 중간에 빠지지 않는다. 커밋됐으면 stripe epoch 를 올린다.
+     */
+    private void settle(Map<Long, Pending> drained, boolean committed) {
+        for (Map.Entry<Long, Pending> entry : drained.entrySet()) {
+            Stripe stripe = stripeFor(entry.getKey());
+            Pending restored = entry.getValue();
+            int restoredCredits = restored.credits.size();
+            stripe.lock.lock();
+            try {
+                stripe.inFlight.computeIfPresent(entry.getKey(),
+                    (id, total) -> total == restored.total ? null : total - restored.total);
+                if (committed) {
+                    stripe.epoch++;
+                } else {
+                    Pending newer = stripe.pending.get(entry.getKey());
+                    if (newer != null) {
+                        restored.credits.addAll(newer.credits);
+                        restored.total += newer.total;
+                        restored.firstEnqueuedAt = Math.min(restored.firstEnqueuedAt, newer.firstEnqueuedAt);
+                    }
+                    stripe.pending.put(entry.getKey(), restored);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (!committed) {
+                pendingCredits.addAndGet(restoredCredits);
+            }
+        }
+    }
+
+    private Stripe stripeFor(Long memberId) {
+        return stripes[Math.floorMod(Long.hashCode(memberId), stripes.length)];
+    }
+}
@@ -0,0 +1,54 @@
+package com.airline.mileage.service;
+
+import com.airline.mileage.event.MemberChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 최근에 변경된 회원 (복제본 읽기 사용 시)
+ * 변경이 커밋된 회원을 read-your-writes 구간 동안 기억해, 그 회원의 요청은 복제 지연과 관계없이
+ * primary 에서 읽도록 한다 (ReplicaRoutingConfig 의 요청 인터셉터).
+ */
+@Service
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    @Value("${datasource.replica.read-your-writes-ms:2000}")
+    private long windowMillis;
+
+    @Value("${datasource.replica.read-your-writes-maximum-size:100000}")
+    private long maximumSize;
+
+    private Cache<Long, Boolean> recentWrites;
+
+    @PostConstruct
+    void init() {
+        recentWrites = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(windowMillis))
+            .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        recentWrites.put(event.memberId(), Boolean.TRUE);
+    }
+
+    /**
+     * read-your-writes 구간 안에 변경된 회원인지
+     */
+    public boolean isRecentlyWritten(Long memberId) {
+        return memberId != null && recentWrites.getIfPresent(memberId) != null;
+    }
+
+    public long size() {
+        return recentWrites.estimatedSize();
+    }
+}
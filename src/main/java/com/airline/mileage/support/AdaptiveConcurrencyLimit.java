@@ -0,0 +1,113 @@
+package com.airline.mileage.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간에 맞춰 조정되는 동시 실행 한도 (한도를 넘는 요청은 기다리지 않고 바로 거절)
+ * window 마다 그 구간의 평균 지연을 기준 지연(부하가 없을 때의 지연)과 비교해, 기준 × tolerance 보다 느리면
+ * 그 비율만큼(최대 절반까지) 한도를 줄이고, 그렇지 않고 한도 가까이 쓰였으면 √한도 만큼 늘린다.
+ * 기준 지연은 더 빠른 구간이 나오면 바로 낮추고, 느린 구간은 조금씩만 따라가 데이터가 늘어난 만큼의 변화만 반영한다.
+ * 대기열을 두지 않으므로 DB 가 느려져도 요청이 쌓여 커넥션 풀 대기가 길어지지 않는다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BASELINE_DRIFT = 0.01;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+
+    private volatile int limit;
+    private volatile double baselineNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong windowEnd;
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, long windowMillis) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("한도 범위가 올바르지 않습니다: " + minLimit + "~" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = windowMillis * 1_000_000;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * 실행 허가 (성공하면 끝날 때 release 를 호출해야 함)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 허가 반납과 지연 기록 (구간이 끝났으면 한 스레드만 한도를 다시 계산)
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+        long now = System.nanoTime();
+        long end = windowEnd.get();
+        if (now - end >= 0 && windowEnd.compareAndSet(end, now + windowNanos)) {
+            adjust();
+        }
+    }
+
+    private void adjust() {
+        long samples = windowSamples.sumThenReset();
+        long latency = windowLatencyNanos.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+        double average = (double) latency / samples;
+        double baseline = baselineNanos;
+        baseline = baseline == 0 || average < baseline ? average : baseline + (average - baseline) * BASELINE_DRIFT;
+        baselineNanos = baseline;
+
+        int current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, baseline * tolerance / average));
+        double next = current * gradient;
+        // 한도까지 쓰이지 않은 구간에서는 늘리지 않음 (한가할 때 한도가 끝없이 커지지 않도록)
+        if (gradient == 1.0 && peak * 2 >= current) {
+            next += Math.sqrt(current);
+        }
+        limit = (int) Math.max(minLimit, Math.min(maxLimit, Math.round(next)));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getBaselineMillis() {
+        return baselineNanos / 1_000_000;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,135 @@
+package com.airline.mileage.support;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 변경/검색 API 요청 수락 제어
+ * 회원({id} 경로)별, API 클라이언트별 토큰 버킷을 먼저 보고, 전체 동시 실행 한도(DB 지연에 맞춰 조정)를 넘으면
+ * 기다리게 하지 않고 바로 429 와 Retry-After 로 거절한다. 조회(GET)는 searchPatterns 에 있는 검색만 제어한다.
+ * 이 엔드포인트들은 처리 시간 대부분이 DB 작업(커넥션 대기 포함)이라 요청 처리 시간을 DB 지연으로 본다.
+ * 가져오기·일괄 적립·보관 같은 관리용 일괄 작업(batchPatterns)은 몇 초~몇 분씩 걸려 지연 기준을 흐리므로
+ * 속도 제한만 적용하고 동시 실행 한도와 지연 측정에서는 뺀다.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED = AdmissionControlInterceptor.class.getName() + ".started";
+    private static final String MEMBER_ID_VARIABLE = "id";
+
+    private final TokenBucketLimiter memberLimiter;
+    private final TokenBucketLimiter clientLimiter;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final String clientHeader;
+    private final Set<String> searchPatterns;
+    private final Set<String> batchPatterns;
+
+    public AdmissionControlInterceptor(TokenBucketLimiter memberLimiter, TokenBucketLimiter clientLimiter,
+                                       AdaptiveConcurrencyLimit concurrencyLimit, String clientHeader,
+                                       Set<String> searchPatterns, Set<String> batchPatterns) {
+        this.memberLimiter = memberLimiter;
+        this.clientLimiter = clientLimiter;
+        this.concurrencyLimit = concurrencyLimit;
+        this.clientHeader = clientHeader;
+        this.searchPatterns = searchPatterns;
+        this.batchPatterns = batchPatterns;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리의 두 번째 디스패치는 처음 받은 허가로 계속 실행
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !isControlled(request, pattern)) {
+            return true;
+        }
+        Long memberId = memberId(request);
+        if (memberId != null) {
+            long wait = memberLimiter.tryAcquire(memberId);
+            if (wait > 0) {
+                return reject(response, wait);
+            }
+        }
+        long wait = clientLimiter.tryAcquire(clientKey(request));
+        if (wait > 0) {
+            return reject(response, wait);
+        }
+        if (pattern != null && batchPatterns.contains(pattern)) {
+            return true;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            return reject(response, TimeUnit.SECONDS.toNanos(1));
+        }
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object started = request.getAttribute(STARTED);
+        if (started != null) {
+            request.removeAttribute(STARTED);
+            concurrencyLimit.release(System.nanoTime() - (Long) started);
+        }
+    }
+
+    public TokenBucketLimiter getMemberLimiter() {
+        return memberLimiter;
+    }
+
+    public TokenBucketLimiter getClientLimiter() {
+        return clientLimiter;
+    }
+
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private boolean isControlled(HttpServletRequest request, String pattern) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+        return pattern != null && searchPatterns.contains(pattern);
+    }
+
+    /**
+     * 접속 주소 + 클라이언트 식별 헤더 (헤더는 인증된 값이 아니므로 헤더만 바꿔 다른 버킷을 쓰지 못하게 주소와 묶음)
+     */
+    private String clientKey(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        String address = request.getRemoteAddr();
+        return client == null || client.isBlank() ? address : address + '|' + client;
+    }
+
+    private static boolean reject(HttpServletResponse response, long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long memberId(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(
+            HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get(MEMBER_ID_VARIABLE);
+        if (id == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
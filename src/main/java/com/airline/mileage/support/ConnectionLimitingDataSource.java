@@ -0,0 +1,121 @@
+package com.airline.mileage.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 획득 수를 공정(FIFO) 세마포어로 제한하는 DataSource
+ * 가상 스레드는 요청 수만큼 생기므로 수천 개가 동시에 풀에 몰려 대기하지 않도록
+ * 풀 크기만큼만 커넥션 획득을 허용하고, 나머지는 세마포어 대기열에서 순서대로 기다리다 제한 시간이 지나면 실패한다.
+ * 커넥션을 닫을 때 허가를 돌려준다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    public ConnectionLimitingDataSource(DataSource target, int maxPermits, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getActiveConnections() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public long getAcquiredCount() {
+        return acquired.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLTransientConnectionException(
+                    "커넥션 획득 대기 시간 초과 (" + acquireTimeoutMillis + "ms, 대기 " + permits.getQueueLength() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 획득 대기 중 인터럽트", e);
+        }
+        acquired.incrementAndGet();
+    }
+
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * 획득한 커넥션을 닫을 때 허가를 한 번만 돌려주도록 감쌈 (획득 실패 시 바로 반환)
+     */
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return new PermitConnection(connection);
+    }
+
+    /**
+     * close 에서만 허가를 돌려주고 나머지 호출은 그대로 넘기는 커넥션
+     */
+    private final class PermitConnection extends DelegatingConnection {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitConnection(Connection target) {
+            super(target);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
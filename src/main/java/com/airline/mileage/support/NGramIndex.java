@@ -0,0 +1,411 @@
+package com.airline.mileage.support;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 이름 검색용 n-gram 역색인
+ * 단어별로 글자 단위 unigram / bigram 을 만들고, 한글은 초성 bigram 도 색인해 "ㅎㄱㄷ" 같은 초성 검색을 지원한다.
+ * 각 term 의 posting list 는 회원 id 순으로 정렬된 long[] 이며, 원소 하나에 id 와 함께
+ * 이름 길이, term 위치(이름 앞/단어 앞/중간)를 묶어 두어 term 하나짜리 질의는 이름을 읽지 않고 순위를 매긴다.
+ * term 이 여러 개면 가장 짧은 목록부터 교집합을 구한 뒤 이름으로 연속 여부를 확인한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class NGramIndex {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_JONGSEONG = 21 * 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final char UNIGRAM = 'u';
+    private static final char BIGRAM = 'b';
+    private static final char CHOSEONG_BIGRAM = 'c';
+
+    /** posting 원소 하위 비트: 이름 길이(8비트) + term 위치(2비트) */
+    private static final int PAYLOAD_BITS = 10;
+    private static final int MAX_LENGTH = 255;
+    private static final int INSIDE = 0;
+    private static final int WORD_START = 1;
+    private static final int NAME_START = 2;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Name> names = new HashMap<>();
+
+    /**
+     * 정규화한 이름과 초성 (초성 질의 때 후보마다 변환하지 않도록 미리 계산)
+     */
+    private record Name(String text, String choseong) {
+        static Name of(String normalized) {
+            String choseong = toChoseong(normalized);
+            return new Name(normalized, choseong.equals(normalized) ? normalized : choseong);
+        }
+    }
+
+    /**
+     * 검색 결과 (offset 부터 limit 개의 id, 전체 일치 건수)
+     */
+    public record Result(List<Long> ids, int total) {
+    }
+
+    /**
+     * id 순으로 정렬된 posting 목록 (대부분 새 id 가 가장 커서 뒤에 붙음)
+     */
+    private static final class PostingList {
+        long[] entries = new long[4];
+        int size;
+
+        void put(long id, int length, int position) {
+            long entry = (id << PAYLOAD_BITS) | ((long) Math.min(length, MAX_LENGTH) << 2) | position;
+            if (size == 0 || idOf(entries[size - 1]) < id) {
+                insertAt(size, entry);
+                return;
+            }
+            int index = indexOf(id, 0);
+            if (index >= 0) {
+                entries[index] = entry;
+            } else {
+                insertAt(-index - 1, entry);
+            }
+        }
+
+        boolean remove(long id) {
+            int index = indexOf(id, 0);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * from 이후에서 id 위치 (없으면 -(삽입 위치) - 1)
+         */
+        int indexOf(long id, int from) {
+            int low = from;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                long value = idOf(entries[middle]);
+                if (value < id) {
+                    low = middle + 1;
+                } else if (value > id) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertAt(int index, long entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size + (size >> 1) + 1);
+            }
+            System.arraycopy(entries, index, entries, index + 1, size - index);
+            entries[index] = entry;
+            size++;
+        }
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    public boolean contains(long id) {
+        return names.containsKey(id);
+    }
+
+    /**
+     * 이름 등록 또는 변경
+     */
+    public void put(long id, String name) {
+        String normalized = normalize(name);
+        Name previous = names.put(id, Name.of(normalized));
+        if (previous != null && normalized.equals(previous.text())) {
+            return;
+        }
+        if (previous != null) {
+            for (String term : indexTerms(previous.text()).keySet()) {
+                removePosting(term, id);
+            }
+        }
+        for (Map.Entry<String, Integer> term : indexTerms(normalized).entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new PostingList())
+                .put(id, normalized.length(), term.getValue());
+        }
+    }
+
+    public void remove(long id) {
+        Name previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : indexTerms(previous.text()).keySet()) {
+            removePosting(term, id);
+        }
+    }
+
+    /**
+     * 이름 검색
+     * 순위: 이름 전체 일치 > 이름 앞부분 일치 > 단어 앞부분 일치 > 포함, 같으면 짧은 이름, id 순
+     */
+    public Result search(String query, int offset, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        boolean choseongQuery = isChoseong(normalized);
+        Set<String> terms = queryTerms(normalized, choseongQuery);
+        if (terms.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return new Result(List.of(), 0);
+            }
+            lists.add(list);
+        }
+        TopK top = new TopK(offset + limit);
+        if (lists.size() == 1) {
+            // term 하나면 목록 전체가 일치하므로 posting 에 묶인 길이/위치만으로 순위 계산
+            PostingList list = lists.get(0);
+            for (int i = 0; i < list.size; i++) {
+                long entry = list.entries[i];
+                int length = (int) (entry >>> 2) & MAX_LENGTH;
+                int position = (int) entry & 3;
+                int score = position == NAME_START ? (length == normalized.length() ? 0 : 1)
+                    : position == WORD_START ? 2 : 3;
+                top.offer(score, length, idOf(entry));
+            }
+            return top.result(offset, list.size);
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        PostingList shortest = lists.get(0);
+        long[] candidates = new long[shortest.size];
+        for (int i = 0; i < shortest.size; i++) {
+            candidates[i] = idOf(shortest.entries[i]);
+        }
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = intersect(candidates, count, lists.get(i));
+        }
+
+        String[] queryWords = normalized.split(" ");
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            Name name = names.get(candidates[i]);
+            String target = choseongQuery ? name.choseong() : name.text();
+            int score = score(target, normalized, queryWords);
+            if (score >= 0) {
+                total++;
+                top.offer(score, target.length(), candidates[i]);
+            }
+        }
+        return top.result(offset, total);
+    }
+
+    /**
+     * 상위 k개 유지 (가장 나쁜 순위가 머리에 오는 힙, 원소는 {점수, 이름 길이, id})
+     */
+    private static final class TopK {
+        final int k;
+        final PriorityQueue<long[]> heap;
+
+        TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), (a, b) -> compareRanked(b, a));
+        }
+
+        void offer(int score, int length, long id) {
+            if (k == 0) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new long[] {score, length, id});
+                return;
+            }
+            long[] worst = heap.peek();
+            boolean better = score != worst[0] ? score < worst[0]
+                : length != worst[1] ? length < worst[1] : id < worst[2];
+            if (better) {
+                heap.poll();
+                heap.add(new long[] {score, length, id});
+            }
+        }
+
+        Result result(int offset, int total) {
+            long[][] ordered = heap.toArray(new long[0][]);
+            Arrays.sort(ordered, NGramIndex::compareRanked);
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < ordered.length; i++) {
+                ids.add(ordered[i][2]);
+            }
+            return new Result(ids, total);
+        }
+    }
+
+    /**
+     * 0: 전체 일치, 1: 이름 앞부분, 2: 단어 앞부분, 3: 포함, -1: 불일치 (질의 단어가 모두 포함되어야 함)
+     */
+    private static int score(String target, String query, String[] queryWords) {
+        if (target.equals(query)) {
+            return 0;
+        }
+        if (target.startsWith(query)) {
+            return 1;
+        }
+        boolean wordStart = true;
+        for (String word : queryWords) {
+            int index = target.indexOf(word);
+            if (index < 0) {
+                return -1;
+            }
+            if (index > 0 && target.charAt(index - 1) != ' ') {
+                wordStart = false;
+            }
+        }
+        return wordStart ? 2 : 3;
+    }
+
+    private static int compareRanked(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int compared = Long.compare(a[i], b[i]);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * candidates[0, count) 중 list 에 있는 id 만 앞으로 모음 (둘 다 id 순, 긴 목록은 이진 탐색으로 건너뜀)
+     */
+    private static int intersect(long[] candidates, int count, PostingList list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < list.size; i++) {
+            int index = list.indexOf(candidates[i], from);
+            if (index >= 0) {
+                candidates[kept++] = candidates[i];
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void removePosting(String term, long id) {
+        PostingList list = postings.get(term);
+        if (list != null && list.remove(id) && list.size == 0) {
+            postings.remove(term);
+        }
+    }
+
+    private static long idOf(long entry) {
+        return entry >>> PAYLOAD_BITS;
+    }
+
+    /**
+     * 색인 term 과 이름 안에서 가장 앞선 위치: 단어별 unigram, bigram, 한글 단어는 초성 bigram 추가
+     */
+    private static Map<String, Integer> indexTerms(String name) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        String[] words = name.split(" ");
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            int wordPosition = w == 0 ? NAME_START : WORD_START;
+            addNGrams(terms, UNIGRAM, word, 1, wordPosition);
+            addNGrams(terms, BIGRAM, word, 2, wordPosition);
+            String choseong = toChoseong(word);
+            if (!choseong.equals(word)) {
+                addNGrams(terms, CHOSEONG_BIGRAM, choseong, 2, wordPosition);
+            }
+        }
+        return terms;
+    }
+
+    private static void addNGrams(Map<String, Integer> terms, char kind, String word, int n, int wordPosition) {
+        for (int i = 0; i + n <= word.length(); i++) {
+            terms.merge(kind + word.substring(i, i + n), i == 0 ? wordPosition : INSIDE, Math::max);
+        }
+    }
+
+    /**
+     * 질의 term: 한 글자 단어는 unigram, 그 외는 bigram (초성 질의는 초성 bigram)
+     */
+    private static Set<String> queryTerms(String query, boolean choseongQuery) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : query.split(" ")) {
+            int n = !choseongQuery && word.length() == 1 ? 1 : 2;
+            char kind = choseongQuery ? CHOSEONG_BIGRAM : n == 1 ? UNIGRAM : BIGRAM;
+            for (int i = 0; i + n <= word.length(); i++) {
+                terms.add(kind + word.substring(i, i + n));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 한글 음절을 초성 호환 자모로 바꿈 (그 외 글자는 그대로)
+     */
+    static String toChoseong(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                result.append(CHOSEONG.charAt((c - HANGUL_BASE) / JUNGSEONG_JONGSEONG));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isChoseong(String text) {
+        boolean any = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (CHOSEONG.indexOf(c) < 0) {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    /**
+     * NFC 정규화, 소문자, 연속 공백을 하나로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+            .toLowerCase(Locale.ROOT)
+            .trim()
+            .replaceAll("\\s+", " ");
+    }
+}
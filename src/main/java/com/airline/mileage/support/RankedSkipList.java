@@ -0,0 +1,236 @@
+package com.airline.mileage.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (order-statistics)
+ * 점수 내림차순, 같은 점수는 id 오름차순으로 정렬하며
+ * 각 링크에 건너뛰는 노드 수(span)를 저장해 순위/구간 조회를 O(log n)에 처리한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(0L, 0, MAX_LEVEL);
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private int level = 1;
+    private int size;
+
+    public record Entry(long id, int score) {
+    }
+
+    private static final class Node {
+        final long id;
+        final int score;
+        final Node[] forward;
+        final int[] span;
+
+        Node(long id, int score, int level) {
+            this.id = id;
+            this.score = score;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long id) {
+        return nodes.containsKey(id);
+    }
+
+    /**
+     * 점수 등록 또는 변경
+     */
+    public void put(long id, int score) {
+        Node existing = nodes.get(id);
+        if (existing != null) {
+            if (existing.score == score) {
+                return;
+            }
+            remove(id);
+        }
+
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.forward[i] != null && precedes(x.forward[i], score, id)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(id, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        nodes.put(id, node);
+        size++;
+    }
+
+    /**
+     * 항목 삭제
+     */
+    public boolean remove(long id) {
+        Node target = nodes.remove(id);
+        if (target == null) {
+            return false;
+        }
+
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && precedes(x.forward[i], target.score, target.id)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].forward[i] = target.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 점수 조회 (없으면 null)
+     */
+    public Integer score(long id) {
+        Node node = nodes.get(id);
+        return node == null ? null : node.score;
+    }
+
+    /**
+     * 1부터 시작하는 순위 (없으면 -1)
+     */
+    public int rank(long id) {
+        Node target = nodes.get(id);
+        if (target == null) {
+            return -1;
+        }
+
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null
+                    && (x.forward[i] == target || precedes(x.forward[i], target.score, target.id))) {
+                rank += x.span[i];
+                x = x.forward[i];
+            }
+            if (x == target) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 구간 조회 (fromRank 는 1부터 시작)
+     */
+    public List<Entry> range(int fromRank, int count) {
+        if (fromRank < 1 || fromRank > size || count <= 0) {
+            return Collections.emptyList();
+        }
+
+        Node x = nodeAt(fromRank);
+        List<Entry> entries = new ArrayList<>(Math.min(count, size - fromRank + 1));
+        while (x != null && entries.size() < count) {
+            entries.add(new Entry(x.id, x.score));
+            x = x.forward[0];
+        }
+        return entries;
+    }
+
+    /**
+     * 점수가 [minScore, maxScore] 구간에 있는 항목 수
+     */
+    public int countInRange(int minScore, int maxScore) {
+        if (minScore > maxScore) {
+            return 0;
+        }
+        int upper = countAtLeast(minScore);
+        int lower = maxScore == Integer.MAX_VALUE ? 0 : countAtLeast(maxScore + 1);
+        return upper - lower;
+    }
+
+    /**
+     * 점수가 minScore 이상인 항목 수
+     */
+    public int countAtLeast(int minScore) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && x.forward[i].score >= minScore) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+        }
+        return traversed;
+    }
+
+    private Node nodeAt(int rank) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private static boolean precedes(Node node, int score, long id) {
+        return node.score > score || (node.score == score && node.id < id);
+    }
+
+    private static int randomLevel() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int newLevel = 1;
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+}
@@ -0,0 +1,198 @@
+package com.airline.mileage.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 구성
+ * LazyConnectionDataSourceProxy 가 실제 커넥션을 첫 SQL 까지 미루므로, 트랜잭션의 read-only 여부가 정해진 뒤
+ * read-only 면 복제본 쪽(정상 복제본 라운드로빈)에서, 아니면 primary 에서 커넥션을 얻는다.
+ * 복제본은 주기적으로 커넥션 검사를 하고, 검사나 커넥션 획득에 실패한 복제본은 다음 검사에서 회복할 때까지 건너뛴다.
+ * 정상 복제본이 없거나 onPrimary 구간(방금 쓴 회원의 요청 등)이면 read-only 여도 primary 에서 읽는다.
+ */
+public class ReplicaRouting implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouting.class);
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final int validationTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+    private final LongAdder primaryReads = new LongAdder();
+    private final DataSource dataSource;
+
+    /**
+     * 복제본 하나 (이름, 풀, 상태)
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder connections = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() { return name; }
+        public boolean isHealthy() { return healthy; }
+        public long getConnections() { return connections.sum(); }
+    }
+
+    public ReplicaRouting(DataSource primary, Map<String, DataSource> replicas, long healthCheckIntervalMillis,
+                          int validationTimeoutSeconds) {
+        this.primary = primary;
+        replicas.forEach((name, replica) -> this.replicas.add(new Replica(name, replica)));
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReadDataSource());
+        this.dataSource = proxy;
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 애플리케이션이 사용할 DataSource (쓰기와 일반 트랜잭션은 primary, read-only 트랜잭션은 복제본)
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * 이 구간에서 시작하는 read-only 조회는 primary 에서 실행 (복제 지연 없이 최신 값이 필요할 때)
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = isPrimaryOnly();
+        setPrimaryOnly(true);
+        try {
+            return action.get();
+        } finally {
+            setPrimaryOnly(previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 read-only 조회를 primary 로 고정하거나 해제 (요청 단위 고정은 끝날 때 반드시 해제)
+     */
+    public static void setPrimaryOnly(boolean primaryOnly) {
+        if (primaryOnly) {
+            PRIMARY_ONLY.set(Boolean.TRUE);
+        } else {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    public static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    /**
+     * 복제본마다 커넥션을 얻어 검사하고 상태 갱신
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("복제본 회복: {}", replica.name);
+                } else {
+                    log.warn("복제본 비정상, 읽기 대상에서 제외: {}", replica.name);
+                }
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return List.copyOf(replicas);
+    }
+
+    /**
+     * read-only 였지만 primary 에서 읽은 커넥션 수 (primary 고정 구간, 정상 복제본 없음)
+     */
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection readConnection() throws SQLException {
+        if (!isPrimaryOnly()) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.connections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.healthy = false;
+                    log.warn("복제본 커넥션 실패, 읽기 대상에서 제외: {} - {}", replica.name, e.getMessage());
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * LazyConnectionDataSourceProxy 의 read-only 커넥션 공급자
+     */
+    private final class ReadDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readConnection();
+        }
+    }
+}
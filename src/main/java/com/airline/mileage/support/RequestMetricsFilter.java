@@ -0,0 +1,113 @@
+package com.airline.mileage.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 문장 수/시간 기록과 느린 요청 로그
+ * 요청마다 RequestSqlStats 를 시작/종료하고, 처리한 URI 패턴 기준으로
+ * http.server.requests.sql.statements(문장 수), http.server.requests.sql.time(SQL 시간)에 기록한다.
+ * 처리 시간이 기준을 넘으면 실행한 SQL 을 묶어 오래 걸린 순으로 로그에 남긴다.
+ * 측정값은 (메서드, URI 패턴)별로 한 번만 등록해 두고 재사용한다.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final int maxLoggedQueries;
+    private final Map<String, Map<String, RequestMeters>> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry registry, long slowThresholdMillis, int maxLoggedQueries) {
+        this.registry = registry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.maxLoggedQueries = maxLoggedQueries;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            stats.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern instanceof String matched ? matched : UNKNOWN_URI;
+            RequestMeters requestMeters = meters(request.getMethod(), uri);
+            requestMeters.statements.record(stats.getCount());
+            requestMeters.sqlTime.record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+            if (slowThresholdNanos > 0 && elapsed >= slowThresholdNanos) {
+                logSlowRequest(request, response, uri, elapsed, stats);
+            }
+            stats.clear();
+        }
+    }
+
+    private RequestMeters meters(String method, String uri) {
+        Map<String, RequestMeters> byMethod = meters.get(uri);
+        if (byMethod == null) {
+            byMethod = meters.computeIfAbsent(uri, key -> new ConcurrentHashMap<>());
+        }
+        RequestMeters requestMeters = byMethod.get(method);
+        if (requestMeters == null) {
+            requestMeters = byMethod.computeIfAbsent(method, key -> new RequestMeters(registry, key, uri));
+        }
+        return requestMeters;
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, String uri, long elapsed,
+            RequestSqlStats stats) {
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("느린 요청 %s %s (%s) %d - %.1f ms, SQL %d건 %.1f ms",
+            request.getMethod(), request.getRequestURI(), uri, response.getStatus(),
+            elapsed / 1e6, stats.getCount(), stats.getTotalNanos() / 1e6));
+        for (RequestSqlStats.QuerySummary query : stats.topQueries(maxLoggedQueries)) {
+            String sql = query.getSql().replaceAll("\\s+", " ").trim();
+            if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+                sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+            }
+            message.append(String.format("%n  %d회 %.1f ms: %s", query.getCount(), query.getTotalNanos() / 1e6, sql));
+        }
+        if (stats.getUntrackedCount() > 0) {
+            message.append(String.format("%n  (그 외 SQL 미기록 %d건)", stats.getUntrackedCount()));
+        }
+        log.warn(message.toString());
+    }
+
+    private static final class RequestMeters {
+
+        private final DistributionSummary statements;
+        private final Timer sqlTime;
+
+        private RequestMeters(MeterRegistry registry, String method, String uri) {
+            this.statements = DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("요청 하나에서 실행한 SQL 문장 수")
+                .tags("method", method, "uri", uri)
+                .register(registry);
+            this.sqlTime = Timer.builder("http.server.requests.sql.time")
+                .description("요청 하나에서 SQL 실행에 쓴 시간")
+                .tags("method", method, "uri", uri)
+                .register(registry);
+        }
+    }
+}
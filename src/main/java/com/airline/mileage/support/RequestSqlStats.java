@@ -0,0 +1,124 @@
+package com.airline.mileage.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행한 SQL 문장 수와 시간 (스레드별)
+ * 요청 시작 시 begin, 끝날 때 end 를 호출하고, 그 사이에 같은 스레드에서 실행한 문장을 record 로 기록한다.
+ * 스레드마다 한 번 만든 배열을 재사용하므로 기록할 때 객체를 만들지 않는다.
+ * 문장은 앞의 MAX_TRACKED 개만 SQL 문자열을 남기고 나머지는 수와 시간만 더한다.
+ */
+public final class RequestSqlStats {
+
+    private static final int MAX_TRACKED = 64;
+    private static final ThreadLocal<RequestSqlStats> CURRENT = ThreadLocal.withInitial(RequestSqlStats::new);
+
+    private final String[] statements = new String[MAX_TRACKED];
+    private final long[] statementNanos = new long[MAX_TRACKED];
+    private boolean active;
+    private int count;
+    private long totalNanos;
+
+    private RequestSqlStats() {
+    }
+
+    /**
+     * 현재 스레드에서 기록 시작 (이전 기록은 지움)
+     */
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = CURRENT.get();
+        stats.clear();
+        stats.active = true;
+        return stats;
+    }
+
+    /**
+     * 현재 스레드가 기록 중이면 문장 하나를 더함
+     */
+    public static void record(String sql, long nanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (!stats.active) {
+            return;
+        }
+        if (stats.count < MAX_TRACKED) {
+            stats.statements[stats.count] = sql;
+            stats.statementNanos[stats.count] = nanos;
+        }
+        stats.count++;
+        stats.totalNanos += nanos;
+    }
+
+    /**
+     * 기록 종료 (SQL 문자열 참조는 다음 begin 또는 clear 에서 지움)
+     */
+    public void end() {
+        active = false;
+    }
+
+    public void clear() {
+        int tracked = Math.min(count, MAX_TRACKED);
+        for (int i = 0; i < tracked; i++) {
+            statements[i] = null;
+        }
+        count = 0;
+        totalNanos = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 같은 SQL 을 묶어 오래 걸린 순으로 최대 limit 개 (느린 요청 로그용)
+     */
+    public List<QuerySummary> topQueries(int limit) {
+        Map<String, QuerySummary> grouped = new LinkedHashMap<>();
+        int tracked = Math.min(count, MAX_TRACKED);
+        for (int i = 0; i < tracked; i++) {
+            String sql = statements[i] == null ? "(unknown)" : statements[i];
+            QuerySummary summary = grouped.computeIfAbsent(sql, QuerySummary::new);
+            summary.count++;
+            summary.totalNanos += statementNanos[i];
+        }
+        List<QuerySummary> queries = new ArrayList<>(grouped.values());
+        queries.sort((left, right) -> Long.compare(right.totalNanos, left.totalNanos));
+        return queries.size() > limit ? queries.subList(0, limit) : queries;
+    }
+
+    /**
+     * SQL 문자열을 남기지 못한 문장 수
+     */
+    public int getUntrackedCount() {
+        return Math.max(0, count - MAX_TRACKED);
+    }
+
+    public static final class QuerySummary {
+
+        private final String sql;
+        private int count;
+        private long totalNanos;
+
+        private QuerySummary(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+}
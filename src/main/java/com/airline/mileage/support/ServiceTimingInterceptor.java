@@ -0,0 +1,66 @@
+package com.airline.mileage.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 호출 시간 기록 (service.calls, 태그: service, method, outcome)
+ * 메서드마다 성공/실패 Timer 를 처음 호출할 때 한 번만 등록하고, 이후에는 찾아서 기록만 한다.
+ * Advisor 는 다른 빈보다 먼저 만들어지므로 MeterRegistry 는 처음 등록할 때 찾는다 (설정 적용 전에 만들지 않도록).
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer[] methodTimers = timers.get(invocation.getMethod());
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(invocation.getMethod(), method -> register(invocation, method));
+        }
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodTimers[SUCCESS].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers[ERROR].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer[] register(MethodInvocation invocation, Method method) {
+        Class<?> type = invocation.getThis() != null
+            ? ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis()))
+            : method.getDeclaringClass();
+        Timer[] methodTimers = new Timer[2];
+        methodTimers[SUCCESS] = timer(type, method, "success");
+        methodTimers[ERROR] = timer(type, method, "error");
+        return methodTimers;
+    }
+
+    private Timer timer(Class<?> type, Method method, String outcome) {
+        return Timer.builder("service.calls")
+            .description("서비스 메서드 호출 시간")
+            .tags("service", type.getSimpleName(), "method", method.getName(), "outcome", outcome)
+            .register(registry.getObject());
+    }
+}
@@ -0,0 +1,31 @@
+package com.airline.mileage.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 문장 시간을 재는 JdbcTemplate
+ * 문장 설정(applyStatementSettings)부터 경고 확인(handleWarnings)까지를 잰다. 실패해도 handleWarnings 가 호출되며,
+ * 조회는 결과 매핑 시간까지 포함한다.
+ */
+public class SqlMetricsJdbcTemplate extends JdbcTemplate {
+
+    public SqlMetricsJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        SqlStatementMetrics.started();
+    }
+
+    @Override
+    protected void handleWarnings(Statement stmt) throws SQLException {
+        SqlStatementMetrics.finished();
+        super.handleWarnings(stmt);
+    }
+}
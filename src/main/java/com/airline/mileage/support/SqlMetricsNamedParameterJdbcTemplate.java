@@ -0,0 +1,22 @@
+package com.airline.mileage.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+/**
+ * 실행할 SQL(이름 있는 파라미터 형태)을 SqlStatementMetrics 에 알리는 NamedParameterJdbcTemplate
+ * 모든 조회/수정/배치가 getParsedSql 을 거친다.
+ */
+public class SqlMetricsNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+    public SqlMetricsNamedParameterJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected ParsedSql getParsedSql(String sql) {
+        SqlStatementMetrics.prepared(sql);
+        return super.getParsedSql(sql);
+    }
+}
@@ -0,0 +1,30 @@
+package com.airline.mileage.support;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 이벤트로 SQL 문장 시간을 잰다 (hibernate.session.events.auto 로 세션마다 생성)
+ * 배치는 executeBatch 한 번을 문장 하나로 센다.
+ */
+public class SqlMetricsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementMetrics.started();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementMetrics.finished();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        SqlStatementMetrics.started();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementMetrics.finished();
+    }
+}
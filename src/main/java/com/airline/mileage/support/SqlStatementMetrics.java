@@ -0,0 +1,69 @@
+package com.airline.mileage.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 문장 실행 수와 시간
+ * JPA 문장은 SqlMetricsSessionListener(Hibernate JDBC 이벤트), JdbcTemplate 문장은 SqlMetricsJdbcTemplate 가
+ * 실행 전후에 started/finished 를 호출한다. 실행할 SQL 은 그 직전에 prepared 로 받아 둔다
+ * (Hibernate StatementInspector, SqlMetricsNamedParameterJdbcTemplate).
+ * 전체 누적은 LongAdder 에 더하고, 요청 처리 중인 스레드면 RequestSqlStats 에도 SQL 과 함께 기록한다.
+ * 스레드마다 한 번 만든 상태를 재사용하므로 문장마다 객체를 만들지 않는다.
+ */
+public final class SqlStatementMetrics {
+
+    public static final SqlStatementMetrics INSTANCE = new SqlStatementMetrics();
+
+    private static final ThreadLocal<Execution> CURRENT = ThreadLocal.withInitial(Execution::new);
+
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder statementNanos = new LongAdder();
+
+    private SqlStatementMetrics() {
+    }
+
+    /**
+     * 현재 스레드에서 다음에 실행할 SQL (StatementInspector 로도 쓰므로 받은 SQL 을 그대로 돌려줌)
+     */
+    public static String prepared(String sql) {
+        CURRENT.get().pendingSql = sql;
+        return sql;
+    }
+
+    public static void started() {
+        Execution execution = CURRENT.get();
+        execution.sql = execution.pendingSql;
+        execution.pendingSql = null;
+        execution.startedNanos = System.nanoTime();
+        execution.running = true;
+    }
+
+    public static void finished() {
+        Execution execution = CURRENT.get();
+        if (!execution.running) {
+            return;
+        }
+        long elapsed = System.nanoTime() - execution.startedNanos;
+        execution.running = false;
+        INSTANCE.statementCount.increment();
+        INSTANCE.statementNanos.add(elapsed);
+        RequestSqlStats.record(execution.sql, elapsed);
+        execution.sql = null;
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public long getStatementNanos() {
+        return statementNanos.sum();
+    }
+
+    private static final class Execution {
+
+        private String pendingSql;
+        private String sql;
+        private long startedNanos;
+        private boolean running;
+    }
+}
@@ -0,0 +1,67 @@
+package com.airline.mileage.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 토큰 버킷 (초당 rate 개씩 채워지고 최대 burst 개까지 쌓임)
+ * GCRA 방식으로 키마다 "다음 토큰이 생기는 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신하므로 잠금이 없다.
+ * 키는 Caffeine 으로 최대 maxKeys 개까지만 두고, 버킷이 다시 가득 찰 만큼 쓰이지 않은 키는 버린다.
+ * 그 시간이 지난 버킷은 새 버킷과 같으므로 만료로 잃는 상태가 없고, 크기 초과로 축출된 키만 가득 찬 버킷으로 다시 시작한다.
+ */
+public class TokenBucketLimiter {
+
+    private final long emissionNanos;
+    private final long toleranceNanos;
+    private final Cache<Object, AtomicLong> buckets;
+    private final LongAdder rejected = new LongAdder();
+
+    public TokenBucketLimiter(double ratePerSecond, int burst, long maxKeys) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate 와 burst 는 양수여야 합니다");
+        }
+        this.emissionNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = emissionNanos * (burst - 1);
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(Duration.ofNanos(emissionNanos * burst))
+            .build();
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(Object key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long next = bucket.get();
+            long start = next - now > 0 ? next : now;
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(next, start + emissionNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 키 수 (밀린 축출을 먼저 처리)
+     */
+    public long getTrackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
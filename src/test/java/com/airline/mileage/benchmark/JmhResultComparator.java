@@ -0,0 +1,116 @@
+package com.airline.mileage.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JMH JSON 결과 두 개를 비교해서 회귀를 찾는다
+ * 벤치마크 이름과 @Param 값이 같은 항목끼리 비교하고, 처리량(thrpt)은 낮아질 때, 그 외 모드는 높아질 때를 나빠진 것으로 본다.
+ * 변화율이 기준을 넘고 차이가 두 결과의 오차 범위 합보다 클 때만 회귀로 판단한다.
+ *
+ * 단독 실행: java -cp ... JmhResultComparator 기준.json 현재.json [기준변화율]
+ */
+public final class JmhResultComparator {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private JmhResultComparator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("사용법: JmhResultComparator <기준.json> <현재.json> [기준변화율(기본 0.10)]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+		List<Comparison> regressions = compare(Path.of(args[0]), Path.of(args[1]), threshold, System.out);
+		System.exit(regressions.isEmpty() ? 0 : 1);
+	}
+
+	/**
+	 * 비교 결과를 out 에 출력하고 회귀 항목만 반환
+	 */
+	public static List<Comparison> compare(Path baseline, Path current, double threshold, PrintStream out)
+			throws IOException {
+		Map<String, Score> before = read(baseline);
+		Map<String, Score> after = read(current);
+		List<Comparison> regressions = new ArrayList<>();
+
+		out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+		for (Map.Entry<String, Score> entry : after.entrySet()) {
+			Score base = before.get(entry.getKey());
+			Score now = entry.getValue();
+			if (base == null) {
+				out.printf("%-90s %14s %14.3f %9s  NEW%n", entry.getKey(), "-", now.score(), "-");
+				continue;
+			}
+			Comparison comparison = new Comparison(entry.getKey(), base, now);
+			boolean regressed = comparison.worsening() > threshold
+				&& Math.abs(now.score() - base.score()) > base.error() + now.error();
+			out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), base.score(), now.score(),
+				comparison.worsening() * 100, regressed ? "  REGRESSION" : "");
+			if (regressed) {
+				regressions.add(comparison);
+			}
+		}
+		for (String key : before.keySet()) {
+			if (!after.containsKey(key)) {
+				out.printf("%-90s %14.3f %14s %9s  MISSING%n", key, before.get(key).score(), "-", "-");
+			}
+		}
+		return regressions;
+	}
+
+	private static Map<String, Score> read(Path path) throws IOException {
+		Map<String, Score> scores = new LinkedHashMap<>();
+		for (JsonNode node : OBJECT_MAPPER.readTree(path.toFile())) {
+			JsonNode metric = node.path("primaryMetric");
+			double error = metric.path("scoreError").asDouble(0);
+			scores.put(key(node), new Score(
+				node.path("mode").asText(),
+				metric.path("score").asDouble(),
+				Double.isNaN(error) ? 0 : error,
+				metric.path("scoreUnit").asText()));
+		}
+		return scores;
+	}
+
+	private static String key(JsonNode node) {
+		StringBuilder key = new StringBuilder(node.path("benchmark").asText());
+		JsonNode params = node.path("params");
+		if (params.isObject()) {
+			Map<String, String> sorted = new TreeMap<>();
+			for (Map.Entry<String, JsonNode> field : params.properties()) {
+				sorted.put(field.getKey(), field.getValue().asText());
+			}
+			key.append(sorted);
+		}
+		return key.toString();
+	}
+
+	public record Score(String mode, double score, double error, String unit) {
+	}
+
+	public record Comparison(String benchmark, Score baseline, Score current) {
+
+		/**
+		 * 나빠진 비율 (양수면 느려짐)
+		 */
+		public double worsening() {
+			if (baseline.score() == 0) {
+				return 0;
+			}
+			double change = (current.score() - baseline.score()) / baseline.score();
+			return "thrpt".equals(current.mode()) ? -change : change;
+		}
+	}
+}
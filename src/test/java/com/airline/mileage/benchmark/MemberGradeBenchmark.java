@@ -0,0 +1,102 @@
+package com.airline.mileage.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * MemberGrade.getGradeByMileage 마이크로벤치마크
+ * 현재 구현(기준표 이진 탐색)을 if 분기 체인, 1만 마일 단위 직접 조회표와 비교한다.
+ * 모든 등급 기준이 1만의 배수이고 최고 기준이 100만이라 101칸 표로 정확히 찾을 수 있다.
+ * 분기 예측 영향을 보기 위해 입력 분포를 균등(UNIFORM)과 일반 등급 위주(SKEWED) 두 가지로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemberGradeBenchmark {
+
+	private static final int SAMPLES = 4096;
+	private static final int TABLE_UNIT = 10_000;
+	private static final MemberGrade[] TABLE = new MemberGrade[1_000_000 / TABLE_UNIT + 1];
+
+	static {
+		for (int i = 0; i < TABLE.length; i++) {
+			TABLE[i] = branchChain(i * TABLE_UNIT);
+		}
+	}
+
+	@Param({"UNIFORM", "SKEWED"})
+	public String distribution;
+
+	private int[] mileages;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		mileages = new int[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			if ("UNIFORM".equals(distribution)) {
+				mileages[i] = random.nextInt(1_500_000);
+			} else {
+				// 회원 대부분이 일반/실버 구간에 있는 실제 분포에 가깝게
+				int roll = random.nextInt(100);
+				mileages[i] = roll < 80 ? random.nextInt(20_000)
+					: roll < 95 ? random.nextInt(20_000, 50_000)
+					: roll < 99 ? random.nextInt(50_000, 1_000_000)
+					: random.nextInt(1_000_000, 3_000_000);
+			}
+		}
+	}
+
+	@Benchmark
+	public MemberGrade current() {
+		return MemberGrade.getGradeByMileage(next());
+	}
+
+	@Benchmark
+	public MemberGrade branchChain() {
+		return branchChain(next());
+	}
+
+	@Benchmark
+	public MemberGrade lookupTable() {
+		return TABLE[Math.min(next() / TABLE_UNIT, TABLE.length - 1)];
+	}
+
+	private int next() {
+		return mileages[cursor++ & (SAMPLES - 1)];
+	}
+
+	private static MemberGrade branchChain(int totalMileage) {
+		if (totalMileage >= MemberGrade.VIP.getRequiredMileage()) {
+			return MemberGrade.VIP;
+		}
+		if (totalMileage >= MemberGrade.DIAMOND.getRequiredMileage()) {
+			return MemberGrade.DIAMOND;
+		}
+		if (totalMileage >= MemberGrade.GOLD.getRequiredMileage()) {
+			return MemberGrade.GOLD;
+		}
+		if (totalMileage >= MemberGrade.SILVER.getRequiredMileage()) {
+			return MemberGrade.SILVER;
+		}
+		return MemberGrade.BASIC;
+	}
+}
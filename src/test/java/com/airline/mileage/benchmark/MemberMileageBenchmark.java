@@ -0,0 +1,76 @@
+package com.airline.mileage.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airline.mileage.entity.Member;
+
+/**
+ * Member.addMileage / useMileage 마이크로벤치마크
+ * 적립은 등급 재계산까지 포함하고, 사용은 성공/잔액 부족 두 경로를 따로 측정한다.
+ * 누적 마일리지가 int 범위를 넘지 않도록 상한에 닿으면 회원 상태를 되돌린다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemberMileageBenchmark {
+
+	private static final int RESET_LIMIT = 1_000_000_000;
+
+	// 등급 경계를 넘나들도록 여러 크기를 섞음
+	private static final int[] AMOUNTS = {100, 1_500, 30_000, 7, 250_000, 12_000, 800, 64_000};
+
+	private Member earner;
+	private Member spender;
+	private Member broke;
+	private int cursor;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		earner = newMember();
+		spender = newMember();
+		spender.addMileage(RESET_LIMIT);
+		broke = newMember();
+		broke.addMileage(10);
+	}
+
+	@Benchmark
+	public Member addMileage() {
+		if (earner.getTotalMileage() > RESET_LIMIT) {
+			earner = newMember();
+		}
+		earner.addMileage(AMOUNTS[cursor++ & (AMOUNTS.length - 1)]);
+		return earner;
+	}
+
+	@Benchmark
+	public boolean useMileage() {
+		if (spender.getAvailableMileage() < 1_000) {
+			spender.setAvailableMileage(RESET_LIMIT);
+		}
+		return spender.useMileage(AMOUNTS[cursor++ & (AMOUNTS.length - 1)] & 0x3FF);
+	}
+
+	@Benchmark
+	public boolean useMileageInsufficient() {
+		return broke.useMileage(AMOUNTS[cursor++ & (AMOUNTS.length - 1)] + 10);
+	}
+
+	private static Member newMember() {
+		return new Member("bench@example.com", "password123", "벤치회원", "010-0000-0000");
+	}
+}
@@ -0,0 +1,73 @@
+package com.airline.mileage.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * MemberResponseDto 생성과 JSON 직렬화 마이크로벤치마크
+ * ObjectMapper 는 Spring MVC 와 같은 Jackson2ObjectMapperBuilder 기본 설정(JavaTimeModule 포함)으로 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemberResponseBenchmark {
+
+	private ObjectMapper objectMapper;
+	private Member member;
+	private MemberSnapshot snapshot;
+	private MemberResponseDto response;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		member = new Member("response@example.com", "password123", "응답회원", "010-1234-5678");
+		member.setId(123_456L);
+		member.addMileage(54_321);
+		member.useMileage(4_321);
+		member.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+		member.setUpdatedAt(LocalDateTime.of(2025, 6, 7, 8, 9, 10));
+		snapshot = MemberSnapshot.of(member);
+		response = new MemberResponseDto(member);
+	}
+
+	@Benchmark
+	public MemberResponseDto fromEntity() {
+		return new MemberResponseDto(member);
+	}
+
+	@Benchmark
+	public MemberResponseDto fromSnapshot() {
+		return new MemberResponseDto(snapshot);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] fromSnapshotAndSerialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(new MemberResponseDto(snapshot));
+	}
+}
@@ -0,0 +1,53 @@
+package com.airline.mileage.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH 마이크로벤치마크 실행기 (mvn -Pjmh verify)
+ * 결과를 JSON 으로 저장하고, 기준 결과(jmh.baseline)가 있으면 비교해서 회귀가 있을 때 0 이 아닌 코드로 종료한다.
+ *
+ * 시스템 속성
+ * - jmh.include: 실행할 벤치마크 정규식 (기본: 이 패키지 전체)
+ * - jmh.result: 결과 JSON 경로 (기본: target/jmh/jmh-result.json)
+ * - jmh.baseline: 비교할 이전 결과 JSON 경로 (비어 있으면 비교하지 않음)
+ * - jmh.threshold: 회귀로 판단할 변화율 (기본: 0.10 = 10%)
+ */
+public final class MicroBenchmarkRunner {
+
+	private MicroBenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String include = System.getProperty("jmh.include", "com\\.airline\\.mileage\\.benchmark\\..*");
+		Path result = Path.of(System.getProperty("jmh.result", "target/jmh/jmh-result.json"));
+		String baseline = System.getProperty("jmh.baseline", "");
+		double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "0.10"));
+
+		if (result.getParent() != null) {
+			Files.createDirectories(result.getParent());
+		}
+		Options options = new OptionsBuilder()
+			.include(include)
+			.resultFormat(ResultFormatType.JSON)
+			.result(result.toString())
+			.build();
+		new Runner(options).run();
+		System.out.println("JMH 결과: " + result.toAbsolutePath());
+
+		if (!baseline.isBlank()) {
+			List<JmhResultComparator.Comparison> regressions =
+				JmhResultComparator.compare(Path.of(baseline), result, threshold, System.out);
+			if (!regressions.isEmpty()) {
+				System.err.println("성능 회귀 " + regressions.size() + "건 (기준: " + baseline + ")");
+				System.exit(1);
+			}
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.airline.mileage.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airline.mileage.dto.request.MileageRequestDto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * MileageRequestDto Bean Validation 마이크로벤치마크
+ * 위반이 없는 요청과 위반 메시지를 만들어야 하는 요청의 비용을 나누어 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MileageRequestValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private MileageRequestDto valid;
+	private MileageRequestDto invalid;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		valid = new MileageRequestDto(1_000, "항공권 구매 적립");
+		invalid = new MileageRequestDto(0, "x".repeat(300));
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<MileageRequestDto>> validRequest() {
+		return validator.validate(valid);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<MileageRequestDto>> invalidRequest() {
+		return validator.validate(invalid);
+	}
+}
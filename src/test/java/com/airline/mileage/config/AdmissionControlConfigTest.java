@@ -0,0 +1,150 @@
+package com.airline.mileage.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.support.AdaptiveConcurrencyLimit;
+import com.airline.mileage.support.AdmissionControlInterceptor;
+import com.airline.mileage.support.TokenBucketLimiter;
+
+/**
+ * 요청 수락 제어: 회원별/클라이언트별 버스트를 넘는 변경·검색 요청은 429 와 Retry-After 로 거절하고
+ * 제어 대상이 아닌 조회는 통과시키며, 동시 실행 한도가 DB 지연에 따라 줄고 늘어나는지 검증
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:admission;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+	"admission.enabled=true",
+	"admission.member.rate-per-second=0.1",
+	"admission.member.burst=2",
+	"admission.client.rate-per-second=0.1",
+	"admission.client.burst=4"
+})
+@AutoConfigureMockMvc
+class AdmissionControlConfigTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Test
+	void shedsRequestsOverMemberAndClientLimits() throws Exception {
+		Long id = memberService.createMember(new MemberRequestDto(
+			"admission@example.com", "password123", "수락제어회원", null)).getId();
+		Long other = memberService.createMember(new MemberRequestDto(
+			"admission-other@example.com", "password123", "수락제어회원", null)).getId();
+
+		// 회원별 버스트 2
+		mockMvc.perform(addMileage(id, "partner-a")).andExpect(status().isOk());
+		mockMvc.perform(addMileage(id, "partner-a")).andExpect(status().isOk());
+		mockMvc.perform(addMileage(id, "partner-b"))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+		mockMvc.perform(addMileage(other, "partner-b")).andExpect(status().isOk());
+
+		// 클라이언트별 버스트 4 (검색도 포함, 제어 대상이 아닌 조회는 세지 않음)
+		mockMvc.perform(get("/api/members/{id}", id).header("X-Client-Id", "partner-a")).andExpect(status().isOk());
+		mockMvc.perform(search("partner-a")).andExpect(status().isOk());
+		mockMvc.perform(search("partner-a")).andExpect(status().isOk());
+		mockMvc.perform(search("partner-a"))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+		mockMvc.perform(search("partner-c")).andExpect(status().isOk());
+		// 클라이언트 키는 접속 주소와 묶이므로 다른 주소에서 같은 헤더를 보내도 버킷을 함께 쓰지 않음
+		mockMvc.perform(search("partner-a").with(request -> {
+			request.setRemoteAddr("10.0.0.2");
+			return request;
+		})).andExpect(status().isOk());
+		assertEquals(1_000, memberService.getMember(id).getAvailableMileage());
+	}
+
+	@Test
+	void concurrencyLimitFollowsLatency() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 32, 2.0, 0);
+		for (int i = 0; i < 8; i++) {
+			assertTrue(limit.tryAcquire());
+		}
+		assertFalse(limit.tryAcquire());
+		assertEquals(1, limit.getRejectedCount());
+
+		// 기준 지연(1ms) 수준이고 한도까지 쓰였으면 늘어남
+		limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+		assertTrue(limit.getLimit() > 8);
+		int grown = limit.getLimit();
+
+		// 기준의 허용 배수보다 느려지면 줄어들고, 최소 한도 아래로는 내려가지 않음
+		for (int i = 0; i < 7; i++) {
+			limit.release(TimeUnit.MILLISECONDS.toNanos(8));
+		}
+		assertTrue(limit.getLimit() < grown);
+		for (int i = 0; i < 20; i++) {
+			assertTrue(limit.tryAcquire());
+			limit.release(TimeUnit.MILLISECONDS.toNanos(100));
+		}
+		assertEquals(2, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void batchEndpointsSkipConcurrencyLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 2.0, 0);
+		AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+			new TokenBucketLimiter(100, 100, 100), new TokenBucketLimiter(100, 100, 100), limit, "X-Client-Id",
+			Set.of(), Set.of("/api/members/archive"));
+		assertTrue(limit.tryAcquire());
+
+		MockHttpServletRequest archive = new MockHttpServletRequest("POST", "/api/members/archive");
+		archive.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/members/archive");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		assertTrue(interceptor.preHandle(archive, response, null));
+		interceptor.afterCompletion(archive, response, null, null);
+		assertEquals(1, limit.getInFlight());
+
+		MockHttpServletRequest create = new MockHttpServletRequest("POST", "/api/members");
+		create.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/members");
+		assertFalse(interceptor.preHandle(create, new MockHttpServletResponse(), null));
+	}
+
+	@Test
+	void tokenBucketKeepsAtMostMaxKeys() {
+		TokenBucketLimiter limiter = new TokenBucketLimiter(10, 20, 1_000);
+		for (long key = 0; key < 200_000; key++) {
+			assertEquals(0, limiter.tryAcquire(key));
+		}
+		assertTrue(limiter.getTrackedKeys() <= 1_000);
+	}
+
+	private MockHttpServletRequestBuilder addMileage(Long id, String client) {
+		return post("/api/members/{id}/mileage/add", id)
+			.header("X-Client-Id", client)
+			.contentType(MediaType.APPLICATION_JSON)
+			.content("{\"mileage\":500,\"reason\":\"항공편 적립\"}");
+	}
+
+	private MockHttpServletRequestBuilder search(String client) {
+		return get("/api/members/search").param("name", "수락제어").header("X-Client-Id", client);
+	}
+}
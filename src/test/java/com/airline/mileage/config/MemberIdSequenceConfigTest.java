@@ -0,0 +1,66 @@
+package com.airline.mileage.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.airline.mileage.AirlineMileageSystemApplication;
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.service.MemberService;
+
+/**
+ * 회원 id 시퀀스: IDENTITY 시절에 쓰인 id(보관된 회원 포함)가 있는 DB 로 시작해도 새 회원 id 가 겹치지 않는지 검증
+ * 첫 컨텍스트로 스키마를 만들고 기존 행을 넣은 뒤 시퀀스를 처음 값으로 되돌리고, 같은 DB 로 다시 시작한다.
+ */
+class MemberIdSequenceConfigTest {
+
+	private static final String URL =
+		"jdbc:h2:mem:member_seq;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+	@Test
+	void sequenceStartsAfterExistingMemberAndArchiveIds() {
+		try (ConfigurableApplicationContext context = start("create")) {
+			JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+			LocalDateTime now = LocalDateTime.now();
+			jdbcTemplate.update("INSERT INTO members (id, email, password, name, grade, total_mileage, available_mileage, "
+				+ "deleted, created_at, updated_at) VALUES (5000, 'legacy@example.com', 'password123', '기존회원', 'BASIC', "
+				+ "0, 0, false, ?, ?)", now, now);
+			jdbcTemplate.update("INSERT INTO members_archive (id, email, password, name, grade, total_mileage, "
+				+ "available_mileage, created_at, updated_at, deleted_at, archived_at) VALUES (7000, "
+				+ "'legacy-archived@example.com', 'password123', '보관회원', 'BASIC', 0, 0, ?, ?, ?, ?)", now, now, now, now);
+			jdbcTemplate.execute("ALTER SEQUENCE members_seq RESTART WITH 1");
+		}
+
+		try (ConfigurableApplicationContext context = start("update")) {
+			MemberService memberService = context.getBean(MemberService.class);
+			Long first = memberService.createMember(new MemberRequestDto(
+				"after-legacy@example.com", "password123", "새회원", null)).getId();
+			Long second = memberService.createMember(new MemberRequestDto(
+				"after-legacy2@example.com", "password123", "새회원", null)).getId();
+			assertTrue(first > 7000, "id " + first);
+			assertEquals(first + 1, second);
+		}
+
+		// 이미 충분히 앞선 시퀀스는 되돌리지 않음
+		try (ConfigurableApplicationContext context = start("update")) {
+			Long third = context.getBean(MemberService.class).createMember(new MemberRequestDto(
+				"after-restart@example.com", "password123", "새회원", null)).getId();
+			assertTrue(third > 7000 + 100, "id " + third);
+		}
+	}
+
+	private static ConfigurableApplicationContext start(String ddlAuto) {
+		return new SpringApplicationBuilder(AirlineMileageSystemApplication.class)
+			.web(WebApplicationType.NONE)
+			.run(
+				"--spring.datasource.url=" + URL,
+				"--spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+	}
+}
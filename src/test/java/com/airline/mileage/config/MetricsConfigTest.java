@@ -0,0 +1,153 @@
+package com.airline.mileage.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.repository.MemberRepository;
+import com.airline.mileage.service.BulkMileageAccrualService;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.support.RequestSqlStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 마일리지 API 호출 후 서비스 호출 시간, 마일리지 카운터, 요청별 SQL 수, 풀 게이지가 기록되고
+ * /actuator/prometheus 로 노출되는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsConfigTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BulkMileageAccrualService bulkAccrualService;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Test
+	void mileageRequestsAreRecorded() throws Exception {
+		Long id = memberService.createMember(new MemberRequestDto(
+			"metrics@example.com", "password123", "메트릭회원", "010-1234-5678")).getId();
+		double added = counter("mileage.amount", "type", "add");
+		double rejected = counter("mileage.use.rejected", "reason", "insufficient_balance");
+		long addCalls = serviceCalls("addMileage", "success");
+		long sqlRequests = sqlStatements("POST", "/api/members/{id}/mileage/add").count();
+
+		mockMvc.perform(post("/api/members/{id}/mileage/add", id)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"mileage\":500,\"reason\":\"적립\"}"))
+			.andExpect(status().isOk());
+		mockMvc.perform(post("/api/members/{id}/mileage/use", id)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"mileage\":1000,\"reason\":\"사용\"}"))
+			.andExpect(status().isBadRequest());
+
+		assertEquals(500, counter("mileage.amount", "type", "add") - added);
+		assertEquals(1, counter("mileage.use.rejected", "reason", "insufficient_balance") - rejected);
+		assertEquals(1, serviceCalls("addMileage", "success") - addCalls);
+		assertEquals(1, serviceCalls("useMileage", "error"));
+
+		// 적립 요청 하나가 실행한 SQL 문장 수가 요청 URI 패턴 기준으로 기록됨
+		DistributionSummary statements = sqlStatements("POST", "/api/members/{id}/mileage/add");
+		assertEquals(1, statements.count() - sqlRequests);
+		assertTrue(statements.totalAmount() > 0);
+		assertTrue(registry.get("jdbc.statements").functionTimer().count() > 0);
+		assertNotNull(registry.find("hikaricp.connections.active").gauge());
+		assertNotNull(registry.find("member.cache.size").gauge());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		assertTrue(scrape.contains("service_calls_seconds_bucket"));
+		assertTrue(scrape.contains("http_server_requests_sql_statements"));
+	}
+
+	@Test
+	void bulkAccrualIsCountedOncePerChunk() throws Exception {
+		Long first = memberService.createMember(new MemberRequestDto(
+			"metrics-bulk1@example.com", "password123", "대량회원", null)).getId();
+		Long second = memberService.createMember(new MemberRequestDto(
+			"metrics-bulk2@example.com", "password123", "대량회원", null)).getId();
+		double added = counter("mileage.amount", "type", "add");
+		double adds = registry.get("mileage.transactions").tag("type", "add").counter().count();
+
+		String csv = "memberId,mileage,reason\n" + first + ",300,운항\n" + second + ",200,운항\n" + first + ",100,운항\n"
+			+ "999999999,50,없는 회원\n";
+		bulkAccrualService.accrue(null, BulkMileageAccrualService.Format.CSV,
+			new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+		// 반영된 적립만 (없는 회원 행 제외)
+		assertEquals(600, counter("mileage.amount", "type", "add") - added);
+		assertEquals(3, registry.get("mileage.transactions").tag("type", "add").counter().count() - adds);
+	}
+
+	@Test
+	void jpaAndJdbcTemplateStatementsAreRecordedWithSql() {
+		Long id = memberService.createMember(new MemberRequestDto(
+			"metrics-sql@example.com", "password123", "메트릭회원", null)).getId();
+		String sql = "SELECT available_mileage FROM members WHERE id = :id";
+
+		RequestSqlStats stats = RequestSqlStats.begin();
+		try {
+			memberRepository.findById(id);
+			jdbcTemplate.queryForObject(sql, Map.of("id", id), Integer.class);
+		} finally {
+			stats.end();
+		}
+
+		assertEquals(2, stats.getCount());
+		List<String> queries = stats.topQueries(10).stream().map(RequestSqlStats.QuerySummary::getSql).toList();
+		assertTrue(queries.contains(sql), queries.toString());
+		assertTrue(queries.stream().anyMatch(query -> query.contains("from members")), queries.toString());
+		stats.clear();
+	}
+
+	private double counter(String name, String tag, String value) {
+		return registry.get(name).tag(tag, value).counter().count();
+	}
+
+	private long serviceCalls(String method, String outcome) {
+		Timer timer = registry.find("service.calls")
+			.tags("service", "MemberService", "method", method, "outcome", outcome)
+			.timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private DistributionSummary sqlStatements(String method, String uri) {
+		return registry.summary("http.server.requests.sql.statements", "method", method, "uri", uri);
+	}
+}
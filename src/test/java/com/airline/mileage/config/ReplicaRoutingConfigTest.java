@@ -0,0 +1,133 @@
+package com.airline.mileage.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.support.ReplicaRouting;
+
+/**
+ * 읽기 복제본 라우팅: 내장 DB 두 개를 primary/복제본으로 두고, read-only 트랜잭션은 (지연된) 복제본에서,
+ * 방금 변경한 회원의 요청은 read-your-writes 구간 동안 primary 에서 읽으며,
+ * 내려간 복제본은 건너뛰고 정상 복제본이 없으면 primary 로 읽는지 검증
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=" + ReplicaRoutingConfigTest.PRIMARY_URL,
+	"datasource.replica.enabled=true",
+	"datasource.replica.urls=" + ReplicaRoutingConfigTest.REPLICA_URL + "," + ReplicaRoutingConfigTest.DOWN_URL,
+	"datasource.replica.connection-timeout-ms=250",
+	"datasource.replica.health-check-interval-ms=3600000",
+	"datasource.replica.read-your-writes-ms=2000"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingConfigTest {
+
+	static final String PRIMARY_URL =
+		"jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+	static final String REPLICA_URL =
+		"jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+	static final String DOWN_URL = "jdbc:h2:tcp://localhost:1/replica_down";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ReplicaRouting replicaRouting;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void readOnlyReadsUseReplicaExceptForRecentWriters() throws Exception {
+		replicaRouting.checkHealth();
+		ReplicaRouting.Replica replica = replicaRouting.getReplicas().get(0);
+		assertTrue(replica.isHealthy());
+		assertFalse(replicaRouting.getReplicas().get(1).isHealthy());
+
+		Long id = memberService.createMember(new MemberRequestDto(
+			"replica@example.com", "password123", "복제본회원", null)).getId();
+		copyPrimaryToReplica();
+		// 복제 전 변경: primary 에만 있음
+		memberService.addMileage(id, new MileageRequestDto(500, "항공편 적립"));
+
+		long replicaReads = replica.getConnections();
+		assertEquals(0, memberService.searchMembersByName("복제본회원", 0, 10).getContent().get(0)
+			.getAvailableMileage());
+		assertTrue(replica.getConnections() > replicaReads);
+		// 회원 캐시는 primary 에서 로딩
+		assertEquals(500, memberService.getMember(id).getAvailableMileage());
+
+		// 방금 변경한 회원의 요청은 primary, 구간이 지나면 다시 복제본
+		long primaryReads = replicaRouting.getPrimaryReads();
+		mockMvc.perform(get("/api/members/{id}/mileage/history", id))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(1));
+		assertTrue(replicaRouting.getPrimaryReads() > primaryReads);
+
+		Thread.sleep(2_500);
+		mockMvc.perform(get("/api/members/{id}/mileage/history", id))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(0));
+		assertTrue(replica.isHealthy());
+		assertFalse(ReplicaRouting.isPrimaryOnly());
+	}
+
+	@Test
+	void fallsBackToPrimaryWhenNoReplicaIsHealthy() throws Exception {
+		DriverManagerDataSource primary = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+		try (ReplicaRouting routing = new ReplicaRouting(primary,
+				Map.of("down", new DriverManagerDataSource(DOWN_URL)), 3_600_000, 1)) {
+			try (Connection connection = routing.getDataSource().getConnection()) {
+				connection.setReadOnly(true);
+				try (Statement statement = connection.createStatement();
+					 ResultSet rs = statement.executeQuery("SELECT 1")) {
+					assertTrue(rs.next());
+				}
+			}
+			assertEquals(1, routing.getPrimaryReads());
+			assertFalse(routing.getReplicas().get(0).isHealthy());
+		}
+	}
+
+	/**
+	 * primary 내용을 스크립트로 떠서 복제본에 다시 적재 (복제 시점)
+	 */
+	private void copyPrimaryToReplica() throws Exception {
+		Path script = Files.createTempFile("replica", ".sql");
+		try {
+			jdbcTemplate.execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+			try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+				 Statement statement = connection.createStatement()) {
+				statement.execute("DROP ALL OBJECTS");
+				statement.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+			}
+		} finally {
+			Files.deleteIfExists(script);
+		}
+	}
+}
@@ -0,0 +1,374 @@
+package com.airline.mileage.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.support.JdbcLatencyDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 마일리지 API 처리량/지연 부하 테스트
+ * 내장 H2(MySQL 호환 모드)로 앱을 띄워 회원을 만든 뒤 MemberController 의 회원 조회, 적립, 사용, 상위 회원, 통계 API 를
+ * 정해진 도착률로 호출(개방형 부하 모델)하고 API 별 p50/p99/p999 지연과 처리량을 보고서 파일(JSON)로 남긴다.
+ * 지연은 예정 발송 시각부터 재므로 동시 요청 상한에 막혀 늦게 보낸 시간도 지연에 포함된다.
+ *
+ * mvn test -Pbenchmark -Dtest=MileageLoadTest 로 실행, 설정은 시스템 속성으로 조정
+ * - loadtest.members: 미리 만들 회원 수 (기본 1000)
+ * - loadtest.rate: 초당 요청 수, 0 이면 동시 요청 상한만큼 쉬지 않고 요청하는 폐쇄형 모델 (기본 200)
+ * - loadtest.concurrency: 동시 요청 상한 (기본 200)
+ * - loadtest.durationSeconds / loadtest.warmupSeconds: 측정/예열 시간 (기본 30 / 15, 예열 중 JIT 컴파일이 끝나도록 넉넉히)
+ * - loadtest.mix: API 별 비중 (기본 lookup=40,add=25,use=25,top-mileage=5,statistics=5)
+ * - loadtest.jdbcLatencyMs: 문장 실행/커밋마다 넣는 DB 왕복 지연 (기본 0)
+ * - loadtest.report: 보고서 경로 (기본 target/loadtest/mileage-load-test.json)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+	"spring.datasource.url=jdbc:h2:mem:load_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+	"logging.level.com.airline.mileage=WARN"
+})
+class MileageLoadTest {
+
+	private static final int MEMBERS = Integer.getInteger("loadtest.members", 1_000);
+	private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+	private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 15);
+	private static final String MIX = System.getProperty("loadtest.mix",
+		"lookup=40,add=25,use=25,top-mileage=5,statistics=5");
+	private static final long JDBC_LATENCY_MILLIS = Long.getLong("loadtest.jdbcLatencyMs", 0);
+	private static final Path REPORT = Path.of(System.getProperty("loadtest.report",
+		"target/loadtest/mileage-load-test.json"));
+
+	// 예정 시각보다 이만큼 늦게 보낸 요청 수를 따로 집계 (동시 요청 상한에 막혔거나 부하 발생기 자체가 밀림)
+	private static final long LATE_SEND_NANOS = 1_000_000;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@TestConfiguration
+	static class JdbcLatencyConfig {
+
+		@Bean
+		static BeanPostProcessor jdbcLatencyPostProcessor() {
+			return JdbcLatencyDataSource.postProcessor(JDBC_LATENCY_MILLIS);
+		}
+	}
+
+	/**
+	 * 부하 대상 API
+	 */
+	enum Endpoint {
+		LOOKUP("lookup"),
+		ADD("add"),
+		USE("use"),
+		TOP_MILEAGE("top-mileage"),
+		STATISTICS("statistics");
+
+		private final String key;
+
+		Endpoint(String key) {
+			this.key = key;
+		}
+
+		HttpRequest request(String base, long memberId) {
+			return switch (this) {
+				case LOOKUP -> HttpRequest.newBuilder(URI.create(base + memberId)).GET().build();
+				case ADD -> mileage(base + memberId + "/mileage/add");
+				case USE -> mileage(base + memberId + "/mileage/use");
+				case TOP_MILEAGE -> HttpRequest.newBuilder(URI.create(base + "top-mileage")).GET().build();
+				case STATISTICS -> HttpRequest.newBuilder(URI.create(base + "statistics")).GET().build();
+			};
+		}
+
+		private static HttpRequest mileage(String uri) {
+			return HttpRequest.newBuilder(URI.create(uri))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"mileage\":10,\"reason\":\"load test\"}"))
+				.build();
+		}
+
+		static Endpoint of(String key) {
+			for (Endpoint endpoint : values()) {
+				if (endpoint.key.equals(key)) {
+					return endpoint;
+				}
+			}
+			throw new IllegalArgumentException("알 수 없는 API: " + key);
+		}
+	}
+
+	@Test
+	void mixedWorkload() throws Exception {
+		Endpoint[] wheel = parseMix(MIX);
+		long[] ids = seedMembers();
+		HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+		String base = "http://localhost:" + port + "/api/members/";
+
+		drive(client, base, ids, wheel, WARMUP_SECONDS, new Random(1));
+		Phase measured = drive(client, base, ids, wheel, DURATION_SECONDS, new Random(7));
+
+		Map<String, Object> report = report(measured);
+		Files.createDirectories(REPORT.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+		print(measured);
+		System.out.println("[loadtest] report: " + REPORT.toAbsolutePath());
+
+		assertEquals(0, measured.totalFailures(), "실패한 요청 수");
+	}
+
+	private long[] seedMembers() {
+		Random random = new Random(42);
+		long[] ids = new long[MEMBERS];
+		for (int i = 0; i < MEMBERS; i++) {
+			ids[i] = memberService.createMember(new MemberRequestDto(
+				"load" + i + "@loadtest.example.com", "password123", "부하회원" + i, null)).getId();
+			// 사용 요청이 잔액 부족으로 실패하지 않도록 넉넉히, 등급이 고루 나오도록 편차를 둠
+			memberService.addMileage(ids[i], new MileageRequestDto(100_000 + random.nextInt(1_500_000), "초기 적립"));
+		}
+		return ids;
+	}
+
+	/**
+	 * 정해진 시간 동안 요청을 보내고 끝난 요청까지 기다림
+	 */
+	private Phase drive(HttpClient client, String base, long[] ids, Endpoint[] wheel, int seconds, Random random)
+			throws Exception {
+		Phase phase = new Phase();
+		Semaphore inFlight = new Semaphore(CONCURRENCY);
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		long interval = RATE > 0 ? 1_000_000_000L / RATE : 0;
+		long started = System.nanoTime();
+		long deadline = started + seconds * 1_000_000_000L;
+
+		for (long sent = 0; ; sent++) {
+			long intended = interval > 0 ? started + sent * interval : System.nanoTime();
+			if (intended >= deadline) {
+				break;
+			}
+			long wait;
+			while ((wait = intended - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			inFlight.acquire();
+			long now = System.nanoTime();
+			if (interval == 0) {
+				intended = now;
+			} else if (now - intended > LATE_SEND_NANOS) {
+				phase.lateSends++;
+			}
+
+			Endpoint endpoint = wheel[random.nextInt(wheel.length)];
+			HttpRequest request = endpoint.request(base, ids[random.nextInt(ids.length)]);
+			long scheduled = intended;
+			futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.whenComplete((response, error) -> {
+					long latency = System.nanoTime() - scheduled;
+					inFlight.release();
+					if (error != null || response.statusCode() != 200) {
+						phase.failures.incrementAndGet(endpoint.ordinal());
+					} else {
+						phase.latencies[endpoint.ordinal()].add(latency);
+					}
+				}));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+		phase.elapsedNanos = System.nanoTime() - started;
+		phase.sent = futures.size();
+		return phase;
+	}
+
+	private Map<String, Object> report(Phase phase) {
+		Map<String, Object> config = new LinkedHashMap<>();
+		config.put("members", MEMBERS);
+		config.put("targetRate", RATE);
+		config.put("concurrency", CONCURRENCY);
+		config.put("durationSeconds", DURATION_SECONDS);
+		config.put("warmupSeconds", WARMUP_SECONDS);
+		config.put("mix", MIX);
+		config.put("jdbcLatencyMs", JDBC_LATENCY_MILLIS);
+		config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+		config.put("javaVersion", Runtime.version().toString());
+
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		long[] all = new long[0];
+		for (Endpoint endpoint : Endpoint.values()) {
+			long[] sorted = phase.latencies[endpoint.ordinal()].sorted();
+			if (sorted.length > 0 || phase.failures.get(endpoint.ordinal()) > 0) {
+				endpoints.put(endpoint.key, summary(sorted, phase.failures.get(endpoint.ordinal()), phase.elapsedNanos));
+			}
+			all = concat(all, sorted);
+		}
+		Arrays.sort(all);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("generatedAt", OffsetDateTime.now().toString());
+		report.put("config", config);
+		Map<String, Object> total = summary(all, phase.totalFailures(), phase.elapsedNanos);
+		total.put("sent", phase.sent);
+		total.put("lateSends", phase.lateSends);
+		total.put("elapsedSeconds", phase.elapsedNanos / 1e9);
+		report.put("total", total);
+		report.put("endpoints", endpoints);
+		return report;
+	}
+
+	private static Map<String, Object> summary(long[] sorted, long failures, long elapsedNanos) {
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("requests", sorted.length);
+		summary.put("failures", failures);
+		summary.put("throughputPerSecond", sorted.length / (elapsedNanos / 1e9));
+		summary.put("meanMs", sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1e6);
+		summary.put("p50Ms", percentile(sorted, 0.50));
+		summary.put("p99Ms", percentile(sorted, 0.99));
+		summary.put("p999Ms", percentile(sorted, 0.999));
+		summary.put("maxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+		return summary;
+	}
+
+	private void print(Phase phase) {
+		System.out.printf("[loadtest] %,d members, rate %s, concurrency %,d, %d s, jdbc latency %d ms, %d cpu%n",
+			MEMBERS, RATE > 0 ? RATE + "/s" : "closed", CONCURRENCY, DURATION_SECONDS, JDBC_LATENCY_MILLIS,
+			Runtime.getRuntime().availableProcessors());
+		System.out.printf("[loadtest] %-12s %9s %9s %10s %10s %10s %10s%n",
+			"endpoint", "requests", "failures", "req/s", "p50 ms", "p99 ms", "p999 ms");
+		long[] all = new long[0];
+		for (Endpoint endpoint : Endpoint.values()) {
+			long[] sorted = phase.latencies[endpoint.ordinal()].sorted();
+			printRow(endpoint.key, sorted, phase.failures.get(endpoint.ordinal()), phase.elapsedNanos);
+			all = concat(all, sorted);
+		}
+		Arrays.sort(all);
+		printRow("total", all, phase.totalFailures(), phase.elapsedNanos);
+		System.out.printf("[loadtest] late sends (behind schedule > 1 ms): %,d of %,d%n", phase.lateSends, phase.sent);
+	}
+
+	private static void printRow(String name, long[] sorted, long failures, long elapsedNanos) {
+		System.out.printf("[loadtest] %-12s %,9d %,9d %,10.1f %10.2f %10.2f %10.2f%n", name, sorted.length, failures,
+			sorted.length / (elapsedNanos / 1e9), percentile(sorted, 0.50), percentile(sorted, 0.99),
+			percentile(sorted, 0.999));
+	}
+
+	/**
+	 * "lookup=40,add=25,..." 형식의 비중을 100칸 이하의 추첨판으로 변환
+	 */
+	private static Endpoint[] parseMix(String mix) {
+		List<Endpoint> wheel = new ArrayList<>();
+		for (String entry : mix.split(",")) {
+			String[] pair = entry.trim().split("=");
+			Endpoint endpoint = Endpoint.of(pair[0].trim());
+			int weight = Integer.parseInt(pair[1].trim());
+			for (int i = 0; i < weight; i++) {
+				wheel.add(endpoint);
+			}
+		}
+		if (wheel.isEmpty()) {
+			throw new IllegalArgumentException("loadtest.mix 가 비어 있습니다");
+		}
+		return wheel.toArray(new Endpoint[0]);
+	}
+
+	/**
+	 * 정렬된 값에서 nearest-rank 백분위 (ms)
+	 */
+	private static double percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(quantile * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1e6;
+	}
+
+	private static long[] concat(long[] left, long[] right) {
+		long[] merged = Arrays.copyOf(left, left.length + right.length);
+		System.arraycopy(right, 0, merged, left.length, right.length);
+		return merged;
+	}
+
+	/**
+	 * 한 구간(예열/측정)의 결과
+	 */
+	private static class Phase {
+
+		private final Recorder[] latencies = new Recorder[Endpoint.values().length];
+		private final AtomicLongArray failures = new AtomicLongArray(Endpoint.values().length);
+		private long elapsedNanos;
+		private long sent;
+		private long lateSends;
+
+		Phase() {
+			for (int i = 0; i < latencies.length; i++) {
+				latencies[i] = new Recorder();
+			}
+		}
+
+		long totalFailures() {
+			long total = 0;
+			for (int i = 0; i < failures.length(); i++) {
+				total += failures.get(i);
+			}
+			return total;
+		}
+	}
+
+	/**
+	 * 지연 시간(ns) 기록용 가변 배열
+	 */
+	private static class Recorder {
+
+		private long[] values = new long[1024];
+		private int size;
+
+		synchronized void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		synchronized long[] sorted() {
+			long[] copy = Arrays.copyOf(values, size);
+			Arrays.sort(copy);
+			return copy;
+		}
+	}
+}
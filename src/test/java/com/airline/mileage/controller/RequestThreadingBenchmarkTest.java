@@ -0,0 +1,141 @@
+package com.airline.mileage.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.airline.mileage.AirlineMileageSystemApplication;
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.service.MemberService;
+import com.airline.mileage.support.JdbcLatencyDataSource;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 요청 처리 비교 (마일리지 적립/사용, 회원 조회를 높은 동시성으로 섞어 호출)
+ * 내장 H2 는 네트워크 왕복이 없으므로 문장 실행/커밋마다 benchmark.jdbcLatencyMs 만큼 쉬어 MySQL 왕복을 흉내낸다.
+ * JDK 21 이상에서 mvn test -Pbenchmark 로 실행 (-Dbenchmark.concurrency, -Dbenchmark.requests 로 조정)
+ */
+@Tag("benchmark")
+class RequestThreadingBenchmarkTest {
+
+	private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+	private static final long JDBC_LATENCY_MILLIS = Long.getLong("benchmark.jdbcLatencyMs", 2);
+	private static final int MEMBERS = 200;
+	private static final String[] KINDS = {"lookup", "add", "use"};
+
+	@Test
+	void comparePlatformAndVirtualThreads() throws Exception {
+		assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 JDK 21 이상 필요");
+		System.out.printf("[benchmark] concurrency %,d, %,d requests, jdbc latency %d ms, 1 request = "
+			+ "40%% lookup / 30%% add / 30%% use%n", CONCURRENCY, REQUESTS, JDBC_LATENCY_MILLIS);
+		for (boolean virtual : new boolean[] {false, true}) {
+			try (ConfigurableApplicationContext context = start(virtual)) {
+				run(context, virtual ? "virtual" : "platform");
+			}
+		}
+	}
+
+	private ConfigurableApplicationContext start(boolean virtual) {
+		return new SpringApplicationBuilder(AirlineMileageSystemApplication.class)
+			.properties(
+				"server.port=0",
+				"spring.datasource.url=jdbc:h2:mem:threading_" + virtual + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+					+ "DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+				"spring.threads.virtual.enabled=" + virtual,
+				"datasource.connection-limit.enabled=" + virtual,
+				"datasource.connection-limit.acquire-timeout-ms=30000",
+				"logging.level.com.airline.mileage=WARN")
+			.initializers(context -> context.getBeanFactory()
+				.addBeanPostProcessor(JdbcLatencyDataSource.postProcessor(JDBC_LATENCY_MILLIS)))
+			.run();
+	}
+
+	private void run(ConfigurableApplicationContext context, String mode) throws Exception {
+		MemberService memberService = context.getBean(MemberService.class);
+		long[] ids = new long[MEMBERS];
+		for (int i = 0; i < MEMBERS; i++) {
+			ids[i] = memberService.createMember(new MemberRequestDto(
+				"thread" + i + "@bench.example.com", "password123", "스레드회원" + i, null)).getId();
+			memberService.addMileage(ids[i], new MileageRequestDto(1_000_000, "초기 적립"));
+		}
+		int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+		String base = "http://localhost:" + port + "/api/members/";
+
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+		load(client, base, ids, REQUESTS / 10, new Random(1));
+
+		long started = System.nanoTime();
+		long[][] latencies = load(client, base, ids, REQUESTS, new Random(7));
+		double seconds = (System.nanoTime() - started) / 1e9;
+
+		StringBuilder line = new StringBuilder(String.format("[benchmark] %-8s %,8.0f req/s", mode, REQUESTS / seconds));
+		for (int kind = 0; kind < KINDS.length; kind++) {
+			long[] sorted = Arrays.stream(latencies[kind]).filter(value -> value > 0).sorted().toArray();
+			line.append(String.format(" | %s p50 %.1f ms p99 %.1f ms", KINDS[kind],
+				percentile(sorted, 0.50), percentile(sorted, 0.99)));
+		}
+		System.out.println(line);
+	}
+
+	/**
+	 * 동시 요청 수를 CONCURRENCY 로 유지하며 요청 (종류별 지연 시간 ns 반환)
+	 */
+	private long[][] load(HttpClient client, String base, long[] ids, int requests, Random random) throws Exception {
+		long[][] latencies = new long[KINDS.length][requests];
+		Semaphore inFlight = new Semaphore(CONCURRENCY);
+		AtomicLong failures = new AtomicLong();
+		List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+		for (int i = 0; i < requests; i++) {
+			int roll = random.nextInt(10);
+			int kind = roll < 4 ? 0 : roll < 7 ? 1 : 2;
+			long id = ids[random.nextInt(ids.length)];
+			HttpRequest request = kind == 0
+				? HttpRequest.newBuilder(URI.create(base + id)).GET().build()
+				: HttpRequest.newBuilder(URI.create(base + id + (kind == 1 ? "/mileage/add" : "/mileage/use")))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString("{\"mileage\":10,\"reason\":\"benchmark\"}"))
+					.build();
+			int index = i;
+			inFlight.acquire();
+			long sent = System.nanoTime();
+			futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.whenComplete((response, error) -> {
+					inFlight.release();
+					if (error != null || response.statusCode() != 200) {
+						failures.incrementAndGet();
+						return;
+					}
+					latencies[kind][index] = System.nanoTime() - sent;
+				}));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+		assertEquals(0, failures.get(), "실패한 요청 수");
+		return latencies;
+	}
+
+	private static double percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1e6;
+	}
+}
@@ -0,0 +1,95 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.BulkAccrualResponseDto;
+import com.airline.mileage.entity.BulkAccrualJob;
+import com.airline.mileage.entity.Member;
+import com.airline.mileage.repository.MemberRepository;
+
+/**
+ * 건별 적립 API 경로와 대량 적립 경로의 초당 처리 행 수 비교
+ * mvn test -Pbenchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BulkMileageAccrualBenchmarkTest {
+
+	private static final int MEMBERS = 1_000;
+	private static final int PER_CALL_ROWS = Integer.getInteger("benchmark.perCallRows", 5_000);
+	private static final int BULK_ROWS = Integer.getInteger("benchmark.bulkRows", 100_000);
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private BulkMileageAccrualService bulkAccrualService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Test
+	void compareRowsPerSecond() throws Exception {
+		List<Long> ids = seedMembers();
+		Random random = new Random(42);
+
+		// 건별 경로: 행마다 트랜잭션 + UPDATE + 조회
+		long started = System.nanoTime();
+		for (int i = 0; i < PER_CALL_ROWS; i++) {
+			memberService.addMileage(ids.get(random.nextInt(ids.size())), new MileageRequestDto(10, "flight"));
+		}
+		double perCallRate = PER_CALL_ROWS * 1_000_000_000.0 / (System.nanoTime() - started);
+
+		// 대량 경로
+		StringBuilder csv = new StringBuilder("memberId,mileage,reason\n");
+		for (int i = 0; i < BULK_ROWS; i++) {
+			csv.append(ids.get(random.nextInt(ids.size()))).append(",10,flight\n");
+		}
+		byte[] body = csv.toString().getBytes(StandardCharsets.UTF_8);
+		long before = totalMileage();
+		BulkAccrualResponseDto result = bulkAccrualService.accrue("benchmark-job",
+			BulkMileageAccrualService.Format.CSV, new ByteArrayInputStream(body));
+
+		assertEquals(BulkAccrualJob.Status.COMPLETED, result.getStatus());
+		assertEquals(BULK_ROWS, result.getAppliedRows());
+		assertEquals(before + BULK_ROWS * 10L, totalMileage());
+
+		// 같은 jobId 재실행은 이미 커밋된 행을 다시 적립하지 않음
+		BulkAccrualResponseDto rerun = bulkAccrualService.accrue("benchmark-job",
+			BulkMileageAccrualService.Format.CSV, new ByteArrayInputStream(body));
+		assertEquals(0, rerun.getAppliedRows());
+		assertEquals(before + BULK_ROWS * 10L, totalMileage());
+
+		System.out.printf("[benchmark] per-call: %,.0f rows/s (%d rows), bulk: %,.0f rows/s (%d rows, %d chunks), x%.1f%n",
+			perCallRate, PER_CALL_ROWS, result.getRowsPerSecond(), BULK_ROWS, result.getChunks(),
+			result.getRowsPerSecond() / perCallRate);
+	}
+
+	private List<Long> seedMembers() {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			members.add(new Member("bulk" + i + "@example.com", "password123", "정산회원" + i, null));
+		}
+		List<Long> ids = new ArrayList<>();
+		for (Member member : memberRepository.saveAll(members)) {
+			ids.add(member.getId());
+		}
+		return ids;
+	}
+
+	private long totalMileage() {
+		return memberRepository.findAll().stream().mapToLong(Member::getTotalMileage).sum();
+	}
+}
@@ -0,0 +1,140 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airline.mileage.dto.response.GradeReevaluationStatusResponseDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 등급 기준 변경 후 재평가: 바뀐 회원만 갱신되고 이벤트로 순위/통계가 함께 맞춰지는지 검증
+ */
+@SpringBootTest
+class GradeReevaluationServiceTest {
+
+	private static final int MEMBERS = 5_000;
+	private static final int BENCHMARK_MEMBERS = Integer.getInteger("benchmark.regradeRows", 1_000_000);
+	private static final int BENCHMARK_STALE_PERCENT = Integer.getInteger("benchmark.regradeStalePercent", 5);
+
+	@Autowired
+	private GradeReevaluationService gradeReevaluationService;
+
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private MemberStatisticsService statisticsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void reevaluateUpdatesOnlyStaleGrades() {
+		// 모두 BASIC 으로 저장된 회원 (기준 변경 전 상태를 흉내), 10% 는 탈퇴 회원
+		long expectedChanges = seedStaleMembers("regrade", MEMBERS, 100);
+		leaderboardService.rebuild();
+		statisticsService.reconcile();
+
+		// 구간을 잘게 나눠 fork-join 분할도 함께 검증
+		Object rangeSize = ReflectionTestUtils.getField(gradeReevaluationService, "rangeSize");
+		ReflectionTestUtils.setField(gradeReevaluationService, "rangeSize", 500L);
+		GradeReevaluationStatusResponseDto result;
+		try {
+			result = gradeReevaluationService.reevaluate();
+		} finally {
+			ReflectionTestUtils.setField(gradeReevaluationService, "rangeSize", rangeSize);
+		}
+
+		assertEquals(GradeReevaluationService.Status.COMPLETED, result.getStatus());
+		assertEquals(expectedChanges, result.getChangedRows());
+		assertEquals(result.getTotalRanges(), result.getCompletedRanges());
+		assertEquals(0L, jdbcTemplate.queryForList(
+			"SELECT total_mileage, grade FROM members WHERE deleted = false").stream()
+			.filter(row -> MemberGrade.getGradeByMileage(((Number) row.get("total_mileage")).intValue())
+				!= MemberGrade.valueOf((String) row.get("grade")))
+			.count());
+		// 탈퇴 회원은 재평가 대상이 아님
+		assertEquals(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM members WHERE deleted = true AND email LIKE 'regrade%'", Long.class),
+			jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM members WHERE deleted = true AND email LIKE 'regrade%' AND grade = 'BASIC'",
+				Long.class));
+
+		// 다시 실행하면 바뀔 회원이 없음
+		assertEquals(0, gradeReevaluationService.reevaluate().getChangedRows());
+
+		// 등급 변경 이벤트로 순위/통계가 DB 와 일치
+		Long vipId = jdbcTemplate.queryForObject(
+			"SELECT MIN(id) FROM members WHERE deleted = false AND email LIKE 'regrade%' AND total_mileage >= ?",
+			Long.class, MemberGrade.VIP.getRequiredMileage());
+		assertEquals(MemberGrade.VIP, leaderboardService.getRank(vipId).getGrade());
+		MemberStatisticsResponseDto live = statisticsService.getStatistics();
+		statisticsService.reconcile();
+		assertEquals(0, statisticsService.getStatistics().getLastReconcileMemberDrift());
+		for (int i = 0; i < live.getGrades().size(); i++) {
+			assertEquals(statisticsService.getStatistics().getGrades().get(i).getActiveMembers(),
+				live.getGrades().get(i).getActiveMembers());
+		}
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.regradeRows 로 행 수 조정)
+	 */
+	@Tag("benchmark")
+	@Test
+	void reevaluateThroughput() {
+		long expectedChanges = seedStaleMembers("regrade-bench", BENCHMARK_MEMBERS, BENCHMARK_STALE_PERCENT);
+		GradeReevaluationStatusResponseDto result = gradeReevaluationService.reevaluate();
+
+		assertEquals(GradeReevaluationService.Status.COMPLETED, result.getStatus());
+		assertEquals(expectedChanges, result.getChangedRows());
+		System.out.printf("[benchmark] regrade: scanned %,d rows, changed %,d in %,d ms (%,.0f rows/s, %d ranges)%n",
+			result.getScannedRows(), result.getChangedRows(), result.getElapsedMillis(), result.getRowsPerSecond(),
+			result.getTotalRanges());
+	}
+
+	/**
+	 * stalePercent% 의 회원은 등급을 BASIC 으로(기준 변경 전 상태), 나머지는 올바른 등급으로 넣고
+	 * 재평가로 바뀌어야 할 활성 회원 수를 반환
+	 */
+	private long seedStaleMembers(String prefix, int count, int stalePercent) {
+		Random random = new Random(11);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String sql = "INSERT INTO members (id, email, password, name, grade, total_mileage, available_mileage, "
+			+ "deleted, created_at, updated_at) VALUES (NEXT VALUE FOR members_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		List<Object[]> batch = new ArrayList<>();
+		long expected = 0;
+		for (int i = 0; i < count; i++) {
+			int mileage = random.nextInt(1_500_000);
+			boolean deleted = random.nextInt(10) == 0;
+			MemberGrade grade = random.nextInt(100) < stalePercent ? MemberGrade.BASIC
+				: MemberGrade.getGradeByMileage(mileage);
+			if (!deleted && MemberGrade.getGradeByMileage(mileage) != grade) {
+				expected++;
+			}
+			batch.add(new Object[] {prefix + i + "@example.com", "password123", "등급회원" + i, grade.name(),
+				mileage, mileage, deleted, now, now});
+			if (batch.size() == 10_000) {
+				jdbcTemplate.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+		}
+		return expected;
+	}
+}
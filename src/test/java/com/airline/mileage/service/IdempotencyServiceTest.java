@@ -0,0 +1,185 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 멱등 키: 동시에 들어온 같은 키는 한 번만 반영되고, 다른 본문 재사용은 거절되며,
+ * 실패한 요청은 다시 시도할 수 있고, DB 기록 시 메모리에서 밀려난 뒤에도 한 번만 반영되는지 검증
+ */
+@SpringBootTest
+class IdempotencyServiceTest {
+
+	private static final int THREADS = 16;
+	private static final int BENCHMARK_REQUESTS = Integer.getInteger("benchmark.idempotencyRequests", 5_000);
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void racingDuplicatesApplyOnce() throws Exception {
+		Long id = createMember("idem-race@example.com");
+		MileageRequestDto request = new MileageRequestDto(500, "항공편 적립");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<MemberResponseDto>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return add(id, "race-key", request);
+			}));
+		}
+		start.countDown();
+		List<MemberResponseDto> responses = new ArrayList<>();
+		for (Future<MemberResponseDto> future : futures) {
+			responses.add(future.get(30, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		for (MemberResponseDto response : responses) {
+			assertEquals(500, response.getAvailableMileage());
+		}
+		assertEquals(500, memberService.getMember(id).getAvailableMileage());
+		assertEquals(1, ledgerRows(id));
+
+		// 같은 키를 다른 본문으로 재사용하면 거절, 다른 작업(use)의 같은 키는 별개
+		assertThrows(IdempotencyService.KeyReusedException.class,
+			() -> add(id, "race-key", new MileageRequestDto(700, "항공편 적립")));
+		idempotencyService.execute("race-key", id, "use", new MileageRequestDto(100, "사용"),
+			() -> memberService.useMileage(id, new MileageRequestDto(100, "사용")));
+		assertEquals(400, memberService.getMember(id).getAvailableMileage());
+	}
+
+	@Test
+	void failedRequestIsNotRemembered() {
+		Long id = createMember("idem-retry@example.com");
+		MileageRequestDto request = new MileageRequestDto(300, "사용");
+
+		assertThrows(IllegalArgumentException.class, () -> use(id, "retry-key", request));
+		memberService.addMileage(id, new MileageRequestDto(1_000, "적립"));
+
+		assertEquals(700, use(id, "retry-key", request).getAvailableMileage());
+		assertEquals(700, use(id, "retry-key", request).getAvailableMileage());
+		assertEquals(700, memberService.getMember(id).getAvailableMileage());
+	}
+
+	@Test
+	void persistentKeySurvivesMemoryEviction() {
+		Long id = createMember("idem-persistent@example.com");
+		MileageRequestDto request = new MileageRequestDto(800, "항공편 적립");
+		ReflectionTestUtils.setField(idempotencyService, "persistent", true);
+		try {
+			MemberResponseDto first = add(id, "persistent-key", request);
+			evictMemory();
+
+			MemberResponseDto replayed = add(id, "persistent-key", request);
+			assertEquals(first.getAvailableMileage(), replayed.getAvailableMileage());
+			assertEquals(first.getUpdatedAt(), replayed.getUpdatedAt());
+			assertEquals(800, memberService.getMember(id).getAvailableMileage());
+			assertEquals(1, ledgerRows(id));
+
+			evictMemory();
+			assertThrows(IdempotencyService.KeyReusedException.class,
+				() -> add(id, "persistent-key", new MileageRequestDto(900, "항공편 적립")));
+
+			// 실패한 요청은 DB 에도 남지 않음
+			assertThrows(IllegalArgumentException.class,
+				() -> use(id, "persistent-fail", new MileageRequestDto(5_000, "사용")));
+			assertEquals(0, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM idempotency_keys WHERE scope_key = ?", Long.class, id + ":use:persistent-fail"));
+		} finally {
+			ReflectionTestUtils.setField(idempotencyService, "persistent", false);
+		}
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.idempotencyRequests 로 요청 수 조정)
+	 * 키 없음 / 새 키(메모리) / 새 키(DB 기록) / 같은 키 재시도의 요청당 시간 비교
+	 */
+	@Tag("benchmark")
+	@Test
+	void idempotencyOverhead() {
+		Long id = createMember("idem-bench@example.com");
+		MileageRequestDto request = new MileageRequestDto(10, "적립");
+
+		// 워밍업
+		measure(id, "warmup", request);
+
+		double plain = measure(id, null, request);
+		double memory = measure(id, "memory", request);
+		double replay = measure(id, "memory", request);
+		ReflectionTestUtils.setField(idempotencyService, "persistent", true);
+		double recorded;
+		try {
+			recorded = measure(id, "recorded", request);
+		} finally {
+			ReflectionTestUtils.setField(idempotencyService, "persistent", false);
+		}
+
+		System.out.printf("[benchmark] idempotency, %,d requests each (us/request)%n", BENCHMARK_REQUESTS);
+		System.out.printf("[benchmark]   no key           %8.1f%n", plain);
+		System.out.printf("[benchmark]   new key (memory) %8.1f  (+%.1f)%n", memory, memory - plain);
+		System.out.printf("[benchmark]   new key (db)     %8.1f  (+%.1f)%n", recorded, recorded - plain);
+		System.out.printf("[benchmark]   replayed key     %8.1f%n", replay);
+	}
+
+	/**
+	 * prefix 가 null 이면 키 없이, 아니면 prefix-i 키로 요청하고 요청당 평균 시간(us)을 반환
+	 */
+	private double measure(Long id, String prefix, MileageRequestDto request) {
+		long started = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_REQUESTS; i++) {
+			add(id, prefix == null ? null : prefix + "-" + i, request);
+		}
+		return (System.nanoTime() - started) / 1e3 / BENCHMARK_REQUESTS;
+	}
+
+	private MemberResponseDto add(Long id, String key, MileageRequestDto request) {
+		return idempotencyService.execute(key, id, "add", request, () -> memberService.addMileage(id, request));
+	}
+
+	private MemberResponseDto use(Long id, String key, MileageRequestDto request) {
+		return idempotencyService.execute(key, id, "use", request, () -> memberService.useMileage(id, request));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void evictMemory() {
+		((Cache<String, ?>) ReflectionTestUtils.getField(idempotencyService, "entries")).invalidateAll();
+	}
+
+	private Long createMember(String email) {
+		return memberService.createMember(new MemberRequestDto(email, "password123", "멱등회원", null)).getId();
+	}
+
+	private long ledgerRows(Long id) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mileage_transactions WHERE member_id = ?",
+			Long.class, id);
+	}
+}
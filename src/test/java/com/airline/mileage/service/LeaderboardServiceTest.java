@@ -0,0 +1,50 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+
+/**
+ * 리더보드: 커밋 후 이벤트가 뒤바뀌어 도착해도 오래된 스냅샷이 최신 점수를 덮어쓰지 않는지 검증
+ */
+class LeaderboardServiceTest {
+
+	@Test
+	void ignoresEventsOlderThanAppliedVersion() {
+		LeaderboardService leaderboard = new LeaderboardService();
+		MemberSnapshot created = snapshot(1L, 0, false);
+		MemberSnapshot first = snapshot(1L, 30_000, false);
+		MemberSnapshot second = snapshot(1L, 60_000, false);
+
+		leaderboard.onMemberChanged(MemberChangedEvent.created(created));
+		leaderboard.onMemberChanged(MemberChangedEvent.mileageChanged(first, second));
+		leaderboard.onMemberChanged(MemberChangedEvent.mileageChanged(created, first));
+		assertEquals(60_000, leaderboard.getRank(1L).getTotalMileage());
+		assertEquals(MemberGrade.GOLD, leaderboard.getRank(1L).getGrade());
+		assertEquals(1, leaderboard.countInRange(50_000, 100_000));
+		assertEquals(0, leaderboard.countInRange(0, 49_999));
+
+		// 탈퇴 뒤에 늦게 온 변경은 회원을 다시 넣지 않음
+		MemberSnapshot late = snapshot(1L, 70_000, false);
+		leaderboard.onMemberChanged(MemberChangedEvent.deleted(second));
+		leaderboard.onMemberChanged(MemberChangedEvent.mileageChanged(second, late));
+		assertThrows(IllegalArgumentException.class, () -> leaderboard.getRank(1L));
+
+		// 복구 이후의 변경은 반영
+		leaderboard.onMemberChanged(MemberChangedEvent.restored(snapshot(1L, 60_000, true), snapshot(1L, 60_000, false)));
+		assertEquals(60_000, leaderboard.getRank(1L).getTotalMileage());
+	}
+
+	private static MemberSnapshot snapshot(Long id, int totalMileage, boolean deleted) {
+		LocalDateTime now = LocalDateTime.now();
+		return new MemberSnapshot(id, "rank@example.com", "랭킹회원", null, MemberGrade.getGradeByMileage(totalMileage),
+			totalMileage, totalMileage, deleted, now, now);
+	}
+}
@@ -0,0 +1,164 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.GradeStatisticsResponseDto;
+import com.airline.mileage.dto.response.MemberArchiveRunResponseDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 탈퇴 회원 보관: 보관 기간이 지난 탈퇴 회원만 members_archive 로 옮기고, 옮긴 뒤에도 통계와 이메일 중복 검사가 유지되며,
+ * 탈퇴 회원과 보관된 회원 모두 같은 id 로 복구되는지 검증
+ */
+@SpringBootTest
+class MemberArchiveServiceTest {
+
+	private static final int BENCHMARK_ROWS = Integer.getInteger("benchmark.archiveRows", 200_000);
+
+	@Autowired
+	private MemberArchiveService archiveService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberStatisticsService statisticsService;
+
+	@Autowired
+	private MileageExpiryService expiryService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void archivesOldTombstonesAndRestoresFromArchive() {
+		Long archived = createMember("archive-old@example.com", "보관대상회원");
+		memberService.addMileage(archived, new MileageRequestDto(1_200, "적립"));
+		memberService.addMileage(archived, new MileageRequestDto(300, "적립"));
+		Long recent = createMember("archive-recent@example.com", "최근탈퇴회원");
+		Long active = createMember("archive-active@example.com", "활성회원");
+		memberService.deleteMember(archived);
+		memberService.deleteMember(recent);
+		jdbcTemplate.update("UPDATE members SET deleted_at = ? WHERE id = ?",
+			LocalDateTime.now().minusDays(400), archived);
+		long deletedBefore = basic().getDeletedMembers();
+
+		// 설정된 보관 기간(365일)보다 짧게는 보관할 수 없음
+		assertThrows(IllegalArgumentException.class, () -> archiveService.archiveOlderThan(30));
+		MemberArchiveRunResponseDto result = archiveService.archiveOlderThan(null);
+
+		assertEquals(1, result.getArchivedRows());
+		assertEquals(0, count("SELECT COUNT(*) FROM members WHERE id = ?", archived));
+		assertEquals(1, count("SELECT COUNT(*) FROM members_archive WHERE id = ?", archived));
+		assertEquals(1, count("SELECT COUNT(*) FROM members WHERE id = ?", recent));
+		// 보관된 회원도 탈퇴 회원으로 세고, 이메일은 재사용할 수 없음
+		statisticsService.reconcile();
+		assertEquals(deletedBefore, basic().getDeletedMembers());
+		assertThrows(IllegalArgumentException.class, () -> createMember("archive-old@example.com", "재가입"));
+
+		// 보관 중 만료된 lot 은 보관 행의 잔액에서 차감
+		LocalDate expiredOn = LocalDate.now().minusDays(1);
+		jdbcTemplate.update("UPDATE mileage_lots SET expires_on = ?, expiry_bucket = ? WHERE member_id = ? AND amount = 1200",
+			expiredOn, expiredOn, archived);
+		expiryService.sweep(expiredOn);
+		assertEquals(300, count("SELECT available_mileage FROM members_archive WHERE id = ?", archived));
+		assertEquals(1, count("SELECT COUNT(*) FROM mileage_transactions WHERE member_id = ? AND type = 'EXPIRE'", archived));
+
+		MemberResponseDto restored = memberService.restoreMember(archived);
+		assertEquals(archived, restored.getId());
+		assertEquals(300, memberService.getMember(archived).getAvailableMileage());
+		assertEquals(1_500, memberService.getMember(archived).getTotalMileage());
+		assertEquals(0, count("SELECT COUNT(*) FROM members_archive WHERE id = ?", archived));
+		assertEquals(1, memberService.searchMembersByName("보관대상회원", 0, 10).getContent().size());
+
+		memberService.restoreMember(recent);
+		assertEquals(recent, memberService.getMember(recent).getId());
+		assertEquals(deletedBefore - 2, basic().getDeletedMembers());
+		statisticsService.reconcile();
+		assertEquals(deletedBefore - 2, basic().getDeletedMembers());
+
+		assertThrows(IllegalStateException.class, () -> memberService.restoreMember(active));
+		assertThrows(IllegalArgumentException.class, () -> memberService.restoreMember(Long.MAX_VALUE));
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.archiveRows 로 탈퇴 회원 수 조정)
+	 * 쉬지 않을 때와 duty-cycle 0.5 로 쉴 때의 초당 보관 건수 비교
+	 */
+	@Tag("benchmark")
+	@Test
+	void archiveThroughput() {
+		Object dutyCycle = ReflectionTestUtils.getField(archiveService, "dutyCycle");
+		try {
+			ReflectionTestUtils.setField(archiveService, "dutyCycle", 1.0);
+			MemberArchiveRunResponseDto full = archiveService.archive(seedTombstones("full"));
+			ReflectionTestUtils.setField(archiveService, "dutyCycle", 0.5);
+			MemberArchiveRunResponseDto throttled = archiveService.archive(seedTombstones("throttled"));
+
+			assertEquals(BENCHMARK_ROWS, full.getArchivedRows());
+			assertEquals(BENCHMARK_ROWS, throttled.getArchivedRows());
+			System.out.printf("[benchmark] archive %,d tombstones, batch %s%n", BENCHMARK_ROWS,
+				ReflectionTestUtils.getField(archiveService, "batchSize"));
+			System.out.printf("[benchmark]   duty 1.0: %,d ms, %,.0f rows/s%n",
+				full.getElapsedMillis(), full.getRowsPerSecond());
+			System.out.printf("[benchmark]   duty 0.5: %,d ms (paused %,d ms), %,.0f rows/s%n",
+				throttled.getElapsedMillis(), throttled.getThrottledMillis(), throttled.getRowsPerSecond());
+		} finally {
+			ReflectionTestUtils.setField(archiveService, "dutyCycle", dutyCycle);
+		}
+	}
+
+	/**
+	 * 400일 전에 탈퇴한 회원을 넣고, 이들이 대상이 되는 보관 기준 시각을 반환
+	 */
+	private LocalDateTime seedTombstones(String prefix) {
+		Timestamp deletedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(400));
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String sql = "INSERT INTO members (id, email, password, name, grade, total_mileage, available_mileage, "
+			+ "deleted, deleted_at, created_at, updated_at) "
+			+ "VALUES (NEXT VALUE FOR members_seq, ?, 'password123', ?, 'BASIC', 0, 0, true, ?, ?, ?)";
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < BENCHMARK_ROWS; i++) {
+			batch.add(new Object[] {"archive-" + prefix + i + "@example.com", "보관회원" + i, deletedAt, now, now});
+			if (batch.size() == 10_000) {
+				jdbcTemplate.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+		}
+		return LocalDateTime.now().minusDays(365);
+	}
+
+	private GradeStatisticsResponseDto basic() {
+		return statisticsService.getStatistics().getGrades().stream()
+			.filter(grade -> grade.getGrade() == MemberGrade.BASIC)
+			.findFirst().orElseThrow();
+	}
+
+	private long count(String sql, Long id) {
+		return jdbcTemplate.queryForObject(sql, Long.class, id);
+	}
+
+	private Long createMember(String email, String name) {
+		return memberService.createMember(new MemberRequestDto(email, "password123", name, null)).getId();
+	}
+}
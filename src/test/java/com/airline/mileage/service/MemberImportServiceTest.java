@@ -0,0 +1,130 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.response.MemberImportResponseDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 대량 회원 가입: 검증/중복/기존 이메일 거절과 거절 행 파일, 가입 회원의 조회/검색/통계 반영 검증
+ */
+@SpringBootTest
+class MemberImportServiceTest {
+
+	private static final int BENCHMARK_ROWS = Integer.getInteger("benchmark.importRows", 100_000);
+	private static final int BENCHMARK_SINGLE_ROWS = 2_000;
+
+	@Autowired
+	private MemberImportService importService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberStatisticsService statisticsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void importRejectsInvalidDuplicateAndExistingRows() throws Exception {
+		memberService.createMember(new MemberRequestDto("import-existing@example.com", "password123", "기존회원", null));
+		String csv = String.join("\n",
+			"email,password,name,phone",
+			"import1@example.com,password123,가져온회원1,010-1111-2222",
+			"IMPORT1@example.com,password123,중복회원,010-1111-2222",
+			"import2@example.com,password123,\"가져온, 회원2\",",
+			"not-an-email,password123,잘못된회원,010-1111-2222",
+			"",
+			"import-existing@example.com,password123,기존회원,",
+			"import3@example.com,password123",
+			"import4@example.com,pass,짧은비번,010-1111-2222",
+			"import5@example.com,password123,가져온회원5,010-1111-2222");
+		long activeBefore = statisticsService.getStatistics().getGrades().stream()
+			.filter(grade -> grade.getGrade() == MemberGrade.BASIC)
+			.findFirst().orElseThrow().getActiveMembers();
+
+		// 청크를 작게 나눠 검증/저장 겹침과 청크 간 중복도 함께 검증
+		Object chunkSize = ReflectionTestUtils.getField(importService, "chunkSize");
+		ReflectionTestUtils.setField(importService, "chunkSize", 2);
+		MemberImportResponseDto result;
+		try {
+			result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+		} finally {
+			ReflectionTestUtils.setField(importService, "chunkSize", chunkSize);
+		}
+
+		assertEquals(8, result.getTotalRows());
+		assertEquals(3, result.getImportedRows());
+		assertEquals(5, result.getRejectedRows());
+		assertEquals(4, result.getChunks());
+
+		MemberResponseDto imported = memberService.getMemberByEmail("import2@example.com");
+		assertEquals("가져온, 회원2", imported.getName());
+		assertNull(imported.getPhone());
+		assertEquals("가져온회원1", memberService.getMemberByEmail("import1@example.com").getName());
+		assertEquals(1, memberService.searchMembersByName("가져온회원5", 0, 10).getContent().size());
+		assertEquals(activeBefore + 3, statisticsService.getStatistics().getGrades().stream()
+			.filter(grade -> grade.getGrade() == MemberGrade.BASIC)
+			.findFirst().orElseThrow().getActiveMembers());
+
+		List<String> rejected = Files.readAllLines(Path.of(result.getRejectedFile()), StandardCharsets.UTF_8);
+		assertEquals(6, rejected.size());
+		assertEquals("line,reason,row", rejected.get(0));
+		assertTrue(rejected.get(1).startsWith("2,\"파일 안에서 중복된 이메일입니다\","));
+		assertTrue(rejected.get(2).startsWith("4,\"이메일 형식이 올바르지 않습니다\","));
+		// 청크 안에서는 검증 실패가 먼저, 기존 이메일이 나중에 기록됨
+		assertTrue(rejected.get(3).startsWith("6,\"열이 부족합니다"));
+		assertTrue(rejected.get(4).startsWith("5,\"이미 존재하는 이메일입니다: import-existing@example.com\","));
+		assertTrue(rejected.get(5).startsWith("7,\"비밀번호는 6-20자 사이여야 합니다\","));
+		Files.delete(Path.of(result.getRejectedFile()));
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.importRows 로 행 수 조정)
+	 * 한 건씩 가입(createMember)과 대량 가입의 초당 처리 행 수 비교
+	 */
+	@Tag("benchmark")
+	@Test
+	void importThroughput() throws Exception {
+		long started = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_SINGLE_ROWS; i++) {
+			memberService.createMember(new MemberRequestDto("single-bench" + i + "@example.com", "password123",
+				"단건회원" + i, "010-1234-5678"));
+		}
+		double singleRowsPerSecond = BENCHMARK_SINGLE_ROWS * 1e9 / (System.nanoTime() - started);
+
+		StringBuilder csv = new StringBuilder("email,password,name,phone\n");
+		for (int i = 0; i < BENCHMARK_ROWS; i++) {
+			csv.append("import-bench").append(i).append("@example.com,password123,대량회원").append(i)
+				.append(",010-1234-5678\n");
+		}
+		MemberImportResponseDto result = importService.importCsv(
+			new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(BENCHMARK_ROWS, result.getImportedRows());
+		assertEquals(BENCHMARK_ROWS, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM members WHERE email LIKE 'import-bench%'", Long.class));
+		System.out.printf("[benchmark] createMember: %,d rows, %,.0f rows/s%n",
+			BENCHMARK_SINGLE_ROWS, singleRowsPerSecond);
+		System.out.printf("[benchmark] import: %,d rows in %,d ms (%,.0f rows/s, %d chunks)%n",
+			result.getImportedRows(), result.getElapsedMillis(), result.getRowsPerSecond(), result.getChunks());
+	}
+}
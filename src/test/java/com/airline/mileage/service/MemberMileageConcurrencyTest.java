@@ -0,0 +1,107 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 한 회원에게 여러 스레드가 동시에 적립/사용할 때 유실되거나 초과 사용되는 마일리지가 없는지 검증
+ */
+@SpringBootTest
+class MemberMileageConcurrencyTest {
+
+	private static final int THREADS = 32;
+	private static final int CALLS_PER_THREAD = 50;
+	private static final int MILEAGE = 10;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberStatisticsService statisticsService;
+
+	@Test
+	void concurrentAddAndUseKeepBalanceExact() throws Exception {
+		MemberResponseDto member = memberService.createMember(new MemberRequestDto(
+			"concurrency@example.com", "password123", "동시성회원", "010-1234-5678"));
+		Long id = member.getId();
+
+		// 1) 동시 적립: 유실 없이 전부 반영되어야 함
+		runConcurrently(() -> memberService.addMileage(id, new MileageRequestDto(MILEAGE, "적립")));
+
+		int expectedTotal = THREADS * CALLS_PER_THREAD * MILEAGE;
+		MemberResponseDto afterAdd = memberService.getMember(id);
+		assertEquals(expectedTotal, afterAdd.getTotalMileage());
+		assertEquals(expectedTotal, afterAdd.getAvailableMileage());
+		assertEquals(MemberGrade.getGradeByMileage(expectedTotal), afterAdd.getGrade());
+
+		// 2) 잔액의 두 배를 동시에 사용 요청: 정확히 잔액만큼만 성공해야 함
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		Runnable use = () -> {
+			try {
+				memberService.useMileage(id, new MileageRequestDto(MILEAGE, "사용"));
+				succeeded.incrementAndGet();
+			} catch (IllegalArgumentException e) {
+				rejected.incrementAndGet();
+			}
+		};
+		runConcurrently(use);
+		runConcurrently(use);
+
+		MemberResponseDto afterUse = memberService.getMember(id);
+		assertEquals(0, afterUse.getAvailableMileage());
+		assertEquals(expectedTotal, afterUse.getTotalMileage());
+		assertEquals(expectedTotal / MILEAGE, succeeded.get());
+		assertEquals(THREADS * CALLS_PER_THREAD, rejected.get());
+
+		// 3) 이벤트로 갱신한 통계 카운터가 DB 집계와 일치해야 함
+		MemberStatisticsResponseDto live = statisticsService.getStatistics();
+		statisticsService.reconcile();
+		MemberStatisticsResponseDto reconciled = statisticsService.getStatistics();
+		assertEquals(0, reconciled.getLastReconcileMemberDrift());
+		assertEquals(0, reconciled.getLastReconcileMileageDrift());
+		assertEquals(reconciled.getTotalActive(), live.getTotalActive());
+		assertEquals(reconciled.getAvailableMileage(), live.getAvailableMileage());
+	}
+
+	private void runConcurrently(Runnable call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < CALLS_PER_THREAD; i++) {
+						call.run();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.entity.MemberSnapshot;
+import com.airline.mileage.event.MemberChangedEvent;
+
+/**
+ * 이름 검색 색인: 커밋 후 이벤트가 뒤바뀌어 도착해도 오래된 이름 변경이 탈퇴한 회원을 다시 넣거나
+ * 최신 이름을 덮어쓰지 않는지 검증
+ */
+class MemberNameSearchServiceTest {
+
+	@Test
+	void ignoresEventsOlderThanAppliedVersion() {
+		MemberNameSearchService search = new MemberNameSearchService();
+		MemberSnapshot created = snapshot(1L, "김철수", false);
+		MemberSnapshot renamed = snapshot(1L, "박영희", false);
+		MemberSnapshot renamedAgain = snapshot(1L, "이민수", false);
+
+		search.onMemberChanged(MemberChangedEvent.created(created));
+		search.onMemberChanged(MemberChangedEvent.updated(renamed, renamedAgain));
+		search.onMemberChanged(MemberChangedEvent.updated(created, renamed));
+		assertEquals(List.of(1L), search.search("이민수", 0, 10).ids());
+		assertEquals(0, search.search("박영희", 0, 10).total());
+
+		// 탈퇴 뒤에 늦게 온 이름 변경은 회원을 다시 넣지 않음
+		MemberSnapshot late = snapshot(1L, "최지훈", false);
+		search.onMemberChanged(MemberChangedEvent.deleted(renamedAgain));
+		search.onMemberChanged(MemberChangedEvent.updated(renamedAgain, late));
+		assertEquals(0, search.search("최지훈", 0, 10).total());
+		assertEquals(0, search.search("이민수", 0, 10).total());
+
+		// 복구 이후의 변경은 반영
+		search.onMemberChanged(MemberChangedEvent.restored(snapshot(1L, "이민수", true), snapshot(1L, "이민수", false)));
+		assertEquals(List.of(1L), search.search("이민수", 0, 10).ids());
+	}
+
+	private static MemberSnapshot snapshot(Long id, String name, boolean deleted) {
+		LocalDateTime now = LocalDateTime.now();
+		return new MemberSnapshot(id, "search@example.com", name, null, MemberGrade.BASIC, 0, 0, deleted, now, now);
+	}
+}
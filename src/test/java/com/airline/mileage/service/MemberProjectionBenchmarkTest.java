@@ -0,0 +1,130 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.repository.MemberRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 목록 조회: 엔티티를 읽어 DTO 로 바꾸는 방식과 스냅샷 프로젝션으로 바로 읽는 방식의 지연/할당량 비교
+ * mvn test -Pbenchmark 로 실행 (-Dbenchmark.projectionRows 로 행 수 조정)
+ */
+@Tag("benchmark")
+@SpringBootTest
+class MemberProjectionBenchmarkTest {
+
+	private static final int ROWS = Integer.getInteger("benchmark.projectionRows", 10_000);
+	private static final int WARMUP = 5;
+	private static final int ROUNDS = 20;
+	private static final MemberGrade GRADE = MemberGrade.VIP;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void compareEntityAndProjectionLists() {
+		seedMembers();
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		// 기존 방식: 엔티티를 영속성 컨텍스트에 올린 뒤 DTO 로 변환
+		int[] managed = new int[2];
+		Supplier<List<MemberResponseDto>> entityPath = () -> readOnly.execute(status -> {
+			List<MemberResponseDto> result = memberRepository.findByGrade(GRADE).stream()
+				.map(MemberResponseDto::new)
+				.collect(Collectors.toList());
+			managed[0] = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+			return result;
+		});
+		Supplier<List<MemberResponseDto>> projectionPath = () -> readOnly.execute(status -> {
+			List<MemberResponseDto> result = memberService.getMembersByGrade(GRADE);
+			managed[1] = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+			return result;
+		});
+
+		int expected = entityPath.get().size();
+		assertEquals(expected, projectionPath.get().size());
+		Result entity = measure(entityPath);
+		Result projection = measure(projectionPath);
+
+		System.out.printf("[benchmark] %,d-row list, managed entities: entity=%,d projection=%,d%n",
+			expected, managed[0], managed[1]);
+		print("entity", entity);
+		print("projection", projection);
+		System.out.printf("[benchmark] projection/entity: latency %.2fx, allocation %.2fx%n",
+			projection.avgMillis / entity.avgMillis, (double) projection.avgBytes / entity.avgBytes);
+		assertEquals(0, managed[1]);
+	}
+
+	private Result measure(Supplier<List<MemberResponseDto>> path) {
+		for (int i = 0; i < WARMUP; i++) {
+			path.get();
+		}
+		com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long nanos = 0;
+		long bytes = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+			long started = System.nanoTime();
+			path.get();
+			nanos += System.nanoTime() - started;
+			bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		}
+		return new Result(nanos / 1e6 / ROUNDS, bytes / ROUNDS);
+	}
+
+	private void print(String label, Result result) {
+		System.out.printf("[benchmark] %-10s avg %7.2f ms, %,12d bytes allocated per call%n",
+			label, result.avgMillis, result.avgBytes);
+	}
+
+	private void seedMembers() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String sql = "INSERT INTO members (id, email, password, name, phone, grade, total_mileage, available_mileage, "
+			+ "deleted, created_at, updated_at) VALUES (NEXT VALUE FOR members_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			int mileage = GRADE.getRequiredMileage() + i;
+			batch.add(new Object[] {"projection" + i + "@example.com", "password123", "프로젝션회원" + i,
+				"010-0000-0000", GRADE.name(), mileage, mileage, false, now, now});
+		}
+		jdbcTemplate.batchUpdate(sql, batch);
+	}
+
+	private record Result(double avgMillis, long avgBytes) {
+	}
+}
@@ -0,0 +1,73 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 회원 상세 응답 캐시: ETag 가 같으면 304, 변경 후에는 새 ETag 와 새 본문을 주고,
+ * 캐시된 바이트가 매번 직렬화한 응답과 같은지 검증
+ */
+@SpringBootTest(properties =
+	"spring.datasource.url=jdbc:h2:mem:response_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureMockMvc
+class MemberResponseCacheTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberResponseCache responseCache;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void conditionalGetAnswersNotModifiedUntilMemberChanges() throws Exception {
+		Long id = memberService.createMember(new MemberRequestDto(
+			"etag@example.com", "password123", "ETag회원", null)).getId();
+
+		String etag = mockMvc.perform(get("/api/members/{id}", id))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.availableMileage").value(0))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		mockMvc.perform(get("/api/members/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+		mockMvc.perform(get("/api/members/email/{email}", "ETAG@example.com").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified());
+		assertArrayEquals(objectMapper.writeValueAsBytes(memberService.getMember(id)),
+			responseCache.getById(id).json());
+		assertSame(responseCache.getById(id), responseCache.getById(id));
+
+		memberService.addMileage(id, new MileageRequestDto(700, "항공편 적립"));
+
+		String changed = mockMvc.perform(get("/api/members/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.availableMileage").value(700))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(etag, changed);
+		assertEquals(changed, responseCache.getByEmail("etag@example.com").etag());
+		mockMvc.perform(get("/api/members/{id}", Long.MAX_VALUE))
+			.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,191 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.response.MemberStatisticsResponseDto;
+import com.airline.mileage.dto.response.MileageExpirySweepResponseDto;
+import com.airline.mileage.dto.response.MileageLotResponseDto;
+
+/**
+ * lot 단위 마일리지: 사용은 소멸일이 빠른 lot 부터 차감되고, 소멸 스윕은 만료된 lot 만 읽어 잔액을 맞추는지 검증
+ * 벤치마크는 mvn test -Pbenchmark 로 실행 (기본 200만 lot 중 1% 만료, -Dbenchmark.expiryLots=50000000 은 MySQL 등 디스크 DB 권장)
+ */
+@SpringBootTest
+class MileageExpiryServiceTest {
+
+	private static final int BENCHMARK_LOTS = Integer.getInteger("benchmark.expiryLots", 2_000_000);
+	private static final int BENCHMARK_DUE_PERCENT = Integer.getInteger("benchmark.expiryDuePercent", 1);
+	private static final int LOTS_PER_MEMBER = 20;
+	private static final int INSERT_BATCH = 10_000;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MileageLotService lotService;
+
+	@Autowired
+	private MileageExpiryService expiryService;
+
+	@Autowired
+	private MemberStatisticsService statisticsService;
+
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void useConsumesOldestLotsAndSweepExpiresRemainder() {
+		Long id = memberService.createMember(new MemberRequestDto(
+			"expiry@example.com", "password123", "소멸회원", "010-1234-5678")).getId();
+		memberService.addMileage(id, new MileageRequestDto(100, "첫 적립"));
+		memberService.addMileage(id, new MileageRequestDto(200, "두번째 적립"));
+		List<MileageLotResponseDto> lots = lotService.getOpenLots(id);
+		assertEquals(2, lots.size());
+		Long first = lots.get(0).getId();
+		Long second = lots.get(1).getId();
+
+		// 먼저 적립한 lot 을 모두 쓰고 다음 lot 에서 나머지 차감
+		memberService.useMileage(id, new MileageRequestDto(150, "사용"));
+		lots = lotService.getOpenLots(id);
+		assertEquals(1, lots.size());
+		assertEquals(second, lots.get(0).getId());
+		assertEquals(150, lots.get(0).getRemaining());
+		Long useId = jdbcTemplate.queryForObject(
+			"SELECT MAX(id) FROM mileage_transactions WHERE member_id = ? AND type = 'USE'", Long.class, id);
+		assertEquals(Map.of(first, 100, second, 50), usages(useId));
+
+		// lot 도입 이전 잔액 (소멸되지 않음)
+		jdbcTemplate.update("UPDATE members SET available_mileage = available_mileage + 30 WHERE id = ?", id);
+		memberService.getMember(id);
+
+		LocalDate expiresOn = lots.get(0).getExpiresOn();
+		expiryService.sweep(expiresOn.minusDays(1));
+		assertEquals(1, lotService.getOpenLots(id).size());
+		MileageExpirySweepResponseDto result = expiryService.sweep(expiresOn);
+		assertTrue(result.getExpiredLots() >= 1);
+		assertTrue(lotService.getOpenLots(id).isEmpty());
+
+		assertEquals(30, memberService.getMember(id).getAvailableMileage());
+		assertEquals(300, memberService.getMember(id).getTotalMileage());
+		Map<String, Object> expire = jdbcTemplate.queryForMap(
+			"SELECT id, delta, balance_after FROM mileage_transactions WHERE member_id = ? AND type = 'EXPIRE'", id);
+		assertEquals(-150, ((Number) expire.get("delta")).intValue());
+		assertEquals(30, ((Number) expire.get("balance_after")).intValue());
+		assertEquals(Map.of(second, 150), usages(((Number) expire.get("id")).longValue()));
+
+		// 다시 실행하면 처리할 lot 이 없고, 남은 잔액은 lot 없이 사용
+		assertEquals(0, expiryService.sweep(expiresOn).getExpiredLots());
+		assertEquals(0, memberService.useMileage(id, new MileageRequestDto(30, "사용")).getAvailableMileage());
+
+		// 커밋 후 이벤트로 갱신한 통계가 DB 와 일치
+		statisticsService.reconcile();
+		MemberStatisticsResponseDto statistics = statisticsService.getStatistics();
+		assertEquals(0, statistics.getLastReconcileMileageDrift());
+	}
+
+	@Test
+	@Tag("benchmark")
+	void sweepTouchesOnlyDueLots() {
+		LocalDate asOf = LocalDate.now().plusYears(20);
+		long dueLots = seedLots(asOf);
+		String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id, member_id, remaining, expiry_bucket "
+			+ "FROM mileage_lots WHERE expiry_bucket <= DATE '" + asOf + "' ORDER BY expiry_bucket, id LIMIT 1000",
+			String.class);
+		System.out.println("[benchmark] plan: " + plan.replaceAll("\\s+", " "));
+
+		MileageExpirySweepResponseDto result = expiryService.sweep(asOf);
+		assertEquals(dueLots, result.getExpiredLots());
+		long idleStarted = System.nanoTime();
+		assertEquals(0, expiryService.sweep(asOf).getExpiredLots());
+		double idleMillis = (System.nanoTime() - idleStarted) / 1e6;
+
+		assertEquals(0L, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM members m WHERE m.email LIKE 'expiry%@bench.example.com' AND m.available_mileage <> "
+				+ "(SELECT COALESCE(SUM(l.remaining), 0) FROM mileage_lots l WHERE l.member_id = m.id)", Long.class));
+		System.out.printf("[benchmark] %,d lots (%,d due): sweep %,d ms in %,d batches, %,.0f lots/s, "
+				+ "%,d members; idle sweep %.2f ms%n", BENCHMARK_LOTS, dueLots, result.getElapsedMillis(),
+			result.getBatches(), result.getLotsPerSecond(), result.getAffectedMembers(), idleMillis);
+	}
+
+	private Map<Long, Integer> usages(Long transactionId) {
+		Map<Long, Integer> usages = new HashMap<>();
+		jdbcTemplate.query("SELECT lot_id, amount FROM mileage_lot_usages WHERE transaction_id = ?",
+			rs -> {
+				usages.put(rs.getLong("lot_id"), rs.getInt("amount"));
+			}, transactionId);
+		return usages;
+	}
+
+	/**
+	 * JDBC 배치 INSERT 로 회원과 lot 시드 (회원 잔액 = lot 잔여 합계)
+	 * @return 만료 대상 lot 수
+	 */
+	private long seedLots(LocalDate asOf) {
+		Random random = new Random(42);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int members = BENCHMARK_LOTS / LOTS_PER_MEMBER;
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+		for (int m = 0; m < members; m++) {
+			batch.add(new Object[] {"expiry" + m + "@bench.example.com", "password123", "소멸회원" + m, now, now});
+			if (batch.size() == INSERT_BATCH || m == members - 1) {
+				jdbcTemplate.batchUpdate("INSERT INTO members (id, email, password, name, grade, total_mileage, "
+					+ "available_mileage, deleted, created_at, updated_at) "
+					+ "VALUES (NEXT VALUE FOR members_seq, ?, ?, ?, 'BASIC', 0, 0, false, ?, ?)",
+					batch);
+				batch.clear();
+			}
+		}
+		List<Long> memberIds = jdbcTemplate.queryForList(
+			"SELECT id FROM members WHERE email LIKE 'expiry%@bench.example.com' ORDER BY id", Long.class);
+
+		String lotSql = "INSERT INTO mileage_lots (member_id, amount, remaining, earned_at, expires_on, expiry_bucket) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+		long due = 0;
+		for (Long memberId : memberIds) {
+			for (int l = 0; l < LOTS_PER_MEMBER; l++) {
+				int amount = 100 + random.nextInt(5_000);
+				boolean expired = random.nextInt(100) < BENCHMARK_DUE_PERCENT;
+				Date expiresOn = Date.valueOf(expired
+					? asOf.minusDays(random.nextInt(30)) : asOf.plusDays(1 + random.nextInt(3_650)));
+				due += expired ? 1 : 0;
+				batch.add(new Object[] {memberId, amount, amount, now, expiresOn, expiresOn});
+				if (batch.size() == INSERT_BATCH) {
+					jdbcTemplate.batchUpdate(lotSql, batch);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(lotSql, batch);
+		}
+		jdbcTemplate.update("UPDATE members m SET available_mileage = "
+			+ "(SELECT SUM(l.remaining) FROM mileage_lots l WHERE l.member_id = m.id), total_mileage = "
+			+ "(SELECT SUM(l.amount) FROM mileage_lots l WHERE l.member_id = m.id) "
+			+ "WHERE m.email LIKE 'expiry%@bench.example.com'");
+		leaderboardService.rebuild();
+		statisticsService.reconcile();
+		return due;
+	}
+}
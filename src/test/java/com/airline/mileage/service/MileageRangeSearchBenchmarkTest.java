@@ -0,0 +1,140 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.airline.mileage.dto.response.CursorPageResponseDto;
+import com.airline.mileage.dto.response.MemberResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+import com.airline.mileage.repository.MemberRepository;
+
+/**
+ * 마일리지 범위 검색: 키셋 페이지 지연, DB COUNT 와 메모리 인덱스 COUNT 비교
+ * mvn test -Pbenchmark 로 실행 (기본 100만 행, -Dbenchmark.rangeRows=10000000 으로 1000만 행. 힙 4GB 이상 필요)
+ */
+@Tag("benchmark")
+@SpringBootTest
+class MileageRangeSearchBenchmarkTest {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rangeRows", 1_000_000);
+	private static final int INSERT_BATCH = 10_000;
+	private static final int MAX_MILEAGE = 2_000_000;
+	private static final int QUERIES = 200;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void compareRangeCountAndPaging() {
+		long seeded = seedMembers();
+		leaderboardService.rebuild();
+		System.out.printf("[benchmark] seeded %,d rows in %,d ms%n", ROWS, seeded);
+		String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT COUNT(*) FROM members WHERE deleted = false "
+			+ "AND total_mileage BETWEEN 1000 AND 50000", String.class);
+		System.out.println("[benchmark] plan: " + plan.replaceAll("\\s+", " "));
+
+		Random random = new Random(7);
+		int[][] ranges = new int[QUERIES][];
+		for (int i = 0; i < QUERIES; i++) {
+			int min = random.nextInt(MAX_MILEAGE);
+			ranges[i] = new int[] {min, min + random.nextInt(MAX_MILEAGE / 10)};
+		}
+
+		// 범위 COUNT: DB (인덱스 범위 스캔) vs 메모리 순위 인덱스
+		long started = System.nanoTime();
+		long dbTotal = 0;
+		for (int[] range : ranges) {
+			dbTotal += memberRepository.countActiveByMileageRange(range[0], range[1]);
+		}
+		double dbMicros = (System.nanoTime() - started) / 1_000.0 / QUERIES;
+
+		started = System.nanoTime();
+		long memoryTotal = 0;
+		for (int[] range : ranges) {
+			memoryTotal += leaderboardService.countInRange(range[0], range[1]);
+		}
+		double memoryMicros = (System.nanoTime() - started) / 1_000.0 / QUERIES;
+		assertEquals(dbTotal, memoryTotal);
+
+		// 키셋 페이지: 넓은 범위를 끝까지 따라가도 페이지당 비용이 일정해야 함
+		int pages = 0;
+		long rows = 0;
+		long firstPageNanos = 0;
+		long lastPageNanos = 0;
+		Set<Long> seen = new HashSet<>();
+		String cursor = null;
+		int min = MAX_MILEAGE / 2;
+		int max = min + MAX_MILEAGE / 100;
+		do {
+			long pageStarted = System.nanoTime();
+			CursorPageResponseDto<MemberResponseDto> page =
+				memberService.getMembersByMileageRange(min, max, cursor, MemberService.MAX_PAGE_SIZE);
+			long elapsed = System.nanoTime() - pageStarted;
+			if (pages == 0) {
+				firstPageNanos = elapsed;
+			}
+			lastPageNanos = elapsed;
+			for (MemberResponseDto member : page.getContent()) {
+				assertTrue(seen.add(member.getId()), "중복 행: " + member.getId());
+			}
+			rows += page.getSize();
+			pages++;
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		assertEquals(memberRepository.countActiveByMileageRange(min, max), rows);
+
+		System.out.printf("[benchmark] %,d rows: range count db %.1f us/query, memory %.1f us/query (x%.0f)%n",
+			ROWS, dbMicros, memoryMicros, dbMicros / memoryMicros);
+		System.out.printf("[benchmark] keyset paging %,d rows in %d pages: first page %.2f ms, last page %.2f ms%n",
+			rows, pages, firstPageNanos / 1e6, lastPageNanos / 1e6);
+	}
+
+	/**
+	 * JDBC 배치 INSERT 로 시드 (5% 는 탈퇴 회원)
+	 * @return 소요 시간(ms)
+	 */
+	private long seedMembers() {
+		long started = System.currentTimeMillis();
+		Random random = new Random(42);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String sql = "INSERT INTO members (id, email, password, name, grade, total_mileage, available_mileage, "
+			+ "deleted, created_at, updated_at) VALUES (NEXT VALUE FOR members_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+		for (int i = 0; i < ROWS; i++) {
+			int mileage = random.nextInt(MAX_MILEAGE);
+			batch.add(new Object[] {"range" + i + "@bench.example.com", "password123", "범위회원" + i,
+				MemberGrade.getGradeByMileage(mileage).name(), mileage, mileage, random.nextInt(20) == 0, now, now});
+			if (batch.size() == INSERT_BATCH) {
+				jdbcTemplate.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+		}
+		return System.currentTimeMillis() - started;
+	}
+}
@@ -0,0 +1,208 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+import com.airline.mileage.dto.request.MileageTransferRequestDto;
+import com.airline.mileage.dto.response.MileageTransferResponseDto;
+import com.airline.mileage.entity.MemberGrade;
+
+/**
+ * 마일리지 양도: 한 트랜잭션으로 차감/적립되고 양쪽 누적 마일리지와 등급은 그대로이며, lot 소멸일이 유지되고,
+ * 실패하면 아무것도 반영되지 않으며, 반대 방향 양도가 동시에 들어와도 교착 없이 잔액 합계가 보존되는지 검증
+ */
+@SpringBootTest
+class MileageTransferServiceTest {
+
+	private static final int THREADS = Integer.getInteger("benchmark.transferThreads", 32);
+	private static final int BENCHMARK_MEMBERS = Integer.getInteger("benchmark.transferMembers", 20);
+	private static final int TRANSFERS_PER_THREAD = Integer.getInteger("benchmark.transfersPerThread", 200);
+
+	@Autowired
+	private MileageTransferService transferService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MileageLotService lotService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void transfersAtomicallyWithoutChangingGrades() throws Exception {
+		Long sender = createMember("transfer-sender@example.com");
+		Long first = createMember("transfer-first@example.com");
+		Long second = createMember("transfer-second@example.com");
+		memberService.addMileage(sender, new MileageRequestDto(30_000, "항공편 적립"));
+
+		MileageTransferResponseDto result = transferService.transfer(sender,
+			new MileageTransferRequestDto(first, 20_000, "가족 합산"));
+		assertEquals(10_000, result.getSender().getAvailableMileage());
+		assertEquals(30_000, result.getSender().getTotalMileage());
+		assertEquals(20_000, result.getRecipients().get(0).getAvailableMileage());
+		assertEquals(0, result.getRecipients().get(0).getTotalMileage());
+		assertEquals(MemberGrade.BASIC, memberService.getMember(first).getGrade());
+		// 받은 마일리지는 보낸 회원의 lot 소멸일을 그대로 가짐
+		assertEquals(lotService.getOpenLots(sender).get(0).getExpiresOn(),
+			lotService.getOpenLots(first).get(0).getExpiresOn());
+
+		result = transferService.transferAll(sender, List.of(
+			new MileageTransferRequestDto(second, 1_000, "급여"),
+			new MileageTransferRequestDto(first, 2_000, "급여"),
+			new MileageTransferRequestDto(second, 500, "급여")));
+		assertEquals(3, result.getTransfers());
+		assertEquals(2, result.getRecipients().size());
+		assertEquals(6_500, memberService.getMember(sender).getAvailableMileage());
+		assertEquals(22_000, memberService.getMember(first).getAvailableMileage());
+		assertEquals(1_500, memberService.getMember(second).getAvailableMileage());
+		assertEquals(4L, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM mileage_transactions WHERE member_id = ? AND type = 'TRANSFER_IN'", Long.class, first)
+			+ jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM mileage_transactions WHERE member_id = ? AND type = 'TRANSFER_IN'", Long.class, second));
+
+		// 잔액 부족, 없는 회원, 자기 자신: 어느 쪽도 바뀌지 않음
+		assertThrows(IllegalArgumentException.class, () -> transferService.transferAll(sender, List.of(
+			new MileageTransferRequestDto(first, 6_000, "급여"),
+			new MileageTransferRequestDto(second, 600, "급여"))));
+		assertThrows(IllegalArgumentException.class, () -> transferService.transfer(sender,
+			new MileageTransferRequestDto(Long.MAX_VALUE, 100, "오류")));
+		assertThrows(IllegalArgumentException.class, () -> transferService.transfer(sender,
+			new MileageTransferRequestDto(sender, 100, "오류")));
+		assertEquals(6_500, memberService.getMember(sender).getAvailableMileage());
+		assertEquals(22_000, memberService.getMember(first).getAvailableMileage());
+
+		// 반대 방향 동시 양도
+		AtomicInteger failures = new AtomicInteger();
+		runConcurrently(4, 25, () -> {
+			boolean forward = ThreadLocalRandom.current().nextBoolean();
+			try {
+				transferService.transfer(forward ? sender : first,
+					new MileageTransferRequestDto(forward ? first : sender, 10, "동시 양도"));
+			} catch (IllegalArgumentException e) {
+				failures.incrementAndGet();
+			}
+		});
+		assertEquals(0, failures.get());
+		assertEquals(28_500, memberService.getMember(sender).getAvailableMileage()
+			+ memberService.getMember(first).getAvailableMileage());
+	}
+
+	@Test
+	void roundTripDoesNotChangeGrades() {
+		Long silver = createMember("transfer-roundtrip-silver@example.com");
+		Long basic = createMember("transfer-roundtrip-basic@example.com");
+		memberService.addMileage(silver, new MileageRequestDto(45_000, "항공편 적립"));
+		memberService.addMileage(basic, new MileageRequestDto(10_000, "항공편 적립"));
+
+		for (int i = 0; i < 3; i++) {
+			transferService.transfer(silver, new MileageTransferRequestDto(basic, 40_000, "주고받기"));
+			transferService.transfer(basic, new MileageTransferRequestDto(silver, 40_000, "주고받기"));
+		}
+		assertEquals(MemberGrade.SILVER, memberService.getMember(silver).getGrade());
+		assertEquals(45_000, memberService.getMember(silver).getTotalMileage());
+		assertEquals(45_000, memberService.getMember(silver).getAvailableMileage());
+		assertEquals(MemberGrade.BASIC, memberService.getMember(basic).getGrade());
+		assertEquals(10_000, memberService.getMember(basic).getTotalMileage());
+		assertEquals(10_000, memberService.getMember(basic).getAvailableMileage());
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.transferThreads, transferMembers, transfersPerThread 로 조정)
+	 * 여러 스레드가 적은 회원 사이에서 임의 방향으로 단건/일괄 양도할 때 처리량과 잔액 합계 보존 확인
+	 */
+	@Tag("benchmark")
+	@Test
+	void randomTransfersConserveMileage() throws Exception {
+		List<Long> members = new ArrayList<>();
+		for (int i = 0; i < BENCHMARK_MEMBERS; i++) {
+			Long id = createMember("transfer-bench" + i + "@example.com");
+			memberService.addMileage(id, new MileageRequestDto(100_000, "항공편 적립"));
+			members.add(id);
+		}
+		long availableBefore = sum("available_mileage", members);
+		long totalBefore = sum("total_mileage", members);
+
+		AtomicInteger committed = new AtomicInteger();
+		AtomicInteger insufficient = new AtomicInteger();
+		long started = System.nanoTime();
+		runConcurrently(THREADS, TRANSFERS_PER_THREAD, () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			Long from = members.get(random.nextInt(members.size()));
+			List<MileageTransferRequestDto> transfers = new ArrayList<>();
+			int recipients = random.nextInt(4) == 0 ? 1 + random.nextInt(5) : 1;
+			while (transfers.size() < recipients) {
+				Long to = members.get(random.nextInt(members.size()));
+				if (!to.equals(from)) {
+					transfers.add(new MileageTransferRequestDto(to, 1 + random.nextInt(5_000), "임의 양도"));
+				}
+			}
+			try {
+				transferService.transferAll(from, transfers);
+				committed.incrementAndGet();
+			} catch (IllegalArgumentException e) {
+				insufficient.incrementAndGet();
+			}
+		});
+		long elapsedNanos = System.nanoTime() - started;
+
+		assertEquals(availableBefore, sum("available_mileage", members));
+		assertEquals(totalBefore, sum("total_mileage", members));
+		assertEquals(THREADS * TRANSFERS_PER_THREAD, committed.get() + insufficient.get());
+		System.out.printf("[benchmark] transfer %d threads x %d among %d members: %,d committed, %,d insufficient, "
+				+ "%,d ms, %,.0f transfers/s%n", THREADS, TRANSFERS_PER_THREAD, BENCHMARK_MEMBERS,
+			committed.get(), insufficient.get(), elapsedNanos / 1_000_000, committed.get() * 1e9 / elapsedNanos);
+	}
+
+	private long sum(String column, List<Long> members) {
+		String ids = members.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElseThrow();
+		return jdbcTemplate.queryForObject("SELECT SUM(" + column + ") FROM members WHERE id IN (" + ids + ")",
+			Long.class);
+	}
+
+	private Long createMember(String email) {
+		return memberService.createMember(new MemberRequestDto(email, "password123", "양도회원", null)).getId();
+	}
+
+	private void runConcurrently(int threads, int callsPerThread, Runnable call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < callsPerThread; i++) {
+						call.run();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(5, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.airline.mileage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.airline.mileage.AirlineMileageSystemApplication;
+import com.airline.mileage.dto.request.MemberRequestDto;
+import com.airline.mileage.dto.request.MileageRequestDto;
+
+/**
+ * write-behind 사용 시 정상 종료하면 대기 중인 적립이 하나도 유실되지 않는지,
+ * flush 와 겹친 적립 응답이 방금 넣은 적립을 빠뜨리지 않는지 검증
+ * 컨텍스트를 직접 띄우고 닫은 뒤 DB 를 JDBC 로 다시 열어 확인한다.
+ */
+class MileageWriteBufferShutdownTest {
+
+	// 종료 후에도 데이터가 남도록 파일 DB 사용 (인메모리 DB 는 컨텍스트 종료 시 함께 닫힘)
+	private static final String URL =
+		"jdbc:h2:file:./target/h2/write_behind;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000";
+	private static final int THREADS = 16;
+	private static final int CALLS_PER_THREAD = 100;
+	private static final int MILEAGE = 7;
+
+	@Test
+	void pendingCreditsAreFlushedOnShutdown() throws Exception {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(AirlineMileageSystemApplication.class)
+			.web(WebApplicationType.NONE)
+			.run(
+				"--spring.datasource.url=" + URL,
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--mileage.write-behind.enabled=true",
+				// 주기/임계치 flush 가 일어나지 않도록 해서 종료 시 flush 만 검증
+				"--mileage.write-behind.flush-interval-ms=600000",
+				"--mileage.write-behind.flush-threshold=100000000");
+
+		int perPhase = THREADS * CALLS_PER_THREAD * MILEAGE;
+		int used = perPhase / 2;
+		Long id;
+		try {
+			MemberService memberService = context.getBean(MemberService.class);
+			MileageWriteBuffer writeBuffer = context.getBean(MileageWriteBuffer.class);
+			id = memberService.createMember(new MemberRequestDto(
+				"hot-partner@example.com", "password123", "제휴사", null)).getId();
+
+			addConcurrently(memberService, id);
+			assertEquals(THREADS * CALLS_PER_THREAD, writeBuffer.getStats().getPendingCredits());
+			assertEquals(perPhase, memberService.getMember(id).getAvailableMileage());
+
+			// 사용은 대기 적립 + 저장된 잔액 기준
+			memberService.useMileage(id, new MileageRequestDto(used, "사용"));
+			assertEquals(0, writeBuffer.getStats().getPendingCredits());
+			assertEquals(0, writeBuffer.pendingFor(id));
+
+			addConcurrently(memberService, id);
+			assertEquals(THREADS * CALLS_PER_THREAD, writeBuffer.getStats().getPendingCredits());
+
+			// 꺼낸 적립은 반영 트랜잭션이 끝날 때까지 계속 더해지고, 롤백되면 대기열로 돌아옴
+			Long memberId = id;
+			context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+				writeBuffer.flushMember(memberId);
+				assertEquals(perPhase, writeBuffer.pendingFor(memberId));
+				status.setRollbackOnly();
+			});
+			assertEquals(perPhase, writeBuffer.pendingFor(id));
+			assertEquals(THREADS * CALLS_PER_THREAD, writeBuffer.getStats().getPendingCredits());
+		} finally {
+			context.close();
+		}
+
+		try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+			try (PreparedStatement statement = connection.prepareStatement(
+					"SELECT total_mileage, available_mileage FROM members WHERE id = ?")) {
+				statement.setLong(1, id);
+				try (ResultSet rs = statement.executeQuery()) {
+					rs.next();
+					assertEquals(perPhase * 2, rs.getInt(1));
+					assertEquals(perPhase * 2 - used, rs.getInt(2));
+				}
+			}
+			try (PreparedStatement statement = connection.prepareStatement(
+					"SELECT COUNT(*), SUM(delta) FROM mileage_transactions WHERE member_id = ?")) {
+				statement.setLong(1, id);
+				try (ResultSet rs = statement.executeQuery()) {
+					rs.next();
+					assertEquals(THREADS * CALLS_PER_THREAD * 2 + 1, rs.getInt(1));
+					assertEquals(perPhase * 2 - used, rs.getInt(2));
+				}
+			}
+		}
+	}
+
+	@Test
+	void addResponseIncludesCreditsFlushedConcurrently() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AirlineMileageSystemApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(
+					"--spring.datasource.url=jdbc:h2:mem:write_behind_flush;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+						+ "LOCK_TIMEOUT=10000",
+					"--spring.jpa.hibernate.ddl-auto=create",
+					"--mileage.write-behind.enabled=true",
+					"--mileage.write-behind.flush-interval-ms=600000",
+					"--mileage.write-behind.flush-threshold=100000000")) {
+			MemberService memberService = context.getBean(MemberService.class);
+			MileageWriteBuffer writeBuffer = context.getBean(MileageWriteBuffer.class);
+			Long id = memberService.createMember(new MemberRequestDto(
+				"flush-race@example.com", "password123", "제휴사", null)).getId();
+
+			// 적립 응답 사이사이에 flush 가 커밋되어도 방금 넣은 적립까지 모두 보여야 함
+			ExecutorService flusher = Executors.newSingleThreadExecutor();
+			AtomicBoolean running = new AtomicBoolean(true);
+			try {
+				Future<?> flushing = flusher.submit(() -> {
+					while (running.get()) {
+						writeBuffer.flush();
+					}
+				});
+				for (int i = 1; i <= 500; i++) {
+					int available = memberService.addMileage(id, new MileageRequestDto(MILEAGE, "제휴 적립"))
+						.getAvailableMileage();
+					assertTrue(available >= i * MILEAGE, "응답 " + available + " < " + i * MILEAGE);
+				}
+				running.set(false);
+				flushing.get(1, TimeUnit.MINUTES);
+			} finally {
+				running.set(false);
+				flusher.shutdownNow();
+			}
+			writeBuffer.flush();
+			assertEquals(500 * MILEAGE, memberService.getMember(id).getAvailableMileage());
+
+			// 커밋된 flush 만 epoch 를 올림
+			long epoch = writeBuffer.epoch(id);
+			memberService.addMileage(id, new MileageRequestDto(MILEAGE, "제휴 적립"));
+			context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+				writeBuffer.flushMember(id);
+				status.setRollbackOnly();
+			});
+			assertEquals(epoch, writeBuffer.epoch(id));
+			writeBuffer.flush();
+			assertEquals(epoch + 1, writeBuffer.epoch(id));
+		}
+	}
+
+	private void addConcurrently(MemberService memberService, Long id) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < CALLS_PER_THREAD; i++) {
+						memberService.addMileage(id, new MileageRequestDto(MILEAGE, "제휴 적립"));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
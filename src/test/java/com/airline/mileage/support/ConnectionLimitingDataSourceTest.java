@@ -0,0 +1,50 @@
+package com.airline.mileage.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+
+import org.h2.jdbc.JdbcConnection;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 커넥션 획득 제한: 허가 수를 넘으면 제한 시간 뒤 실패하고, 커넥션을 닫으면 허가를 한 번만 돌려주는지 검증
+ */
+class ConnectionLimitingDataSourceTest {
+
+	@Test
+	void closeReleasesPermitOnce() throws Exception {
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(
+			new DriverManagerDataSource("jdbc:h2:mem:connection_limit;MODE=MySQL", "sa", ""), 1, 50);
+
+		Connection connection = dataSource.getConnection();
+		assertEquals(1, dataSource.getActiveConnections());
+		assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+		assertEquals(1, dataSource.getTimeoutCount());
+
+		// 감싼 커넥션도 그대로 쓰고 풀 수 있음
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery("SELECT 1")) {
+			assertTrue(rs.next());
+		}
+		assertTrue(connection.isWrapperFor(JdbcConnection.class));
+		assertEquals(JdbcConnection.class, connection.unwrap(JdbcConnection.class).getClass());
+
+		connection.close();
+		connection.close();
+		assertEquals(0, dataSource.getActiveConnections());
+		assertTrue(connection.isClosed());
+
+		try (Connection again = dataSource.getConnection()) {
+			assertFalse(again.isClosed());
+			assertEquals(1, dataSource.getActiveConnections());
+		}
+		assertEquals(0, dataSource.getActiveConnections());
+	}
+}
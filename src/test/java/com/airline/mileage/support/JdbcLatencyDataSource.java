@@ -0,0 +1,69 @@
+package com.airline.mileage.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 문장 실행과 커밋마다 지연을 넣는 DataSource (부하 테스트용)
+ * 내장 H2 는 네트워크 왕복이 없으므로 MySQL 왕복 시간을 흉내내기 위해 사용한다.
+ */
+public final class JdbcLatencyDataSource {
+
+	private JdbcLatencyDataSource() {
+	}
+
+	/**
+	 * 컨텍스트의 DataSource 를 감싸는 후처리기 (latencyMillis 가 0 이하면 감싸지 않음)
+	 */
+	public static BeanPostProcessor postProcessor(long latencyMillis) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return latencyMillis > 0 && bean instanceof DataSource dataSource ? wrap(dataSource, latencyMillis) : bean;
+			}
+		};
+	}
+
+	public static DataSource wrap(DataSource target, long latencyMillis) {
+		return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+			new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+				Object result = invoke(target, method, args);
+				return result instanceof Connection connection ? delayed(connection, Connection.class, latencyMillis)
+					: result;
+			});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T delayed(T target, Class<T> type, long latencyMillis) {
+		Class<?>[] interfaces = target instanceof PreparedStatement
+			? new Class<?>[] {PreparedStatement.class} : new Class<?>[] {type};
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), interfaces, (proxy, method, args) -> {
+			String name = method.getName();
+			if (name.startsWith("execute") || name.equals("commit")) {
+				Thread.sleep(latencyMillis);
+			}
+			Object result = invoke(target, method, args);
+			if (result instanceof Statement statement && (name.startsWith("prepare")
+					|| name.equals("createStatement"))) {
+				return delayed(statement, Statement.class, latencyMillis);
+			}
+			return result;
+		});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.airline.mileage.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 이름 n-gram 색인: 한글 음절/초성, 영문 검색과 순위, 변경/삭제 반영 검증
+ */
+class NGramIndexTest {
+
+	private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+	private static final String SYLLABLES = "민서준지현우예하도윤수영진성재은혜동길철호연주희태";
+
+	@Test
+	void searchKoreanAndLatinNames() {
+		NGramIndex index = new NGramIndex();
+		index.put(1, "홍길동");
+		index.put(2, "김길동");
+		index.put(3, "홍길");
+		index.put(4, "John Smith");
+		index.put(5, "Johnny Walker");
+		index.put(6, "길동호");
+
+		// 순위: 전체 일치 > 앞부분 일치 > 포함, 같으면 짧은 이름
+		assertEquals(List.of(3L, 1L), index.search("홍길", 0, 10).ids());
+		assertEquals(List.of(6L, 1L, 2L), index.search("길동", 0, 10).ids());
+		assertEquals(List.of(6L, 3L, 1L, 2L), index.search("길", 0, 10).ids());
+		// 초성 검색
+		assertEquals(List.of(1L), index.search("ㅎㄱㄷ", 0, 10).ids());
+		assertEquals(List.of(3L, 1L), index.search("ㅎㄱ", 0, 10).ids());
+		// 영문: 대소문자 무시, 여러 단어는 모두 포함
+		assertEquals(List.of(4L, 5L), index.search("JOHN", 0, 10).ids());
+		assertEquals(List.of(4L), index.search("john smi", 0, 10).ids());
+		assertEquals(List.of(4L), index.search("smith john", 0, 10).ids());
+		// bigram 은 모두 있지만 이어지지 않는 경우는 제외
+		assertEquals(0, index.search("길동홍", 0, 10).total());
+	}
+
+	@Test
+	void pagingAndUpdates() {
+		NGramIndex index = new NGramIndex();
+		for (int i = 1; i <= 25; i++) {
+			index.put(i, "홍길" + (char) ('가' + i));
+		}
+		NGramIndex.Result first = index.search("홍길", 0, 10);
+		NGramIndex.Result last = index.search("홍길", 20, 10);
+		assertEquals(25, first.total());
+		assertEquals(10, first.ids().size());
+		assertEquals(List.of(21L, 22L, 23L, 24L, 25L), last.ids());
+
+		// 이름 변경, 탈퇴
+		index.put(1, "Alice");
+		index.remove(2);
+		assertEquals(23, index.search("홍길", 0, 0).total());
+		assertEquals(List.of(1L), index.search("lic", 0, 10).ids());
+		assertEquals(0, index.search("ㅎㄱ", 0, 10).ids().stream().filter(id -> id <= 2).count());
+	}
+
+	/**
+	 * mvn test -Pbenchmark 로 실행 (-Dbenchmark.nameRows 로 색인 크기 조정)
+	 */
+	@Tag("benchmark")
+	@Test
+	void searchLatency() {
+		int rows = Integer.getInteger("benchmark.nameRows", 1_000_000);
+		Random random = new Random(3);
+		NGramIndex index = new NGramIndex();
+		String[] names = new String[rows];
+		long started = System.nanoTime();
+		for (int i = 0; i < rows; i++) {
+			names[i] = randomName(random);
+			index.put(i + 1, names[i]);
+		}
+		long buildMillis = (System.nanoTime() - started) / 1_000_000;
+
+		// JIT 예열
+		for (int i = 0; i < 2_000; i++) {
+			index.search(names[random.nextInt(rows)].substring(0, 2), 0, 20);
+		}
+
+		int queries = 2_000;
+		long[] nanos = new long[queries];
+		long[] kindMax = new long[4];
+		for (int i = 0; i < queries; i++) {
+			String name = names[random.nextInt(rows)];
+			String query = switch (i % 4) {
+				case 0 -> name;
+				case 1 -> name.substring(1);
+				case 2 -> name.substring(0, 2);
+				default -> NGramIndex.toChoseong(name);
+			};
+			long queryStarted = System.nanoTime();
+			NGramIndex.Result result = index.search(query, 0, 20);
+			nanos[i] = System.nanoTime() - queryStarted;
+			kindMax[i % 4] = Math.max(kindMax[i % 4], nanos[i]);
+			assertTrue(result.total() > 0);
+		}
+		Arrays.sort(nanos);
+		System.out.printf("[benchmark] name index %,d names, %,d terms, built in %,d ms; "
+			+ "search p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", rows, index.termCount(), buildMillis,
+			nanos[queries / 2] / 1e6, nanos[queries * 99 / 100] / 1e6, nanos[queries - 1] / 1e6);
+		System.out.println("[benchmark] max by kind (full, suffix, prefix, choseong) ms: " + Arrays.toString(kindMax));
+	}
+
+	private static String randomName(Random random) {
+		StringBuilder name = new StringBuilder().append(SURNAMES.charAt(random.nextInt(SURNAMES.length())));
+		int length = 1 + random.nextInt(2);
+		for (int i = 0; i < length; i++) {
+			name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+		}
+		return name.toString();
+	}
+}